@@ -11,12 +11,17 @@
  *******************************************************************************/
 package org.eclipse.reddeer.codegen;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.jface.wizard.WizardDialog;
 import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.Event;
 import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swt.widgets.Widget;
 import org.eclipse.swtbot.generator.framework.GenerationSimpleRule;
 import org.eclipse.ui.internal.dialogs.WorkbenchPreferenceDialog;
 import org.hamcrest.core.IsInstanceOf;
@@ -24,10 +29,7 @@ import org.eclipse.reddeer.codegen.builder.ClassBuilder;
 import org.eclipse.reddeer.codegen.builder.MethodBuilder;
 import org.eclipse.reddeer.codegen.finder.ControlFinder;
 import org.eclipse.reddeer.codegen.rules.CodeGenRules;
-import org.eclipse.reddeer.codegen.rules.simple.ButtonCodeGenRule;
 import org.eclipse.reddeer.codegen.rules.simple.ComboCodeGenRule;
-import org.eclipse.reddeer.codegen.rules.simple.ShellCodeGenRule;
-import org.eclipse.reddeer.codegen.rules.simple.TextCodeGenRule;
 import org.eclipse.reddeer.codegen.wizards.MethodsPage;
 
 /**
@@ -101,7 +103,8 @@ public class CodeGenerator {
 
 	/**
 	 * Generates code (methods, imports, etc.) for all supported widgets at found
-	 * Control.
+	 * Control. Controls are collected in one pass of the widget tree and only
+	 * rules registered for class of a control are tried for it.
 	 * 
 	 * @return ClassBuilder instance
 	 */
@@ -110,55 +113,55 @@ public class CodeGenerator {
 		classBuilder.clearImports();
 		List<Control> controls = controlFinder.find(getControl(), new IsInstanceOf(Control.class));
 		controls.add(lastActiveShell);
-		List<GenerationSimpleRule> simples = new CodeGenRules().createSimpleRules();
+		Map<Class<? extends Widget>, List<GenerationSimpleRule>> rules = new CodeGenRules()
+				.createSimpleRulesByWidgetClass();
+		Map<Class<?>, List<GenerationSimpleRule>> rulesCache = new HashMap<>();
+		List<MethodBuilder> methods = new ArrayList<>();
 		Event e = new Event();
 		for (Control control : controls) {
 			e.widget = control;
-			for (GenerationSimpleRule rule : simples) {
+			for (GenerationSimpleRule rule : getRules(control.getClass(), rules, rulesCache)) {
 				if (!rule.appliesTo(e)) {
 					continue;
 				}
 				rule.initializeForEvent(e);
-				if (rule instanceof ButtonCodeGenRule) {
-					for (MethodBuilder meth : ((ButtonCodeGenRule) rule).getActionMethods(control)) {
-						if (options.contains(meth.getMethodType())) {
-							classBuilder.addMethod(meth);
-							classBuilder.addImports(rule.getImports());
-						}
-					}
-				} else if (rule instanceof TextCodeGenRule) {
-					for (MethodBuilder meth : ((TextCodeGenRule) rule).getActionMethods(control)) {
-						if (options.contains(meth.getMethodType())) {
-							classBuilder.addMethod(meth);
-							classBuilder.addImports(rule.getImports());
-						}
-					}
-				} else if (rule instanceof ComboCodeGenRule) {
-					for (MethodBuilder meth : ((ComboCodeGenRule) rule).getActionMethods(control)) {
-						if (options.contains(MethodsPage.CONSTANTS))
-							classBuilder.addConstants(((ComboCodeGenRule) rule).getSelectionList(control));
-						if (options.contains(meth.getMethodType())) {
-							classBuilder.addMethod(meth);
-							classBuilder.addImports(rule.getImports());
-						}
-					}
-				} else if (rule instanceof ShellCodeGenRule) {
-					for (MethodBuilder meth : ((ShellCodeGenRule) rule).getActionMethods(control)) {
-						if (options.contains(meth.getMethodType())) {
-							classBuilder.addMethod(meth);
-							classBuilder.addImports(rule.getImports());
-						}
+				if (rule instanceof ComboCodeGenRule && options.contains(MethodsPage.CONSTANTS)) {
+					classBuilder.addConstants(((ComboCodeGenRule) rule).getSelectionList(control));
+				}
+				for (MethodBuilder meth : ((CodeGen) rule).getActionMethods(control)) {
+					if (options.contains(meth.getMethodType())) {
+						methods.add(meth);
+						classBuilder.addImports(rule.getImports());
 					}
 				}
 			}
-			if (classBuilder.getExtendedClass().equals(WIZARD_DIALOG) && classBuilder.isExtendible())
-				classBuilder.addImport(WIZARD_DIALOG_IMPORT);
-			else if (classBuilder.getExtendedClass().equals(PREFERENCE_DIALOG) && classBuilder.isExtendible())
-				classBuilder.addImport(PREFERENCE_DIALOG_IMPORT);
 		}
+		classBuilder.addMethods(methods);
+		if (classBuilder.getExtendedClass().equals(WIZARD_DIALOG) && classBuilder.isExtendible())
+			classBuilder.addImport(WIZARD_DIALOG_IMPORT);
+		else if (classBuilder.getExtendedClass().equals(PREFERENCE_DIALOG) && classBuilder.isExtendible())
+			classBuilder.addImport(PREFERENCE_DIALOG_IMPORT);
 		return classBuilder;
 	}
 
+	/**
+	 * Gets rules registered for a control class or for its nearest superclass.
+	 */
+	private List<GenerationSimpleRule> getRules(Class<?> controlClass,
+			Map<Class<? extends Widget>, List<GenerationSimpleRule>> rules,
+			Map<Class<?>, List<GenerationSimpleRule>> rulesCache) {
+		List<GenerationSimpleRule> controlRules = rulesCache.get(controlClass);
+		if (controlRules == null) {
+			Class<?> clazz = controlClass;
+			while (clazz != null && !rules.containsKey(clazz)) {
+				clazz = clazz.getSuperclass();
+			}
+			controlRules = clazz == null ? Collections.<GenerationSimpleRule>emptyList() : rules.get(clazz);
+			rulesCache.put(controlClass, controlRules);
+		}
+		return controlRules;
+	}
+
 	public void setLastActiveShell(Shell sh) {
 		this.lastActiveShell = sh;
 	}
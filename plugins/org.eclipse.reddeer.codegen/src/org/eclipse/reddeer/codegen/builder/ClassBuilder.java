@@ -13,8 +13,10 @@ package org.eclipse.reddeer.codegen.builder;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.TreeMap;
 
 import org.eclipse.reddeer.codegen.wizards.MethodsPage;
@@ -141,14 +143,12 @@ public class ClassBuilder {
 	 *            MethodBuilder - list of methods
 	 */
 	public void addMethods(List<MethodBuilder> meths) {
-		boolean exist;
+		Set<String> names = new HashSet<>();
+		for (MethodBuilder m : methods) {
+			names.add(m.getName());
+		}
 		for (MethodBuilder meth : meths) {
-			exist = false;
-			for (MethodBuilder m : methods) {
-				if (m.getName().equals(meth.getName()))
-					exist = true;
-			}
-			if (!exist)
+			if (names.add(meth.getName()))
 				this.methods.add(meth);
 		}
 	}
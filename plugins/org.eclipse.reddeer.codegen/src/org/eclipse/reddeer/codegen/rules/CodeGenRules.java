@@ -12,8 +12,16 @@
 package org.eclipse.reddeer.codegen.rules;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
+import org.eclipse.swt.widgets.Button;
+import org.eclipse.swt.widgets.Combo;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swt.widgets.Text;
+import org.eclipse.swt.widgets.Widget;
 import org.eclipse.swtbot.generator.framework.GenerationSimpleRule;
 import org.eclipse.reddeer.codegen.rules.simple.ButtonCodeGenRule;
 import org.eclipse.reddeer.codegen.rules.simple.ComboCodeGenRule;
@@ -54,6 +62,20 @@ public class CodeGenRules extends RedDeerSWTGeneratorRules {
 		return rules;
 	}
 
+	/**
+	 * Creates simple rules mapped by class of widgets they can be applied to.
+	 * 
+	 * @return map of widget classes to simple rules
+	 */
+	public Map<Class<? extends Widget>, List<GenerationSimpleRule>> createSimpleRulesByWidgetClass() {
+		Map<Class<? extends Widget>, List<GenerationSimpleRule>> rules = new HashMap<>();
+		rules.put(Button.class, Collections.<GenerationSimpleRule>singletonList(new ButtonCodeGenRule()));
+		rules.put(Text.class, Collections.<GenerationSimpleRule>singletonList(new TextCodeGenRule()));
+		rules.put(Combo.class, Collections.<GenerationSimpleRule>singletonList(new ComboCodeGenRule()));
+		rules.put(Shell.class, Collections.<GenerationSimpleRule>singletonList(new ShellCodeGenRule()));
+		return rules;
+	}
+
 	public String getLabel() {
 		return "RedDeer CodeGen SWT";
 	}
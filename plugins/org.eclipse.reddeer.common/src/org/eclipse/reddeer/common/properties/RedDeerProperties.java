@@ -52,7 +52,18 @@ public enum RedDeerProperties {
 
 	OPEN_ASSOCIATED_PERSPECTIVE("rd.openAssociatedPerspective", "never"),
 
-	TIME_PERIOD_FACTOR("rd.timePeriodFactor", 1.f);
+	/**
+	 * Typing mode of the keyboard, paced mode waits between each key event,
+	 * pipelined mode posts key events in batches.
+	 */
+	KEYBOARD_TYPING_MODE("rd.keyboardTypingMode", "paced", "paced", "pipelined"),
+
+	TIME_PERIOD_FACTOR("rd.timePeriodFactor", 1.f),
+
+	/**
+	 * JVM tuning profile of the test JVM applied by RedDeer launcher.
+	 */
+	JVM_PROFILE("rd.jvmProfile", "none", "none", "startup", "throughput");
 
 	private String name;
 
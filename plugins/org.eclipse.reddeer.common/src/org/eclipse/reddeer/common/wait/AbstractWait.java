@@ -34,6 +34,10 @@ public abstract class AbstractWait implements Wait {
 	// Default wait tick period in milliseconds
 	private static final long DEFAULT_TICK_PERIOD = 500;
 	
+	// Lock used to wake up waits sleeping between tests of wait conditions
+	private static final Object WAKE_UP_LOCK = new Object();
+	private static long wakeUpCount;
+	
 	private TimePeriod timeout;
 
 	private boolean throwTimeoutException = true;
@@ -152,7 +156,7 @@ public abstract class AbstractWait implements Wait {
 				return;
 			}
 
-			sleep(testPeriod);
+			sleepUntilWokenUp(testPeriod);
 		}
 
 		log.debug(this.description() + condition.description() + " finished successfully");
@@ -188,11 +192,45 @@ public abstract class AbstractWait implements Wait {
 		sleep(timePeriod.getSeconds() * 1000);
 	}
 	
-	private static void sleep(long milliseconds) {
+	/**
+	 * Wakes up all waits which are sleeping between tests of their wait
+	 * conditions, so the conditions are tested again immediately. Should be
+	 * called by observers of UI changes (e.g. when a shell is opened or
+	 * closed).
+	 */
+	public static void wakeUp() {
+		synchronized (WAKE_UP_LOCK) {
+			wakeUpCount++;
+			WAKE_UP_LOCK.notifyAll();
+		}
+	}
+	
+	private static void sleepUntilWokenUp(long milliseconds) {
+		checkNotUIThread();
+		long end = System.currentTimeMillis() + milliseconds;
+		synchronized (WAKE_UP_LOCK) {
+			long count = wakeUpCount;
+			long remaining = milliseconds;
+			while (count == wakeUpCount && remaining > 0) {
+				try {
+					WAKE_UP_LOCK.wait(remaining);
+				} catch (InterruptedException e) {
+					throw new RuntimeException("Sleep interrupted", e);
+				}
+				remaining = end - System.currentTimeMillis();
+			}
+		}
+	}
+	
+	private static void checkNotUIThread() {
 		org.eclipse.swt.widgets.Display display = Display.getDisplay();
 		if(display != null && Thread.currentThread().equals(display.getThread())) {
 			throw new RuntimeException("Tried to execute sleep in UI thread!");
 		}
+	}
+	
+	private static void sleep(long milliseconds) {
+		checkNotUIThread();
 		try {
 			Thread.sleep(milliseconds);
 		} catch (InterruptedException e) {
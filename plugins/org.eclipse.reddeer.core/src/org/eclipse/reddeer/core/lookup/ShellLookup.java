@@ -11,9 +11,6 @@
  *******************************************************************************/
 package org.eclipse.reddeer.core.lookup;
 
-import java.util.ArrayList;
-import java.util.List;
-
 import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.Shell;
 import org.hamcrest.Matcher;
@@ -86,17 +83,7 @@ public class ShellLookup {
 	 * @return active shell or null if there is no active shell
 	 */
 	public Shell getCurrentActiveShell () {
-		return Display.syncExec(new ResultRunnable<Shell>() {
-			
-			@Override
-			public Shell run() {
-				Shell s = Display.getDisplay().getActiveShell();
-				if(s!=null && s.isVisible()){
-					return s;
-				}
-				return null;
-			}
-		});
+		return ShellRegistry.getInstance().getActiveShell();
 	}
 	
 	/**
@@ -126,22 +113,7 @@ public class ShellLookup {
 	 * @return array of all visible shells
 	 */
 	public Shell[] getShells() {
-		
-		return Display.syncExec(new ResultRunnable<Shell[]>() {
-			
-			@Override
-			public Shell[] run() {
-				List<Shell> visibleShells = new ArrayList<Shell>();
-				Shell[] shells = Display.getDisplay().getShells();
-				for (Shell s : shells) {
-					if (!s.isDisposed() && s.isVisible()) {
-						visibleShells.add(s);
-					}
-				}
-				return visibleShells.toArray(new Shell[visibleShells.size()]);
-			}
-			
-		});
+		return ShellRegistry.getInstance().getShells();
 	}
 	
 	/**
@@ -195,16 +167,7 @@ public class ShellLookup {
 	}
 	
 	private Shell getLastVisibleShell() {
-		return Display.syncExec(new ResultRunnable<Shell>() {
-			@Override
-			public Shell run() {
-				Shell[] shells = Display.getDisplay().getShells();
-				for (int i = shells.length - 1; i>=0; i--){
-					if (shells[i].isVisible()) return shells[i];
-				}
-				return null;
-			}
-		});
+		return ShellRegistry.getInstance().getLastVisibleShell();
 	}
 	
 	/**
@@ -0,0 +1,192 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat, Inc - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.reddeer.core.lookup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.reddeer.common.logging.Logger;
+import org.eclipse.reddeer.common.util.Display;
+import org.eclipse.reddeer.common.util.ResultRunnable;
+import org.eclipse.reddeer.common.wait.AbstractWait;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Event;
+import org.eclipse.swt.widgets.Listener;
+import org.eclipse.swt.widgets.Shell;
+
+/**
+ * Shell registry keeps visible shells in order in which display returns them
+ * and the active shell. Registry is notified about shown, hidden, activated,
+ * deactivated and disposed shells by display filters. Shells are read from the
+ * display only when some shell has changed since the last read, otherwise they
+ * are returned without accessing the UI thread. Every change of a shell wakes
+ * up running waits (see {@link AbstractWait#wakeUp()}), so shell conditions are
+ * tested immediately.<br>
+ * <br>
+ * Registry is installed on the first access.
+ */
+public class ShellRegistry {
+
+	private static final Logger log = Logger.getLogger(ShellRegistry.class);
+
+	private static final int[] SHELL_EVENTS = { SWT.Show, SWT.Hide, SWT.Activate, SWT.Deactivate, SWT.Dispose };
+
+	private static ShellRegistry instance;
+
+	private final AtomicLong version = new AtomicLong();
+	private volatile boolean installed;
+	private volatile Snapshot snapshot;
+
+	private final Runnable changeMarker = new Runnable() {
+
+		@Override
+		public void run() {
+			markChange();
+		}
+	};
+
+	private final Listener shellListener = new Listener() {
+
+		@Override
+		public void handleEvent(Event event) {
+			if (!(event.widget instanceof Shell)) {
+				return;
+			}
+			markChange();
+			// shell is shown or hidden after the event is sent, mark the change
+			// again once the shell has its final state
+			if (!event.display.isDisposed()) {
+				event.display.asyncExec(changeMarker);
+			}
+		}
+	};
+
+	private ShellRegistry() {
+
+	}
+
+	/**
+	 * Gets instance of ShellRegistry.
+	 *
+	 * @return ShellRegistry instance
+	 */
+	public static synchronized ShellRegistry getInstance() {
+		if (instance == null) {
+			instance = new ShellRegistry();
+		}
+		return instance;
+	}
+
+	/**
+	 * Gets all visible shells.
+	 *
+	 * @return array of visible shells
+	 */
+	public Shell[] getShells() {
+		List<Shell> shells = getSnapshot().shells;
+		return shells.toArray(new Shell[shells.size()]);
+	}
+
+	/**
+	 * Gets visible active shell.
+	 *
+	 * @return active shell or null if there is no visible active shell
+	 */
+	public Shell getActiveShell() {
+		return getSnapshot().activeShell;
+	}
+
+	/**
+	 * Gets the last visible shell.
+	 *
+	 * @return last visible shell or null if there is no visible shell
+	 */
+	public Shell getLastVisibleShell() {
+		List<Shell> shells = getSnapshot().shells;
+		return shells.isEmpty() ? null : shells.get(shells.size() - 1);
+	}
+
+	/**
+	 * Gets number of observed shell changes.
+	 *
+	 * @return number of shell changes
+	 */
+	public long getVersion() {
+		return version.get();
+	}
+
+	private void markChange() {
+		version.incrementAndGet();
+		AbstractWait.wakeUp();
+	}
+
+	private Snapshot getSnapshot() {
+		if (!installed) {
+			install();
+		}
+		Snapshot currentSnapshot = snapshot;
+		if (currentSnapshot != null && currentSnapshot.version == version.get()) {
+			return currentSnapshot;
+		}
+		currentSnapshot = Display.syncExec(new ResultRunnable<Snapshot>() {
+
+			@Override
+			public Snapshot run() {
+				// shell events are processed in the UI thread, thus version
+				// cannot change while shells are being read
+				return new Snapshot(version.get(), Display.getDisplay());
+			}
+		});
+		snapshot = currentSnapshot;
+		return currentSnapshot;
+	}
+
+	private void install() {
+		Display.syncExec(new Runnable() {
+
+			@Override
+			public void run() {
+				if (installed) {
+					return;
+				}
+				org.eclipse.swt.widgets.Display display = Display.getDisplay();
+				for (int eventType : SHELL_EVENTS) {
+					display.addFilter(eventType, shellListener);
+				}
+				installed = true;
+				log.debug("Shell registry installed");
+			}
+		});
+	}
+
+	/**
+	 * Visible shells and active shell read at one moment.
+	 */
+	private static class Snapshot {
+
+		private final long version;
+		private final List<Shell> shells = new ArrayList<Shell>();
+		private final Shell activeShell;
+
+		private Snapshot(long version, org.eclipse.swt.widgets.Display display) {
+			this.version = version;
+			for (Shell shell : display.getShells()) {
+				if (!shell.isDisposed() && shell.isVisible()) {
+					shells.add(shell);
+				}
+			}
+			Shell shell = display.getActiveShell();
+			this.activeShell = shell != null && shell.isVisible() ? shell : null;
+		}
+	}
+}
@@ -68,6 +68,10 @@ public class Preferences {
 	 */
 	public static void set(String plugin, String key, String value) {
 		IEclipsePreferences prefs = InstanceScope.INSTANCE.getNode(plugin);
+		if (value != null && value.equals(prefs.get(key, null))) {
+			// nothing to store
+			return;
+		}
 		prefs.put(key, value);
 		try {
 			prefs.flush();
@@ -95,10 +99,30 @@ public class Preferences {
 	 *            plugin name
 	 */
 	public static void setDefault(String plugin) {
-		String[] key = getKeys(plugin);
-		for (int i = 0; i < key.length; i++) {
-			setDefault(plugin, key[i]);
-		}
+		transaction().setDefault(plugin).commit();
+	}
+
+	/**
+	 * Starts a new preferences transaction. Changes staged in the transaction
+	 * are stored with a single flush per plugin when the transaction is
+	 * committed.
+	 * 
+	 * @return new preferences transaction
+	 */
+	public static PreferencesTransaction transaction() {
+		return new PreferencesTransaction();
+	}
+
+	/**
+	 * Takes a snapshot of the instance scope of given plugins. The snapshot
+	 * can be later restored by {@link PreferencesSnapshot#restore()}.
+	 * 
+	 * @param plugins
+	 *            plugin names
+	 * @return preferences snapshot
+	 */
+	public static PreferencesSnapshot snapshot(String... plugins) {
+		return new PreferencesSnapshot(plugins);
 	}
 
 	/**
@@ -0,0 +1,96 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat, Inc - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.reddeer.direct.preferences;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.runtime.preferences.IEclipsePreferences;
+import org.eclipse.core.runtime.preferences.InstanceScope;
+import org.osgi.service.prefs.BackingStoreException;
+
+/**
+ * Preferences snapshot holds values of the instance scope of given plugins at
+ * the moment the snapshot was taken. Restoring the snapshot sets all captured
+ * values back and removes keys which were added later, all in one
+ * {@link PreferencesTransaction}.
+ */
+public class PreferencesSnapshot {
+
+	private final Map<String, Map<String, String>> values = new LinkedHashMap<String, Map<String, String>>();
+
+	PreferencesSnapshot(String... plugins) {
+		for (String plugin : plugins) {
+			values.put(plugin, getValues(plugin));
+		}
+	}
+
+	/**
+	 * Returns plugins captured in this snapshot.
+	 *
+	 * @return plugin names
+	 */
+	public Set<String> getPlugins() {
+		return Collections.unmodifiableSet(values.keySet());
+	}
+
+	/**
+	 * Returns a captured value of plugin/key in the instance scope.
+	 *
+	 * @param plugin
+	 *            plugin name
+	 * @param key
+	 *            key
+	 * @return captured value or null if the key was not set
+	 */
+	public String get(String plugin, String key) {
+		Map<String, String> pluginValues = values.get(plugin);
+		return pluginValues == null ? null : pluginValues.get(key);
+	}
+
+	/**
+	 * Restores all captured plugins to the state of this snapshot. Each plugin
+	 * node is flushed at most once.
+	 */
+	public void restore() {
+		PreferencesTransaction transaction = Preferences.transaction();
+		for (Map.Entry<String, Map<String, String>> pluginValues : values.entrySet()) {
+			String plugin = pluginValues.getKey();
+			for (String key : getValues(plugin).keySet()) {
+				if (!pluginValues.getValue().containsKey(key)) {
+					transaction.set(plugin, key, null);
+				}
+			}
+			for (Map.Entry<String, String> value : pluginValues.getValue().entrySet()) {
+				transaction.set(plugin, value.getKey(), value.getValue());
+			}
+		}
+		transaction.commit();
+	}
+
+	private static Map<String, String> getValues(String plugin) {
+		IEclipsePreferences prefs = InstanceScope.INSTANCE.getNode(plugin);
+		Map<String, String> result = new HashMap<String, String>();
+		try {
+			for (String key : prefs.keys()) {
+				result.put(key, prefs.get(key, null));
+			}
+		} catch (BackingStoreException e) {
+			throw new RuntimeException("Cannot get keys for plugin '" + plugin + "'", e);
+		}
+		return result;
+	}
+
+}
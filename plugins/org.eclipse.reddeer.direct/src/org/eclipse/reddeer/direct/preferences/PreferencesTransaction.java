@@ -0,0 +1,139 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat, Inc - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.reddeer.direct.preferences;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.eclipse.core.runtime.preferences.IEclipsePreferences;
+import org.eclipse.core.runtime.preferences.InstanceScope;
+import org.osgi.service.prefs.BackingStoreException;
+
+/**
+ * Preferences transaction stages changes of several plugin/key preferences and
+ * applies them at once. Each affected plugin node is flushed only once and only
+ * if some of its values really changed.
+ *
+ * <pre>
+ * Preferences.transaction()
+ * 	.set("org.eclipse.debug.ui", "Console.limitConsoleOutput", "true")
+ * 	.set("org.eclipse.debug.ui", "Console.lowWaterMark", "80000")
+ * 	.setDefault("org.eclipse.ui.ide", "SWITCH_PERSPECTIVE_ON_PROJECT_CREATION")
+ * 	.commit();
+ * </pre>
+ */
+public class PreferencesTransaction {
+
+	private final Map<String, Map<String, String>> changes = new LinkedHashMap<String, Map<String, String>>();
+
+	PreferencesTransaction() {
+	}
+
+	/**
+	 * Stages a given value for plugin/key preferences. Null value removes the
+	 * key from the instance scope, i.e. the default value will be used.
+	 *
+	 * @param plugin
+	 *            plugin name
+	 * @param key
+	 *            key
+	 * @param value
+	 *            value or null
+	 * @return this transaction
+	 */
+	public PreferencesTransaction set(String plugin, String key, String value) {
+		Map<String, String> nodeChanges = changes.get(plugin);
+		if (nodeChanges == null) {
+			nodeChanges = new LinkedHashMap<String, String>();
+			changes.put(plugin, nodeChanges);
+		}
+		nodeChanges.put(key, value);
+		return this;
+	}
+
+	/**
+	 * Stages the default value for a given plugin/key.
+	 *
+	 * @param plugin
+	 *            plugin name
+	 * @param key
+	 *            key
+	 * @return this transaction
+	 */
+	public PreferencesTransaction setDefault(String plugin, String key) {
+		return set(plugin, key, Preferences.getDefault(plugin, key));
+	}
+
+	/**
+	 * Stages the default value for all keys in a given plugin.
+	 *
+	 * @param plugin
+	 *            plugin name
+	 * @return this transaction
+	 */
+	public PreferencesTransaction setDefault(String plugin) {
+		for (String key : Preferences.getKeys(plugin)) {
+			setDefault(plugin, key);
+		}
+		return this;
+	}
+
+	/**
+	 * Decides whether there are no staged changes.
+	 *
+	 * @return true if nothing is staged, false otherwise
+	 */
+	public boolean isEmpty() {
+		return changes.isEmpty();
+	}
+
+	/**
+	 * Applies all staged changes. Every plugin node with a changed value is
+	 * flushed exactly once. The transaction is empty afterwards and can be
+	 * reused.
+	 */
+	public void commit() {
+		try {
+			for (Map.Entry<String, Map<String, String>> nodeChanges : changes.entrySet()) {
+				apply(nodeChanges.getKey(), nodeChanges.getValue());
+			}
+		} finally {
+			changes.clear();
+		}
+	}
+
+	private static void apply(String plugin, Map<String, String> values) {
+		IEclipsePreferences prefs = InstanceScope.INSTANCE.getNode(plugin);
+		boolean changed = false;
+		for (Map.Entry<String, String> value : values.entrySet()) {
+			if (Objects.equals(prefs.get(value.getKey(), null), value.getValue())) {
+				continue;
+			}
+			if (value.getValue() == null) {
+				prefs.remove(value.getKey());
+			} else {
+				prefs.put(value.getKey(), value.getValue());
+			}
+			changed = true;
+		}
+		if (!changed) {
+			return;
+		}
+		try {
+			prefs.flush();
+		} catch (BackingStoreException e) {
+			throw new RuntimeException("Cannot store preferences for " + plugin + " " + values.keySet(), e);
+		}
+	}
+
+}
@@ -33,6 +33,8 @@ public class PreferencesUtil {
 	public static final String CONSOLE_LIMIT_OUTPUT_HIGH_KEY = "Console.highWaterMark";
 	public static final String CONSOLE_OPEN_ON_ERR_KEY = "DEBUG.consoleOpenOnErr";
 	public static final String CONSOLE_OPEN_ON_OUT_KEY = "DEBUG.consoleOpenOnOut";
+	public static final String MAVEN_PLUGIN = "org.eclipse.m2e.core";
+	public static final String MAVEN_UPDATE_INDEXES_KEY = "eclipse.m2.updateIndexes";
 
 	private static final Logger log = Logger.getLogger(PreferencesUtil.class);
 
@@ -114,10 +116,12 @@ public class PreferencesUtil {
 	 * @param size
 	 */
 	public static void setConsoleOutputSize(int size) {
-		setConsoleOutputLimited(true);
-		Preferences.set(CONSOLE_PLUGIN, CONSOLE_LIMIT_OUTPUT_LOW_KEY, String.valueOf(size));
-		// This is how eclipse does it
-		Preferences.set(CONSOLE_PLUGIN, CONSOLE_LIMIT_OUTPUT_HIGH_KEY, String.valueOf(size + 8000));
+		Preferences.transaction()
+			.set(CONSOLE_PLUGIN, CONSOLE_LIMIT_OUTPUT_KEY, String.valueOf(true))
+			.set(CONSOLE_PLUGIN, CONSOLE_LIMIT_OUTPUT_LOW_KEY, String.valueOf(size))
+			// This is how eclipse does it
+			.set(CONSOLE_PLUGIN, CONSOLE_LIMIT_OUTPUT_HIGH_KEY, String.valueOf(size + 8000))
+			.commit();
 	}
 
 	/**
@@ -154,6 +158,26 @@ public class PreferencesUtil {
 		Preferences.set(CONSOLE_PLUGIN, CONSOLE_OPEN_ON_OUT_KEY, String.valueOf(openOnOutput));
 	}
 
+	/**
+	 * Decides whether Maven repository indexes are downloaded on startup.
+	 * 
+	 * @return true if the indexes are downloaded on startup; false otherwise
+	 */
+	public static boolean isMavenDownloadRepoIndexOnStartup() {
+		return !"false".equalsIgnoreCase(Preferences.get(MAVEN_PLUGIN, MAVEN_UPDATE_INDEXES_KEY));
+	}
+
+	/**
+	 * Sets whether Maven repository indexes are downloaded on startup.
+	 * 
+	 * @param download
+	 *            true to download the indexes on startup; false otherwise
+	 */
+	public static void setMavenDownloadRepoIndexOnStartup(boolean download) {
+		log.info("Sets the maven download repo index on startup to '" + download + "'");
+		Preferences.set(MAVEN_PLUGIN, MAVEN_UPDATE_INDEXES_KEY, String.valueOf(download));
+	}
+
 	/**
 	 * Validates a given text whether it is one of specified strings.
 	 * 
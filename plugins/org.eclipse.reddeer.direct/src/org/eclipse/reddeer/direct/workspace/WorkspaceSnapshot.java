@@ -0,0 +1,285 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat, Inc - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.reddeer.direct.workspace;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IProjectDescription;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IWorkspace;
+import org.eclipse.core.resources.IWorkspaceRunnable;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.reddeer.common.exception.RedDeerException;
+import org.eclipse.reddeer.common.logging.Logger;
+
+/**
+ * Captures a set of prepared workspace projects into a compressed template and
+ * restores them later without replaying import wizards.<br>
+ * <br>
+ * A template is a zip file which contains the project files (including
+ * <i>.project</i> and <i>.settings</i>) under <i>projects/&lt;name&gt;</i> and
+ * the project metadata area kept by org.eclipse.core.resources (e.g. persistent
+ * properties) under <i>metadata/&lt;name&gt;</i>. Restoring a template extracts
+ * the files into the workspace location and creates all projects, extracts
+ * their metadata and opens them in one batched {@link IWorkspace#run(IWorkspaceRunnable, org.eclipse.core.runtime.jobs.ISchedulingRule, int, org.eclipse.core.runtime.IProgressMonitor)}
+ * operation, so only one resource change event is fired.
+ */
+public class WorkspaceSnapshot {
+
+	private static final Logger log = Logger.getLogger(WorkspaceSnapshot.class);
+
+	private static final String PROJECTS_ENTRY = "projects/";
+	private static final String METADATA_ENTRY = "metadata/";
+	private static final String PROJECT_METADATA_LOCATION = ".metadata/.plugins/org.eclipse.core.resources/.projects";
+	private static final String LOCATION_FILE = ".location";
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	private WorkspaceSnapshot() {
+	}
+
+	/**
+	 * Captures the given projects into a template file. If no project name is
+	 * specified then all projects in the workspace are captured. The workspace is
+	 * saved before capturing so that the metadata area is up to date.
+	 *
+	 * @param template
+	 *            template file to create (existing file is overwritten)
+	 * @param projectNames
+	 *            names of projects to capture
+	 */
+	public static void capture(File template, String... projectNames) {
+		IWorkspace workspace = ResourcesPlugin.getWorkspace();
+		List<IProject> projects = new ArrayList<IProject>();
+		if (projectNames.length == 0) {
+			for (IProject project : workspace.getRoot().getProjects()) {
+				projects.add(project);
+			}
+		} else {
+			for (String projectName : projectNames) {
+				projects.add(workspace.getRoot().getProject(projectName));
+			}
+		}
+		for (IProject project : projects) {
+			if (!project.isAccessible()) {
+				throw new RedDeerException("Cannot capture project '" + project.getName()
+						+ "', it does not exist or is closed");
+			}
+		}
+		try {
+			workspace.save(false, new NullProgressMonitor());
+		} catch (CoreException e) {
+			log.warn("Cannot save workspace before capturing a snapshot: " + e.getMessage());
+		}
+
+		long start = System.currentTimeMillis();
+		File parent = template.getAbsoluteFile().getParentFile();
+		if (parent != null) {
+			parent.mkdirs();
+		}
+		try (ZipOutputStream zip = new ZipOutputStream(
+				new BufferedOutputStream(Files.newOutputStream(template.toPath()), BUFFER_SIZE))) {
+			for (IProject project : projects) {
+				Path projectLocation = project.getLocation().toFile().toPath();
+				zipDirectory(zip, projectLocation, PROJECTS_ENTRY + project.getName() + "/");
+				Path metadataLocation = getProjectMetadataLocation(project.getName());
+				if (Files.isDirectory(metadataLocation)) {
+					zipDirectory(zip, metadataLocation, METADATA_ENTRY + project.getName() + "/");
+				}
+			}
+		} catch (IOException e) {
+			throw new RedDeerException("Cannot capture workspace snapshot into '" + template + "'", e);
+		}
+		log.info("Captured " + projects.size() + " project(s) into '" + template + "' in "
+				+ (System.currentTimeMillis() - start) + " ms");
+	}
+
+	/**
+	 * Restores all projects from the given template into the current workspace.
+	 * Projects are extracted into the workspace location and then created and
+	 * opened in a single workspace operation.
+	 *
+	 * @param template
+	 *            template file created by {@link #capture(File, String...)}
+	 * @return names of restored projects
+	 */
+	public static List<String> restore(File template) {
+		if (!template.isFile()) {
+			throw new RedDeerException("Workspace snapshot '" + template + "' does not exist");
+		}
+		final IWorkspace workspace = ResourcesPlugin.getWorkspace();
+		final Path workspaceLocation = workspace.getRoot().getLocation().toFile().toPath();
+		final Set<String> projectNames = getProjectNames(template);
+		for (String projectName : projectNames) {
+			if (workspace.getRoot().getProject(projectName).exists()) {
+				throw new RedDeerException("Cannot restore project '" + projectName
+						+ "', a project with the same name already exists in the workspace");
+			}
+		}
+
+		long start = System.currentTimeMillis();
+		try {
+			unzip(template, PROJECTS_ENTRY, workspaceLocation);
+		} catch (IOException e) {
+			throw new RedDeerException("Cannot extract workspace snapshot '" + template + "'", e);
+		}
+
+		IWorkspaceRunnable importProjects = monitor -> {
+			List<IProject> projects = new ArrayList<IProject>();
+			for (String projectName : projectNames) {
+				IProject project = workspace.getRoot().getProject(projectName);
+				IProjectDescription description = workspace.loadProjectDescription(
+						org.eclipse.core.runtime.Path.fromOSString(workspaceLocation.resolve(projectName)
+								.resolve(IProjectDescription.DESCRIPTION_FILE_NAME).toString()));
+				// projects are restored into the default location
+				description.setLocation(null);
+				project.create(description, monitor);
+				projects.add(project);
+			}
+			// creating a project clears its metadata area, thus metadata are
+			// extracted after the projects are created and before they are
+			// opened and their metadata are read
+			try {
+				unzip(template, METADATA_ENTRY, workspaceLocation.resolve(PROJECT_METADATA_LOCATION));
+			} catch (IOException e) {
+				throw new CoreException(new Status(IStatus.ERROR, ResourcesPlugin.PI_RESOURCES,
+						"Cannot extract project metadata from workspace snapshot '" + template + "'", e));
+			}
+			for (IProject project : projects) {
+				project.open(IResource.NONE, monitor);
+				// restored metadata can contain a resource tree older than the files
+				project.refreshLocal(IResource.DEPTH_INFINITE, monitor);
+			}
+		};
+		try {
+			workspace.run(importProjects, workspace.getRoot(), IWorkspace.AVOID_UPDATE, new NullProgressMonitor());
+		} catch (CoreException e) {
+			throw new RedDeerException("Cannot import projects from workspace snapshot '" + template + "'", e);
+		}
+		log.info("Restored " + projectNames.size() + " project(s) from '" + template + "' in "
+				+ (System.currentTimeMillis() - start) + " ms");
+		return new ArrayList<String>(projectNames);
+	}
+
+	/**
+	 * Returns names of projects stored in the given template.
+	 *
+	 * @param template
+	 *            template file created by {@link #capture(File, String...)}
+	 * @return names of projects in the template
+	 */
+	public static Set<String> getProjectNames(File template) {
+		Set<String> projectNames = new LinkedHashSet<String>();
+		try (ZipInputStream zip = new ZipInputStream(
+				new BufferedInputStream(Files.newInputStream(template.toPath()), BUFFER_SIZE))) {
+			ZipEntry entry;
+			while ((entry = zip.getNextEntry()) != null) {
+				String name = entry.getName();
+				if (name.startsWith(PROJECTS_ENTRY)) {
+					int end = name.indexOf('/', PROJECTS_ENTRY.length());
+					if (end > PROJECTS_ENTRY.length()) {
+						projectNames.add(name.substring(PROJECTS_ENTRY.length(), end));
+					}
+				}
+			}
+		} catch (IOException e) {
+			throw new RedDeerException("Cannot read workspace snapshot '" + template + "'", e);
+		}
+		return projectNames;
+	}
+
+	private static Path getProjectMetadataLocation(String projectName) {
+		return ResourcesPlugin.getWorkspace().getRoot().getLocation().toFile().toPath()
+				.resolve(PROJECT_METADATA_LOCATION).resolve(projectName);
+	}
+
+	private static void zipDirectory(final ZipOutputStream zip, final Path root, final String prefix)
+			throws IOException {
+		Files.walkFileTree(root, new SimpleFileVisitor<Path>() {
+
+			@Override
+			public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+				String relative = root.relativize(dir).toString().replace(File.separatorChar, '/');
+				zip.putNextEntry(new ZipEntry(relative.isEmpty() ? prefix : prefix + relative + "/"));
+				zip.closeEntry();
+				return FileVisitResult.CONTINUE;
+			}
+
+			@Override
+			public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+				if (file.getFileName().toString().equals(LOCATION_FILE)
+						&& prefix.startsWith(METADATA_ENTRY) && file.getParent().equals(root)) {
+					// project location is bound to the original workspace
+					return FileVisitResult.CONTINUE;
+				}
+				String relative = root.relativize(file).toString().replace(File.separatorChar, '/');
+				ZipEntry entry = new ZipEntry(prefix + relative);
+				entry.setTime(attrs.lastModifiedTime().toMillis());
+				zip.putNextEntry(entry);
+				Files.copy(file, zip);
+				zip.closeEntry();
+				return FileVisitResult.CONTINUE;
+			}
+		});
+	}
+
+	private static void unzip(File template, String prefix, Path root) throws IOException {
+		try (ZipInputStream zip = new ZipInputStream(
+				new BufferedInputStream(Files.newInputStream(template.toPath()), BUFFER_SIZE))) {
+			ZipEntry entry;
+			while ((entry = zip.getNextEntry()) != null) {
+				String name = entry.getName();
+				if (!name.startsWith(prefix)) {
+					continue;
+				}
+				Path target = resolveEntry(root, name.substring(prefix.length()));
+				if (entry.isDirectory()) {
+					Files.createDirectories(target);
+				} else {
+					Files.createDirectories(target.getParent());
+					Files.copy(zip, target, StandardCopyOption.REPLACE_EXISTING);
+					if (entry.getTime() != -1) {
+						target.toFile().setLastModified(entry.getTime());
+					}
+				}
+			}
+		}
+	}
+
+	private static Path resolveEntry(Path root, String entryName) throws IOException {
+		Path target = root.resolve(entryName).normalize();
+		if (!target.startsWith(root)) {
+			throw new IOException("Invalid entry '" + entryName + "' in workspace snapshot");
+		}
+		return target;
+	}
+}
@@ -0,0 +1,101 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat, Inc - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.reddeer.workbench.core.condition;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.reddeer.common.condition.AbstractWaitCondition;
+import org.eclipse.reddeer.workbench.core.lookup.JobTracker;
+
+/**
+ * Condition is met when there is a running job belonging to any of specified
+ * job families. It can be used as a barrier waiting for specific jobs only, for
+ * example:
+ *
+ * <pre>
+ * new WaitWhile(new JobFamilyIsRunning(ResourcesPlugin.FAMILY_AUTO_BUILD));
+ * </pre>
+ *
+ * Sleeping jobs are skipped. Running jobs are taken from {@link JobTracker}, so
+ * a wait using this condition is woken up as soon as a job finishes.
+ */
+public class JobFamilyIsRunning extends AbstractWaitCondition {
+
+	private final Object[] families;
+	private List<Job> currentJobs;
+
+	/**
+	 * Constructs JobFamilyIsRunning wait condition. Condition is met when job of
+	 * any of specified families is running.
+	 *
+	 * @param families job families
+	 */
+	public JobFamilyIsRunning(Object... families) {
+		if (families == null || families.length == 0) {
+			throw new IllegalArgumentException("At least one job family has to be specified");
+		}
+		this.families = families;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.eclipse.reddeer.common.condition.WaitCondition#test()
+	 */
+	@Override
+	public boolean test() {
+		currentJobs = getFamilyJobs();
+		return !currentJobs.isEmpty();
+	}
+
+	private List<Job> getFamilyJobs() {
+		List<Job> familyJobs = new ArrayList<Job>();
+		for (Job job : JobTracker.getInstance().getRunningJobs()) {
+			for (Object family : families) {
+				if (job.belongsTo(family)) {
+					familyJobs.add(job);
+					break;
+				}
+			}
+		}
+		return familyJobs;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.eclipse.reddeer.common.condition.AbstractWaitCondition#description()
+	 */
+	@Override
+	public String description() {
+		return "at least one job of families " + Arrays.toString(families) + " is running";
+	}
+
+	/* (non-Javadoc)
+	 * @see org.eclipse.reddeer.common.condition.AbstractWaitCondition#errorMessageWhile()
+	 */
+	@Override
+	public String errorMessageWhile() {
+		StringBuilder msg = new StringBuilder("The following jobs are still running:\n");
+		for (Job job : currentJobs == null ? getFamilyJobs() : currentJobs) {
+			msg.append("\t").append(job.getName()).append("\n");
+		}
+		return msg.toString();
+	}
+
+	/* (non-Javadoc)
+	 * @see org.eclipse.reddeer.common.condition.AbstractWaitCondition#errorMessageUntil()
+	 */
+	@Override
+	public String errorMessageUntil() {
+		return "No job of families " + Arrays.toString(families) + " is running";
+	}
+}
@@ -11,15 +11,23 @@
  *******************************************************************************/
 package org.eclipse.reddeer.workbench.core.condition;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
 import org.eclipse.core.runtime.jobs.Job;
 import org.hamcrest.CoreMatchers;
 import org.hamcrest.Matcher;
 import org.eclipse.reddeer.common.condition.AbstractWaitCondition;
 import org.eclipse.reddeer.common.logging.Logger;
+import org.eclipse.reddeer.workbench.core.lookup.JobTracker;
 
 /**
  * Condition is met when there is/are running non-system job(s).
- * List of jobs can be filtered using matchers.
+ * List of jobs can be filtered using matchers. Running jobs are taken from
+ * {@link JobTracker}, so a wait using this condition is woken up as soon as
+ * a job finishes, and every job is matched only once.
  * 
  * @author Lucia Jelinkova
  */
@@ -27,10 +35,11 @@ import org.eclipse.reddeer.common.logging.Logger;
 public class JobIsRunning extends AbstractWaitCondition {
 	private static final Logger log = Logger.getLogger(JobIsRunning.class);
 
-	private Matcher[] consideredJobs;
-	private Matcher[] excludeJobs;
+	private Matcher<?> consideredMatcher;
+	private Matcher<?> excludeMatcher;
 	private boolean skipSystemJobs;
-	private Job[] currentJobs;
+	private List<Job> currentJobs;
+	private final Map<Job, MatchResult> matchResults = new WeakHashMap<Job, MatchResult>();
 
 	/**
 	 * Constructs JobIsRunning wait condition. Condition is met when job is running.
@@ -113,46 +122,61 @@ public class JobIsRunning extends AbstractWaitCondition {
 	 * will be excluded.
 	 * @param skipSystemJobs If true then all system jobs are skipped.
 	 */
+	@SuppressWarnings("unchecked")
 	public JobIsRunning(Matcher[] consideredJobs, Matcher[] excludeJobs, boolean skipSystemJobs) {
-		this.consideredJobs = consideredJobs;
-		this.excludeJobs = excludeJobs;
+		this.consideredMatcher = consideredJobs == null ? null : CoreMatchers.anyOf(consideredJobs);
+		this.excludeMatcher = excludeJobs == null ? null : CoreMatchers.anyOf(excludeJobs);
 		this.skipSystemJobs = skipSystemJobs;
 	}
 
 	/* (non-Javadoc)
 	 * @see org.eclipse.reddeer.common.condition.WaitCondition#test()
 	 */
-	@SuppressWarnings("unchecked")
 	@Override
 	public boolean test() {
-		currentJobs = Job.getJobManager().find(null);
-		for (Job job: currentJobs) {
-			if (excludeJobs != null && CoreMatchers.anyOf(excludeJobs).matches(job.getName())) {
-				log.debug("  job '%s' specified by excludeJobs matchers, skipped", job.getName());
-				continue;
-			}
-
-			if (consideredJobs != null && !CoreMatchers.anyOf(consideredJobs).matches(job.getName())) {
-				log.debug("  job '%s' is not listed in considered jobs, ignore it", job.getName());
-				continue;
-			}
+		currentJobs = getRelevantJobs();
+		if (currentJobs.isEmpty()) {
+			return false;
+		}
+		/* there's no reason why this one should be ignored, lets wait... */
+		log.debug("  job '%s' has no excuses, wait for it", currentJobs.get(0).getName());
+		return true;
+	}
 
-			if (skipSystemJobs && job.isSystem()) { 
-				log.debug("  job '%s' is a system job, skipped", job.getName());
-				continue;
+	/**
+	 * Gets running jobs which are not filtered out. Jobs are matched only
+	 * once, unless their names change.
+	 */
+	private List<Job> getRelevantJobs() {
+		List<Job> relevantJobs = new ArrayList<Job>();
+		for (Job job : JobTracker.getInstance().getRunningJobs()) {
+			String name = job.getName();
+			MatchResult result = matchResults.get(job);
+			if (result == null || !result.name.equals(name)) {
+				result = new MatchResult(name, isRelevant(job, name));
+				matchResults.put(job, result);
 			}
-			
-			if (job.getState() == Job.SLEEPING) {
-				log.debug("  job '%s' is not running, skipped", job.getName());
-				continue;
+			if (result.relevant) {
+				relevantJobs.add(job);
 			}
-
-			/* there's no reason why this one should be ignored, lets wait... */
-			log.debug("  job '%s' has no excuses, wait for it", job.getName());
-			return true;
 		}
+		return relevantJobs;
+	}
 
-		return false;
+	private boolean isRelevant(Job job, String name) {
+		if (excludeMatcher != null && excludeMatcher.matches(name)) {
+			log.debug("  job '%s' specified by excludeJobs matchers, skipped", name);
+			return false;
+		}
+		if (consideredMatcher != null && !consideredMatcher.matches(name)) {
+			log.debug("  job '%s' is not listed in considered jobs, ignore it", name);
+			return false;
+		}
+		if (skipSystemJobs && job.isSystem()) {
+			log.debug("  job '%s' is a system job, skipped", name);
+			return false;
+		}
+		return true;
 	}
 
 	/* (non-Javadoc)
@@ -184,20 +208,26 @@ public class JobIsRunning extends AbstractWaitCondition {
 	 * 
 	 * @param messageStart start of the error message with job list
 	 */
-	@SuppressWarnings("unchecked")
 	private String createErrorMesssageWithJobsList(String messageStart){
 		StringBuilder msg = new StringBuilder(messageStart);
-		for (Job job: currentJobs) {
-			if (excludeJobs != null && CoreMatchers.anyOf(excludeJobs).matches(job.getName()))
-				continue;
-			if (consideredJobs != null && !CoreMatchers.anyOf(consideredJobs).matches(job.getName()))
-				continue;
-			if (skipSystemJobs && job.isSystem()) 
-				continue;
-			if (job.getState() == Job.SLEEPING)
-				continue;
+		List<Job> jobs = currentJobs == null ? getRelevantJobs() : currentJobs;
+		for (Job job: jobs) {
 			msg.append("\t").append(job.getName()).append("\n");
 		}
 		return msg.toString();
 	}
+
+	/**
+	 * Result of matching a job with a given name.
+	 */
+	private static class MatchResult {
+
+		private final String name;
+		private final boolean relevant;
+
+		private MatchResult(String name, boolean relevant) {
+			this.name = name;
+			this.relevant = relevant;
+		}
+	}
 }
@@ -0,0 +1,103 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat, Inc - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.reddeer.workbench.core.lookup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.core.runtime.jobs.IJobChangeEvent;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.core.runtime.jobs.JobChangeAdapter;
+import org.eclipse.reddeer.common.logging.Logger;
+import org.eclipse.reddeer.common.wait.AbstractWait;
+
+/**
+ * Job tracker keeps scheduled jobs which have not finished yet. It is
+ * registered as a job change listener of the job manager, so the jobs are
+ * known without searching the job manager. Every time a job is scheduled,
+ * finished, put to sleep or woken up, running waits are woken up (see
+ * {@link AbstractWait#wakeUp()}), so job conditions are tested immediately.<br>
+ * <br>
+ * Tracker is installed on the first access.
+ */
+public class JobTracker {
+
+	private static final Logger log = Logger.getLogger(JobTracker.class);
+
+	private static JobTracker instance;
+
+	private final Set<Job> jobs = ConcurrentHashMap.newKeySet();
+
+	private JobTracker() {
+		Job.getJobManager().addJobChangeListener(new JobChangeAdapter() {
+
+			@Override
+			public void scheduled(IJobChangeEvent event) {
+				jobs.add(event.getJob());
+				AbstractWait.wakeUp();
+			}
+
+			@Override
+			public void done(IJobChangeEvent event) {
+				jobs.remove(event.getJob());
+				AbstractWait.wakeUp();
+			}
+
+			@Override
+			public void sleeping(IJobChangeEvent event) {
+				AbstractWait.wakeUp();
+			}
+
+			@Override
+			public void awake(IJobChangeEvent event) {
+				AbstractWait.wakeUp();
+			}
+		});
+		// jobs scheduled before the listener was added
+		for (Job job : Job.getJobManager().find(null)) {
+			jobs.add(job);
+		}
+		log.debug("Job tracker installed");
+	}
+
+	/**
+	 * Gets instance of JobTracker.
+	 *
+	 * @return JobTracker instance
+	 */
+	public static synchronized JobTracker getInstance() {
+		if (instance == null) {
+			instance = new JobTracker();
+		}
+		return instance;
+	}
+
+	/**
+	 * Gets jobs which are waiting to be run or running. Sleeping jobs are
+	 * skipped.
+	 *
+	 * @return list of running jobs
+	 */
+	public List<Job> getRunningJobs() {
+		List<Job> runningJobs = new ArrayList<Job>();
+		for (Job job : jobs) {
+			// a job scheduled or finished in the meantime can be in state none
+			int state = job.getState();
+			if (state == Job.WAITING || state == Job.RUNNING) {
+				runningJobs.add(job);
+			}
+		}
+		return runningJobs;
+	}
+}
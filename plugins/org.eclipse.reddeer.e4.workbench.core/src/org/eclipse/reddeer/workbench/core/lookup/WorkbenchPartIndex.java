@@ -0,0 +1,184 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat, Inc - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.reddeer.workbench.core.lookup;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.e4.core.contexts.IEclipseContext;
+import org.eclipse.e4.core.services.events.IEventBroker;
+import org.eclipse.e4.ui.model.application.MApplication;
+import org.eclipse.e4.ui.model.application.ui.MElementContainer;
+import org.eclipse.e4.ui.model.application.ui.basic.MPart;
+import org.eclipse.e4.ui.workbench.UIEvents;
+import org.eclipse.e4.ui.workbench.modeling.EModelService;
+import org.eclipse.reddeer.common.logging.Logger;
+import org.eclipse.reddeer.common.util.Display;
+import org.eclipse.reddeer.common.util.ResultRunnable;
+import org.eclipse.swt.widgets.Control;
+import org.eclipse.swt.widgets.Widget;
+import org.osgi.service.event.Event;
+import org.osgi.service.event.EventHandler;
+
+/**
+ * Workbench part index maps parts of the application model by element id,
+ * label and widget. The index is built in one UI thread access and it is
+ * rebuilt on the next lookup after the event broker notifies about changed
+ * children or selected element of a model container or about changed widget,
+ * label or element id of a part. Between changes, parts are looked up without
+ * walking the application model.<br>
+ * <br>
+ * The index is installed on the first access.
+ */
+public class WorkbenchPartIndex {
+
+	private static final Logger log = Logger.getLogger(WorkbenchPartIndex.class);
+
+	private static final String[] TOPICS = { UIEvents.ElementContainer.TOPIC_CHILDREN,
+			UIEvents.ElementContainer.TOPIC_SELECTEDELEMENT, UIEvents.UIElement.TOPIC_WIDGET,
+			UIEvents.UILabel.TOPIC_LABEL, UIEvents.ApplicationElement.TOPIC_ELEMENTID };
+
+	private static WorkbenchPartIndex instance;
+
+	private final IEclipseContext e4Context;
+	private final AtomicLong version = new AtomicLong();
+	private volatile Index index;
+
+	private final EventHandler modelListener = new EventHandler() {
+
+		@Override
+		public void handleEvent(Event event) {
+			Object element = event.getProperty(UIEvents.EventTags.ELEMENT);
+			// widget, label and id matter only for parts, containers can hold parts
+			if (element instanceof MPart || element instanceof MElementContainer) {
+				version.incrementAndGet();
+			}
+		}
+	};
+
+	private WorkbenchPartIndex() {
+		e4Context = WorkbenchPartLookup.getEclipseContext();
+		IEventBroker eventBroker = e4Context.get(IEventBroker.class);
+		for (String topic : TOPICS) {
+			eventBroker.subscribe(topic, modelListener);
+		}
+		log.debug("Workbench part index installed");
+	}
+
+	/**
+	 * Gets instance of WorkbenchPartIndex.
+	 *
+	 * @return WorkbenchPartIndex instance
+	 */
+	public static synchronized WorkbenchPartIndex getInstance() {
+		if (instance == null) {
+			instance = new WorkbenchPartIndex();
+		}
+		return instance;
+	}
+
+	/**
+	 * Gets part with specified element id.
+	 *
+	 * @param elementId element id of a part
+	 * @return part with specified id or null if there is no such part
+	 */
+	public MPart getPartWithId(String elementId) {
+		return getIndex().partsById.get(elementId);
+	}
+
+	/**
+	 * Gets part with specified label. If there are more parts with the label,
+	 * the first one in the application model is returned.
+	 *
+	 * @param label label of a part
+	 * @return part with specified label or null if there is no such part
+	 */
+	public MPart getPartWithLabel(String label) {
+		return getIndex().partsByLabel.get(label);
+	}
+
+	/**
+	 * Gets part whose widget is specified widget or contains it.
+	 *
+	 * @param widget widget of a part or a widget inside it
+	 * @return part containing the widget or null if the widget is not in a part
+	 */
+	public MPart getPartWithWidget(final Widget widget) {
+		final Map<Widget, MPart> partsByWidget = getIndex().partsByWidget;
+		return Display.syncExec(new ResultRunnable<MPart>() {
+
+			@Override
+			public MPart run() {
+				Widget current = widget;
+				while (current != null && !current.isDisposed()) {
+					MPart part = partsByWidget.get(current);
+					if (part != null) {
+						return part;
+					}
+					current = current instanceof Control ? ((Control) current).getParent() : null;
+				}
+				return null;
+			}
+		});
+	}
+
+	private Index getIndex() {
+		Index currentIndex = index;
+		if (currentIndex != null && currentIndex.version == version.get()) {
+			return currentIndex;
+		}
+		currentIndex = Display.syncExec(new ResultRunnable<Index>() {
+
+			@Override
+			public Index run() {
+				// model events are sent in the UI thread, thus version
+				// cannot change while parts are being read
+				MApplication application = e4Context.get(MApplication.class);
+				List<MPart> parts = e4Context.get(EModelService.class).findElements(application, null,
+						MPart.class, null);
+				return new Index(version.get(), parts);
+			}
+		});
+		index = currentIndex;
+		return currentIndex;
+	}
+
+	/**
+	 * Parts of the application model mapped at one moment.
+	 */
+	private static class Index {
+
+		private final long version;
+		private final Map<String, MPart> partsById = new HashMap<String, MPart>();
+		private final Map<String, MPart> partsByLabel = new HashMap<String, MPart>();
+		private final Map<Widget, MPart> partsByWidget = new IdentityHashMap<Widget, MPart>();
+
+		private Index(long version, List<MPart> parts) {
+			this.version = version;
+			for (MPart part : parts) {
+				if (part.getElementId() != null && !partsById.containsKey(part.getElementId())) {
+					partsById.put(part.getElementId(), part);
+				}
+				if (part.getLabel() != null && !partsByLabel.containsKey(part.getLabel())) {
+					partsByLabel.put(part.getLabel(), part);
+				}
+				if (part.getWidget() instanceof Widget) {
+					partsByWidget.put((Widget) part.getWidget(), part);
+				}
+			}
+		}
+	}
+}
@@ -18,6 +18,7 @@ import org.eclipse.e4.ui.model.application.ui.basic.MPart;
 import org.eclipse.e4.ui.workbench.IWorkbench;
 import org.eclipse.e4.ui.workbench.modeling.EPartService;
 import org.eclipse.swt.widgets.Control;
+import org.eclipse.swt.widgets.Widget;
 
 /**
  * Workbench part lookup contains methods for looking up specific workbench part.
@@ -61,14 +62,34 @@ public class WorkbenchPartLookup {
 		return partService.getActivePart();
 	}
 	
+	/**
+	 * Gets workbench part with specified label.
+	 * 
+	 * @param label label of workbench part
+	 * @return workbench part with specified label or null if there is no such part
+	 */
 	public MPart getWorkbenchPartWithLabel(String label) {
-		EPartService partService = e4Context.get(EPartService.class);
-		for(MPart part: partService.getParts()) {
-			if(label.equals(part.getLabel())) {
-				return part;
-			}
-		}
-		return null;
+		return WorkbenchPartIndex.getInstance().getPartWithLabel(label);
+	}
+	
+	/**
+	 * Gets workbench part with specified element id.
+	 * 
+	 * @param elementId element id of workbench part
+	 * @return workbench part with specified id or null if there is no such part
+	 */
+	public MPart getWorkbenchPartWithId(String elementId) {
+		return WorkbenchPartIndex.getInstance().getPartWithId(elementId);
+	}
+	
+	/**
+	 * Gets workbench part containing specified widget.
+	 * 
+	 * @param widget widget inside workbench part
+	 * @return workbench part containing the widget or null if the widget is not in a part
+	 */
+	public MPart getWorkbenchPartWithWidget(Widget widget) {
+		return WorkbenchPartIndex.getInstance().getPartWithWidget(widget);
 	}
 	
 	public Control getActiveWorkbenchPartControl(){
@@ -212,11 +212,19 @@ public class WorkbenchPartHandler {
     }
 	
 	/**
-	 * Activates workbench part containing specified widget.
+	 * Activates workbench part containing specified widget. The part is looked up
+	 * in the application model index, CTabFolder in the widget path is used
+	 * for widgets which do not belong to any indexed part.
 	 * 
 	 * @param widget widget of workbench part to activate
 	 */
 	public void activateWorkbenchPartWithWidget(Widget widget) {
+		MPart workbenchPart = WorkbenchPartLookup.getInstance().getWorkbenchPartWithWidget(widget);
+		if (workbenchPart != null) {
+			log.debug("Activating Workbench part with label: '" + getTitle(workbenchPart) + "'");
+			e4Context.get(EPartService.class).activate(workbenchPart);
+			return;
+		}
 		
 		final WorkbenchPartWidgets workbenchPartWidgets = getWorkbenchPartWidgetsForWidget(widget);
 		
@@ -246,12 +254,18 @@ public class WorkbenchPartHandler {
 	}
 	
 	/**
-	 * Gets title of Workbench part containing specified widget.
+	 * Gets title of Workbench part containing specified widget. The part is looked up
+	 * in the application model index, CTabFolder in the widget path is used
+	 * for widgets which do not belong to any indexed part.
 	 *
 	 * @param widget widget of workbench part to get title of
 	 * @return the title of workbench part with widget
 	 */
 	public String getTitleOfWorkbenchPartWithWidget(Widget widget) {
+		MPart workbenchPart = WorkbenchPartLookup.getInstance().getWorkbenchPartWithWidget(widget);
+		if (workbenchPart != null) {
+			return getTitle(workbenchPart);
+		}
 		
 		final WorkbenchPartWidgets workbenchPartWidgets = getWorkbenchPartWidgetsForWidget(widget);
 		
@@ -0,0 +1,154 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat, Inc - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.reddeer.eclipse.condition;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.eclipse.reddeer.common.condition.AbstractWaitCondition;
+import org.eclipse.reddeer.common.exception.RedDeerException;
+import org.eclipse.reddeer.eclipse.ui.console.ConsoleObserver;
+import org.eclipse.reddeer.eclipse.ui.console.ConsoleObserver.ConsoleChunkListener;
+import org.eclipse.reddeer.eclipse.ui.console.ConsoleView;
+
+/**
+ * Wait condition for a console line matching a regular expression. Console
+ * text is observed by {@link ConsoleObserver} and the expression is evaluated
+ * only on complete lines of appended text. The last line which is not
+ * terminated by a line delimiter is evaluated once output of the console is
+ * complete, so the expression is never matched against a part of a line. The
+ * result of the condition is the first matching line.
+ */
+public class ConsoleHasLine extends AbstractWaitCondition {
+
+	private final Pattern pattern;
+	private final LineListener lineListener;
+
+	/**
+	 * Creates new ConsoleHasLine wait condition waiting until a console
+	 * contains a line matching the specified regular expression.
+	 * 
+	 * @param regex regular expression
+	 * @throws RedDeerException when regex parameter is null
+	 */
+	public ConsoleHasLine(String regex) {
+		this(compile(regex));
+	}
+
+	/**
+	 * Creates new ConsoleHasLine wait condition waiting until a console
+	 * contains a line matching the specified pattern.
+	 * 
+	 * @param pattern pattern to match a line
+	 * @throws RedDeerException when pattern parameter is null
+	 */
+	public ConsoleHasLine(Pattern pattern) {
+		if (pattern == null) {
+			throw new RedDeerException("Pattern parameter is null!");
+		}
+		this.pattern = pattern;
+		new ConsoleView().open();
+		lineListener = new LineListener(pattern);
+		ConsoleObserver.getInstance().update();
+		ConsoleObserver.getInstance().addChunkListener(lineListener);
+	}
+
+	private static Pattern compile(String regex) {
+		if (regex == null) {
+			throw new RedDeerException("String parameter is null!");
+		}
+		return Pattern.compile(regex);
+	}
+
+	@Override
+	public boolean test() {
+		ConsoleObserver observer = ConsoleObserver.getInstance();
+		if (!observer.update()) {
+			return false;
+		}
+		if (lineListener.getMatchingLine() == null && observer.isOutputComplete()) {
+			lineListener.matchLastLine();
+		}
+		return lineListener.getMatchingLine() != null;
+	}
+
+	@Override
+	public String description() {
+		return "console has line matching '" + pattern.pattern() + "'";
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public String getResult() {
+		return lineListener.getMatchingLine();
+	}
+
+	/**
+	 * Matches complete lines of appended text, the last incomplete line is
+	 * matched only on request.
+	 */
+	private static class LineListener implements ConsoleChunkListener {
+
+		private final Matcher matcher;
+		private StringBuilder line = new StringBuilder();
+		private volatile String matchingLine;
+
+		public LineListener(Pattern pattern) {
+			this.matcher = pattern.matcher("");
+		}
+
+		@Override
+		public synchronized void reset(String consoleText) {
+			line = new StringBuilder();
+			matchingLine = null;
+			append(consoleText);
+		}
+
+		@Override
+		public synchronized void append(String chunk) {
+			if (matchingLine != null) {
+				return;
+			}
+			int start = 0;
+			for (int i = 0; i < chunk.length(); i++) {
+				char c = chunk.charAt(i);
+				if (c == '\n' || c == '\r') {
+					line.append(chunk, start, i);
+					if (matches(line)) {
+						return;
+					}
+					line.setLength(0);
+					start = i + 1;
+				}
+			}
+			line.append(chunk, start, chunk.length());
+		}
+
+		public synchronized void matchLastLine() {
+			if (matchingLine == null && line.length() > 0) {
+				matches(line);
+			}
+		}
+
+		private boolean matches(CharSequence text) {
+			if (matcher.reset(text).find()) {
+				matchingLine = text.toString();
+				return true;
+			}
+			return false;
+		}
+
+		public String getMatchingLine() {
+			return matchingLine;
+		}
+	}
+}
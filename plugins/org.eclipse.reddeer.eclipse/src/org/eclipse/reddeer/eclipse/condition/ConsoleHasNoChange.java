@@ -13,10 +13,12 @@ package org.eclipse.reddeer.eclipse.condition;
 
 import org.eclipse.reddeer.common.condition.AbstractWaitCondition;
 import org.eclipse.reddeer.common.wait.TimePeriod;
+import org.eclipse.reddeer.eclipse.ui.console.ConsoleObserver;
 import org.eclipse.reddeer.eclipse.ui.console.ConsoleView;
 
 /**
  * Returns true if a console has no change for the specified time period.
+ * Changes are recorded by {@link ConsoleObserver}, console text is not read.
  * 
  * @author Andrej Podhradsky
  * 
@@ -25,8 +27,7 @@ public class ConsoleHasNoChange extends AbstractWaitCondition {
 
 	private TimePeriod timePeriod;
 
-	private String consoleText;
-	private long consoleTime;
+	private long startTime;
 
 	/**
 	 * Construct the condition with {@link TimePeriod#DEFAULT}.
@@ -43,8 +44,9 @@ public class ConsoleHasNoChange extends AbstractWaitCondition {
 	 */
 	public ConsoleHasNoChange(TimePeriod timePeriod) {
 		this.timePeriod = timePeriod;
-		this.consoleText = getConsoleText();
-		this.consoleTime = System.currentTimeMillis();
+		new ConsoleView().open();
+		ConsoleObserver.getInstance().update();
+		this.startTime = System.currentTimeMillis();
 	}
 
 	/* (non-Javadoc)
@@ -52,16 +54,10 @@ public class ConsoleHasNoChange extends AbstractWaitCondition {
 	 */
 	@Override
 	public boolean test() {
-		String currentConsoleText = getConsoleText();
-		long currentConsoleTime = System.currentTimeMillis();
-
-		if (!currentConsoleText.equals(consoleText)) {
-			consoleText = currentConsoleText;
-			consoleTime = currentConsoleTime;
-			return false;
-		}
-
-		return currentConsoleTime - consoleTime - timePeriod.getSeconds() * 1000 >= 0;
+		ConsoleObserver observer = ConsoleObserver.getInstance();
+		observer.update();
+		long lastChangeTime = Math.max(startTime, observer.getLastChangeTime());
+		return System.currentTimeMillis() - lastChangeTime - timePeriod.getSeconds() * 1000 >= 0;
 	}
 
 	/* (non-Javadoc)
@@ -71,11 +67,4 @@ public class ConsoleHasNoChange extends AbstractWaitCondition {
 	public String description() {
 		return "Console is still changing";
 	}
-
-	private static String getConsoleText() {
-		ConsoleView consoleView = new ConsoleView();
-		consoleView.open();
-
-		return consoleView.getConsoleText();
-	}
 }
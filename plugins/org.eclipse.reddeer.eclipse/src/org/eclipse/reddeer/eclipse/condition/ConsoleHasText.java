@@ -13,10 +13,14 @@ package org.eclipse.reddeer.eclipse.condition;
 
 import org.eclipse.reddeer.common.condition.AbstractWaitCondition;
 import org.eclipse.reddeer.common.exception.RedDeerException;
+import org.eclipse.reddeer.eclipse.ui.console.ConsoleObserver;
+import org.eclipse.reddeer.eclipse.ui.console.ConsoleObserver.ConsoleChunkListener;
 import org.eclipse.reddeer.eclipse.ui.console.ConsoleView;
 
 /**
- * Wait condition for existence of text.
+ * Wait condition for existence of text. Console text is observed by
+ * {@link ConsoleObserver}, only appended text is searched for the expected
+ * text.
  * 
  * @author apodhrad, mlabuda@redhat.com, jkopriva@redhat.com
  * 
@@ -26,10 +30,14 @@ public class ConsoleHasText extends AbstractWaitCondition {
 	private String text;
 	private ConsoleView consoleView;
 	private String resultText;
+	private TextListener textListener;
 	
 	/**
 	 * Creates new ConsoleHasText wait condition waiting until a console
-	 * contains specified text.
+	 * contains specified text. The text is searched in the console currently
+	 * displayed in the Console view, which is followed by
+	 * {@link ConsoleObserver}. There is only one Console view in the
+	 * workbench, specified view is opened and used for error messages.
 	 * 
 	 * @param view console view to use
 	 * @param text Text
@@ -42,6 +50,9 @@ public class ConsoleHasText extends AbstractWaitCondition {
 		this.text = text;
 		consoleView = view;
 		view.open();
+		textListener = new TextListener(text);
+		ConsoleObserver.getInstance().update();
+		ConsoleObserver.getInstance().addChunkListener(textListener);
 	}
 	
 	/**
@@ -65,16 +76,12 @@ public class ConsoleHasText extends AbstractWaitCondition {
 	
 	@Override
 	public boolean test() {
-		String consoleText = consoleView.getConsoleText();
-		if (consoleText == null) {
+		ConsoleObserver observer = ConsoleObserver.getInstance();
+		if (!observer.update() || !textListener.isFound()) {
 			return false;
-		} else {
-			if (consoleText.contains(text)) {
-				this.resultText = consoleText;
-				return true;
-			}
 		}
-		return false;
+		this.resultText = observer.getText();
+		return resultText != null;
 	}
 
 	@Override
@@ -104,4 +111,41 @@ public class ConsoleHasText extends AbstractWaitCondition {
 		return this.resultText;
 	}	
 
+	/**
+	 * Searches for the text in appended chunks, the end of previous chunks is
+	 * kept so the text can be found also when it is split between chunks.
+	 */
+	private static class TextListener implements ConsoleChunkListener {
+
+		private final String text;
+		private String tail = "";
+		private volatile boolean found;
+
+		public TextListener(String text) {
+			this.text = text;
+		}
+
+		@Override
+		public synchronized void reset(String consoleText) {
+			tail = "";
+			found = false;
+			append(consoleText);
+		}
+
+		@Override
+		public synchronized void append(String chunk) {
+			if (found) {
+				return;
+			}
+			String searched = tail + chunk;
+			found = searched.contains(text);
+			int tailLength = Math.max(0, text.length() - 1);
+			tail = searched.substring(Math.max(0, searched.length() - tailLength));
+		}
+
+		public boolean isFound() {
+			return found;
+		}
+	}
+
 }
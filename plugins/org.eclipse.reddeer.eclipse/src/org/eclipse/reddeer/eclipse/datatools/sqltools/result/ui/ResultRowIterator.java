@@ -0,0 +1,122 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat, Inc - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.reddeer.eclipse.datatools.sqltools.result.ui;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.eclipse.reddeer.common.util.Display;
+import org.eclipse.reddeer.common.util.ResultRunnable;
+import org.eclipse.swt.widgets.Item;
+import org.eclipse.swt.widgets.Table;
+import org.eclipse.swt.widgets.TableItem;
+import org.eclipse.swt.widgets.Tree;
+import org.eclipse.swt.widgets.TreeItem;
+import org.eclipse.swt.widgets.Widget;
+
+/**
+ * Result row iterator reads rows of a table or top level rows of a tree in
+ * pages. Cells of all rows of a page are read in one UI thread access and kept
+ * as plain strings, so rows are not wrapped into RedDeer items and only one
+ * page is held in memory. Rows added or removed while iterating are not
+ * reflected reliably.
+ */
+public class ResultRowIterator implements Iterator<String[]> {
+
+	/**
+	 * Default number of rows read in one UI thread access.
+	 */
+	public static final int DEFAULT_PAGE_SIZE = 500;
+
+	private final Widget widget;
+	private final int pageSize;
+	private String[][] page = new String[0][];
+	private int pageIndex;
+	private int nextRow;
+	private boolean lastPage;
+
+	/**
+	 * Creates iterator over rows of specified table or tree.
+	 *
+	 * @param widget SWT table or tree
+	 * @param pageSize number of rows read in one UI thread access
+	 */
+	public ResultRowIterator(Widget widget, int pageSize) {
+		if (!(widget instanceof Table) && !(widget instanceof Tree)) {
+			throw new IllegalArgumentException("Widget has to be a table or a tree, but it is " + widget);
+		}
+		if (pageSize < 1) {
+			throw new IllegalArgumentException("Page size has to be positive, but it is " + pageSize);
+		}
+		this.widget = widget;
+		this.pageSize = pageSize;
+	}
+
+	@Override
+	public boolean hasNext() {
+		if (pageIndex < page.length) {
+			return true;
+		}
+		if (lastPage) {
+			return false;
+		}
+		page = readPage(nextRow);
+		pageIndex = 0;
+		nextRow += page.length;
+		lastPage = page.length < pageSize;
+		return page.length > 0;
+	}
+
+	@Override
+	public String[] next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+		return page[pageIndex++];
+	}
+
+	private String[][] readPage(final int firstRow) {
+		return Display.syncExec(new ResultRunnable<String[][]>() {
+
+			@Override
+			public String[][] run() {
+				if (widget.isDisposed()) {
+					return new String[0][];
+				}
+				int rowCount;
+				int columnCount;
+				if (widget instanceof Table) {
+					rowCount = ((Table) widget).getItemCount();
+					columnCount = ((Table) widget).getColumnCount();
+				} else {
+					rowCount = ((Tree) widget).getItemCount();
+					columnCount = ((Tree) widget).getColumnCount();
+				}
+				// widget without columns has one implicit column
+				columnCount = Math.max(columnCount, 1);
+				int rows = Math.max(Math.min(pageSize, rowCount - firstRow), 0);
+				String[][] cells = new String[rows][];
+				for (int i = 0; i < rows; i++) {
+					Item item = widget instanceof Table ? ((Table) widget).getItem(firstRow + i)
+							: ((Tree) widget).getItem(firstRow + i);
+					String[] row = new String[columnCount];
+					for (int column = 0; column < columnCount; column++) {
+						row[column] = item instanceof TableItem ? ((TableItem) item).getText(column)
+								: ((TreeItem) item).getText(column);
+					}
+					cells[i] = row;
+				}
+				return cells;
+			}
+		});
+	}
+}
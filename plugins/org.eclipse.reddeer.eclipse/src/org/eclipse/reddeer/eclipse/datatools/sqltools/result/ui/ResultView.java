@@ -12,6 +12,7 @@
 package org.eclipse.reddeer.eclipse.datatools.sqltools.result.ui;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 
 import org.eclipse.reddeer.common.platform.RunningPlatform;
@@ -21,6 +22,7 @@ import org.eclipse.reddeer.common.wait.WaitWhile;
 import org.eclipse.reddeer.swt.api.Tree;
 import org.eclipse.reddeer.swt.api.TreeItem;
 import org.eclipse.reddeer.swt.condition.TreeHasChildren;
+import org.eclipse.reddeer.swt.impl.table.DefaultTable;
 import org.eclipse.reddeer.swt.impl.toolbar.DefaultToolItem;
 import org.eclipse.reddeer.swt.impl.tree.DefaultTree;
 import org.eclipse.reddeer.workbench.impl.view.WorkbenchView;
@@ -46,18 +48,50 @@ public class ResultView extends WorkbenchView {
 	 * @return list of SQLResults
 	 */
 	public List<SQLResult> getResults() {
-		open();
-		Tree tree = getViewTree();
-		List<TreeItem> items = tree.getItems();
 		List<SQLResult> results = new ArrayList<SQLResult>();
+		Iterator<SQLResult> iterator = iterateResults(ResultRowIterator.DEFAULT_PAGE_SIZE);
+		while (iterator.hasNext()) {
+			results.add(iterator.next());
+		}
+		return results;
+	}
 
-		for (TreeItem item : items) {
+	/**
+	 * Iterates over SQL results in the results history. Results are read in
+	 * pages, one UI thread access per page.
+	 *
+	 * @param pageSize number of results read in one UI thread access
+	 * @return iterator over SQL results
+	 */
+	public Iterator<SQLResult> iterateResults(int pageSize) {
+		open();
+		final ResultRowIterator rows = new ResultRowIterator(getViewTree().getSWTWidget(), pageSize);
+		return new Iterator<SQLResult>() {
 
-			results.add(new SQLResult(item.getCell(0), item.getCell(1), item
-					.getCell(2), item.getCell(3)));
+			@Override
+			public boolean hasNext() {
+				return rows.hasNext();
+			}
 
-		}
-		return results;
+			@Override
+			public SQLResult next() {
+				String[] row = rows.next();
+				return new SQLResult(getCell(row, 0), getCell(row, 1), getCell(row, 2), getCell(row, 3));
+			}
+		};
+	}
+
+	/**
+	 * Iterates over rows of the result grid of the selected SQL result. Every
+	 * row is an array of cell texts. Rows are read in pages, one UI thread
+	 * access per page, so the grid is never read as a whole.
+	 *
+	 * @param pageSize number of rows read in one UI thread access
+	 * @return iterator over rows of the result grid
+	 */
+	public Iterator<String[]> iterateResultRows(int pageSize) {
+		open();
+		return new ResultRowIterator(new DefaultTable(cTabItem).getSWTWidget(), pageSize);
 	}
 
 	/**
@@ -83,4 +117,8 @@ public class ResultView extends WorkbenchView {
 		return new DefaultTree(cTabItem);
 	}
 
+	private static String getCell(String[] row, int column) {
+		return column < row.length ? row[column] : "";
+	}
+
 }
@@ -11,7 +11,26 @@
  *******************************************************************************/
 package org.eclipse.reddeer.eclipse.debug.ui.views.variables;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.core.runtime.IAdaptable;
+import org.eclipse.debug.core.DebugException;
+import org.eclipse.debug.core.model.IStackFrame;
+import org.eclipse.debug.core.model.IValue;
+import org.eclipse.debug.core.model.IVariable;
+import org.eclipse.debug.ui.DebugUITools;
+import org.eclipse.debug.ui.IDebugModelPresentation;
+import org.eclipse.debug.ui.IValueDetailListener;
 import org.eclipse.reddeer.common.condition.AbstractWaitCondition;
+import org.eclipse.reddeer.common.logging.Logger;
+import org.eclipse.reddeer.common.util.Display;
+import org.eclipse.reddeer.common.util.ResultRunnable;
+import org.eclipse.reddeer.common.wait.AbstractWait;
+import org.eclipse.reddeer.common.wait.TimePeriod;
 import org.eclipse.reddeer.common.wait.WaitUntil;
 import org.eclipse.reddeer.swt.api.TreeItem;
 import org.eclipse.reddeer.swt.impl.styledtext.DefaultStyledText;
@@ -27,6 +46,8 @@ import org.eclipse.reddeer.workbench.impl.view.WorkbenchView;
  */
 public class VariablesView extends WorkbenchView {
 
+	private static final Logger log = Logger.getLogger(VariablesView.class);
+
 	/**
 	 * Instantiates a new variables view.
 	 */
@@ -77,4 +98,116 @@ public class VariablesView extends WorkbenchView {
 		return new DefaultStyledText(cTabItem).getText();
 	}
 
+	/**
+	 * Gets values of specified variables in one pass. Values are read from the
+	 * debug model of the stack frame selected in the debug context and their
+	 * details are computed at once, so there is no selection in the view per
+	 * variable. Values are the same as the ones shown in the detail pane.
+	 * Variables which cannot be found in the debug model are read one by one by
+	 * {@link #getValue(String...)}.
+	 * 
+	 * @param variablePaths
+	 *            paths of the variables
+	 * @return values of the variables in the same order as the paths
+	 */
+	public List<String> getValues(String[]... variablePaths) {
+		open();
+		List<String> values = new ArrayList<String>(Collections.<String>nCopies(variablePaths.length, null));
+		IStackFrame stackFrame = getSelectedStackFrame();
+		if (stackFrame != null) {
+			readDetails(stackFrame, variablePaths, values);
+		}
+		for (int i = 0; i < variablePaths.length; i++) {
+			if (values.get(i) == null) {
+				values.set(i, getValue(variablePaths[i]));
+			}
+		}
+		return values;
+	}
+
+	private IStackFrame getSelectedStackFrame() {
+		return Display.syncExec(new ResultRunnable<IStackFrame>() {
+
+			@Override
+			public IStackFrame run() {
+				IAdaptable context = DebugUITools.getDebugContext();
+				if (context == null) {
+					return null;
+				}
+				IStackFrame stackFrame = (IStackFrame) context.getAdapter(IStackFrame.class);
+				return stackFrame != null && stackFrame.isSuspended() ? stackFrame : null;
+			}
+		});
+	}
+
+	private void readDetails(IStackFrame stackFrame, String[][] variablePaths, List<String> values) {
+		final Map<Integer, String> details = new ConcurrentHashMap<Integer, String>();
+		IDebugModelPresentation presentation = DebugUITools.newDebugModelPresentation();
+		try {
+			int requestedDetails = 0;
+			for (int i = 0; i < variablePaths.length; i++) {
+				IValue value = getModelValue(stackFrame, variablePaths[i]);
+				if (value == null) {
+					continue;
+				}
+				final int index = i;
+				requestedDetails++;
+				presentation.computeDetail(value, new IValueDetailListener() {
+
+					@Override
+					public void detailComputed(IValue value, String result) {
+						details.put(index, result == null ? "" : result);
+						AbstractWait.wakeUp();
+					}
+				});
+			}
+			final int expectedDetails = requestedDetails;
+			new WaitUntil(new AbstractWaitCondition() {
+
+				@Override
+				public boolean test() {
+					return details.size() == expectedDetails;
+				}
+
+				@Override
+				public String description() {
+					return "Details of variables are computed";
+				}
+			}, TimePeriod.DEFAULT, false);
+		} finally {
+			presentation.dispose();
+		}
+		for (Map.Entry<Integer, String> detail : details.entrySet()) {
+			values.set(detail.getKey(), detail.getValue());
+		}
+	}
+
+	private IValue getModelValue(IStackFrame stackFrame, String[] variablePath) {
+		try {
+			IVariable variable = null;
+			for (String name : variablePath) {
+				IVariable[] variables = variable == null ? stackFrame.getVariables()
+						: variable.getValue().getVariables();
+				variable = getVariable(variables, name);
+				if (variable == null) {
+					return null;
+				}
+			}
+			return variable == null ? null : variable.getValue();
+		} catch (DebugException e) {
+			log.debug("Cannot read variable " + String.join(" > ", variablePath) + " from debug model: "
+					+ e.getMessage());
+			return null;
+		}
+	}
+
+	private IVariable getVariable(IVariable[] variables, String name) throws DebugException {
+		for (IVariable variable : variables) {
+			if (name.equals(variable.getName())) {
+				return variable;
+			}
+		}
+		return null;
+	}
+
 }
@@ -0,0 +1,299 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat, Inc - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.reddeer.eclipse.ui.console;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import org.eclipse.debug.core.model.IProcess;
+import org.eclipse.jface.text.DocumentEvent;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IDocumentListener;
+import org.eclipse.jface.util.IPropertyChangeListener;
+import org.eclipse.jface.util.PropertyChangeEvent;
+import org.eclipse.reddeer.common.logging.Logger;
+import org.eclipse.reddeer.common.util.Display;
+import org.eclipse.reddeer.common.util.ResultRunnable;
+import org.eclipse.ui.IWorkbenchPage;
+import org.eclipse.ui.IWorkbenchWindow;
+import org.eclipse.ui.PlatformUI;
+import org.eclipse.ui.console.IConsole;
+import org.eclipse.ui.console.IConsoleConstants;
+import org.eclipse.ui.console.IConsoleView;
+import org.eclipse.ui.console.TextConsole;
+
+/**
+ * Console observer listens to the document of the console displayed in the
+ * Console view. It records the length of the console, the number of changes
+ * and the time of the last change and it passes appended text to registered
+ * {@link ConsoleChunkListener}s, so conditions can be evaluated on appended
+ * text only instead of copying the whole console text on every test.<br>
+ * <br>
+ * The observed console is updated by {@link #update()}, which has to be
+ * called by observers before they read the state (e.g. at the beginning of
+ * a condition test) in order to follow the console currently displayed.
+ */
+public class ConsoleObserver implements IDocumentListener {
+
+	private static final Logger log = Logger.getLogger(ConsoleObserver.class);
+
+	private static ConsoleObserver instance;
+
+	private IConsole console;
+	private IDocument document;
+	private boolean outputComplete;
+	private int length;
+	private long changeCount;
+	private long lastChangeTime = System.currentTimeMillis();
+
+	private final Set<ConsoleChunkListener> listeners = Collections
+			.newSetFromMap(new WeakHashMap<ConsoleChunkListener, Boolean>());
+
+	private final IPropertyChangeListener outputCompleteListener = new IPropertyChangeListener() {
+
+		@Override
+		public void propertyChange(PropertyChangeEvent event) {
+			if (IConsoleConstants.P_CONSOLE_OUTPUT_COMPLETE.equals(event.getProperty())) {
+				synchronized (ConsoleObserver.this) {
+					if (event.getSource() == console) {
+						outputComplete = true;
+					}
+				}
+			}
+		}
+	};
+
+	/**
+	 * Listener of text appended to the observed console.
+	 */
+	public interface ConsoleChunkListener {
+
+		/**
+		 * Called when observed console has been replaced by another one or
+		 * when the console has been cleared.
+		 *
+		 * @param text
+		 *            whole text of the observed console, empty if there is no
+		 *            console
+		 */
+		void reset(String text);
+
+		/**
+		 * Called when a text has been appended to the observed console.
+		 *
+		 * @param chunk
+		 *            appended text
+		 */
+		void append(String chunk);
+	}
+
+	private ConsoleObserver() {
+
+	}
+
+	/**
+	 * Gets instance of ConsoleObserver.
+	 *
+	 * @return instance of ConsoleObserver
+	 */
+	public static synchronized ConsoleObserver getInstance() {
+		if (instance == null) {
+			instance = new ConsoleObserver();
+		}
+		return instance;
+	}
+
+	/**
+	 * Starts observing the console which is currently displayed in the Console
+	 * view if it is not observed yet.
+	 *
+	 * @return true if there is an observed console, false otherwise
+	 */
+	public boolean update() {
+		IConsole displayedConsole = Display.syncExec(new ResultRunnable<IConsole>() {
+
+			@Override
+			public IConsole run() {
+				IWorkbenchWindow window = PlatformUI.getWorkbench().getActiveWorkbenchWindow();
+				IWorkbenchPage page = window == null ? null : window.getActivePage();
+				if (page == null) {
+					return null;
+				}
+				IConsoleView view = (IConsoleView) page.findView(IConsoleConstants.ID_CONSOLE_VIEW);
+				return view == null ? null : view.getConsole();
+			}
+		});
+		synchronized (this) {
+			if (displayedConsole != console) {
+				observe(displayedConsole);
+			}
+			return document != null;
+		}
+	}
+
+	private void observe(IConsole newConsole) {
+		if (document != null) {
+			document.removeDocumentListener(this);
+		}
+		if (console != null) {
+			console.removePropertyChangeListener(outputCompleteListener);
+		}
+		console = newConsole;
+		outputComplete = false;
+		if (newConsole != null) {
+			newConsole.addPropertyChangeListener(outputCompleteListener);
+			// output completion of a console observed too late is not notified
+			outputComplete = isProcessTerminated(newConsole);
+		}
+		document = newConsole instanceof TextConsole ? ((TextConsole) newConsole).getDocument() : null;
+		String text = "";
+		if (document != null) {
+			document.addDocumentListener(this);
+			text = document.get();
+			log.debug("Observing console '" + newConsole.getName() + "'");
+		}
+		length = text.length();
+		markChange();
+		for (ConsoleChunkListener listener : getListeners()) {
+			listener.reset(text);
+		}
+	}
+
+	/**
+	 * Adds a listener of appended text. The listener is immediately reset with
+	 * the current text of the observed console. Listeners are weakly
+	 * referenced, they are removed once they are not used anymore.
+	 *
+	 * @param listener
+	 *            listener to add
+	 */
+	public synchronized void addChunkListener(ConsoleChunkListener listener) {
+		listeners.add(listener);
+		listener.reset(document == null ? "" : document.get());
+	}
+
+	/**
+	 * Removes a listener of appended text.
+	 *
+	 * @param listener
+	 *            listener to remove
+	 */
+	public synchronized void removeChunkListener(ConsoleChunkListener listener) {
+		listeners.remove(listener);
+	}
+
+	/**
+	 * Gets observed console.
+	 *
+	 * @return observed console or null
+	 */
+	public synchronized IConsole getConsole() {
+		return console;
+	}
+
+	/**
+	 * Finds out whether the observed console will not get any more output,
+	 * i.e. the console has notified that its output is complete or its process
+	 * had been terminated before the console was observed.
+	 *
+	 * @return true if output of the observed console is complete, false
+	 *         otherwise
+	 */
+	public synchronized boolean isOutputComplete() {
+		return outputComplete;
+	}
+
+	/**
+	 * Gets whole text of the observed console.
+	 *
+	 * @return console text or null if there is no observed console
+	 */
+	public synchronized String getText() {
+		return document == null ? null : document.get();
+	}
+
+	/**
+	 * Gets length of the observed console text.
+	 *
+	 * @return length of console text
+	 */
+	public synchronized int getLength() {
+		return length;
+	}
+
+	/**
+	 * Gets number of changes of the observed console.
+	 *
+	 * @return number of changes
+	 */
+	public synchronized long getChangeCount() {
+		return changeCount;
+	}
+
+	/**
+	 * Gets time of the last change of the observed console (or of the last
+	 * switch to another console).
+	 *
+	 * @return time of the last change in milliseconds
+	 */
+	public synchronized long getLastChangeTime() {
+		return lastChangeTime;
+	}
+
+	@Override
+	public void documentAboutToBeChanged(DocumentEvent event) {
+		// only performed changes are interesting
+	}
+
+	@Override
+	public synchronized void documentChanged(DocumentEvent event) {
+		if (event.getDocument() != document) {
+			return;
+		}
+		int newLength = document.getLength();
+		String text = event.getText() == null ? "" : event.getText();
+		boolean appended = event.getOffset() == length && event.getLength() == 0;
+		length = newLength;
+		markChange();
+		if (appended) {
+			for (ConsoleChunkListener listener : getListeners()) {
+				listener.append(text);
+			}
+		} else {
+			// console was cleared or trimmed
+			String wholeText = document.get();
+			for (ConsoleChunkListener listener : getListeners()) {
+				listener.reset(wholeText);
+			}
+		}
+	}
+
+	private static boolean isProcessTerminated(IConsole console) {
+		if (!(console instanceof org.eclipse.debug.ui.console.IConsole)) {
+			return false;
+		}
+		IProcess process = ((org.eclipse.debug.ui.console.IConsole) console).getProcess();
+		return process != null && process.isTerminated();
+	}
+
+	private void markChange() {
+		changeCount++;
+		lastChangeTime = System.currentTimeMillis();
+	}
+
+	private List<ConsoleChunkListener> getListeners() {
+		return new ArrayList<ConsoleChunkListener>(listeners);
+	}
+}
@@ -11,6 +11,9 @@
  *******************************************************************************/
 package org.eclipse.reddeer.eclipse.ui.markers;
 
+import java.util.Map;
+
+import org.eclipse.reddeer.eclipse.exception.EclipseLayerException;
 import org.eclipse.reddeer.eclipse.ui.views.markers.QuickFixWizard;
 import org.eclipse.reddeer.eclipse.ui.views.markers.AbstractMarkersSupportView.Column;
 import org.eclipse.reddeer.swt.api.TreeItem;
@@ -18,7 +21,8 @@ import org.eclipse.reddeer.swt.impl.menu.ContextMenuItem;
 
 /**
  * Abstract marker item in view supporting markers. Get methods return values of a specific column
- * of a marker. If there is no value for a specific column or a column is hidden, null is returned.
+ * of a marker. If there is no value for a specific column, null is returned. If a column is hidden,
+ * markers created with already read cells throw {@link EclipseLayerException}.
  * 
  * @author mlabuda@redhat.com
  * @since 2.0
@@ -28,19 +32,52 @@ public abstract class AbstractMarker {
 	
 	protected TreeItem markerItem;
 	
+	private Map<Column, String> cells;
+	
 	public AbstractMarker(TreeItem markerItem) {
 		this.markerItem = markerItem;
 	}
+	
+	/**
+	 * Creates a marker with already read cells. Get methods return values of these cells
+	 * instead of reading a tree item of the marker, thus they return values from the time
+	 * when the cells were read.
+	 * 
+	 * @param markerItem tree item of a marker
+	 * @param cells texts of visible columns of the marker
+	 * @throws EclipseLayerException from get methods if a column is not among the cells
+	 */
+	public AbstractMarker(TreeItem markerItem, Map<Column, String> cells) {
+		this(markerItem);
+		this.cells = cells;
+	}
 
 	protected abstract String getCell(Column column);
 	
+	private String getValue(Column column) {
+		if (cells != null) {
+			if (!cells.containsKey(column)) {
+				throw new EclipseLayerException("Specified column " + column + " is not presented in a tree of markers.");
+			}
+			return cells.get(column);
+		}
+		return getCell(column);
+	}
+	
+	private String getValueIfPresent(Column column) {
+		if (cells != null && !cells.containsKey(column)) {
+			return null;
+		}
+		return getValue(column);
+	}
+	
 	/**
 	 * Gets description of the marker. Description contains specific information about marker.
 	 * 
 	 * @return description of the marker
 	 */
 	public String getDescription() {
-		return getCell(Column.DESCRIPTION);
+		return getValue(Column.DESCRIPTION);
 	}
 
 	/**
@@ -49,7 +86,7 @@ public abstract class AbstractMarker {
 	 * @return resource of the marker
 	 */
 	public String getResource() {
-		return getCell(Column.RESOURCE);
+		return getValue(Column.RESOURCE);
 	}
 
 	/**
@@ -59,7 +96,7 @@ public abstract class AbstractMarker {
 	 * @return path to the marker
 	 */
 	public String getPath() {
-		return getCell(Column.PATH);
+		return getValue(Column.PATH);
 	}
 
 	/**
@@ -68,7 +105,7 @@ public abstract class AbstractMarker {
 	 * @return ID of the marker
 	 */
 	public String getId() {
-		return getCell(Column.ID);
+		return getValue(Column.ID);
 	}
 
 	/**
@@ -78,7 +115,7 @@ public abstract class AbstractMarker {
 	 * @return location of the marker
 	 */
 	public String getLocation() {
-		return getCell(Column.LOCATION);
+		return getValue(Column.LOCATION);
 	}
 
 	/**
@@ -87,7 +124,7 @@ public abstract class AbstractMarker {
 	 * @return nature of the marker
 	 */
 	public String getType() {
-		return getCell(Column.TYPE);
+		return getValue(Column.TYPE);
 	}
 
 	/**
@@ -96,7 +133,7 @@ public abstract class AbstractMarker {
 	 * @return creation time of the marker
 	 */
 	public String getCreationTime() {
-		return getCell(Column.CREATION_TIME);
+		return getValue(Column.CREATION_TIME);
 	}
 	
 	/**
@@ -114,13 +151,13 @@ public abstract class AbstractMarker {
 	public String toString() {
 		StringBuilder builder = new StringBuilder();
 		
-		String description = getDescription();
-		String resource = getResource(); 
-		String path = getPath();
-		String id = getId();
-		String location = getLocation();
-		String type = getType();
-		String creationTime = getCreationTime();
+		String description = getValueIfPresent(Column.DESCRIPTION);
+		String resource = getValueIfPresent(Column.RESOURCE); 
+		String path = getValueIfPresent(Column.PATH);
+		String id = getValueIfPresent(Column.ID);
+		String location = getValueIfPresent(Column.LOCATION);
+		String type = getValueIfPresent(Column.TYPE);
+		String creationTime = getValueIfPresent(Column.CREATION_TIME);
 		
 		if (description != null) {
 			builder.append("description: '" + description + "'; ");
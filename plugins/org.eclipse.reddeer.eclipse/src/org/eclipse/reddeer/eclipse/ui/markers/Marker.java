@@ -12,6 +12,7 @@
 package org.eclipse.reddeer.eclipse.ui.markers;
 
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.reddeer.eclipse.ui.views.markers.AllMarkersView;
 import org.eclipse.reddeer.eclipse.ui.views.markers.AbstractMarkersSupportView.Column;
@@ -31,6 +32,18 @@ public class Marker extends AbstractMarker {
 		super(markerItem);
 		this.markerType = markerType;
 	}
+	
+	/**
+	 * Creates a new marker with already read cells.
+	 * 
+	 * @param markerType type of a marker
+	 * @param markerItem tree item of a marker
+	 * @param cells texts of visible columns of a marker
+	 */
+	public Marker(String markerType, TreeItem markerItem, Map<Column, String> cells) {
+		super(markerItem, cells);
+		this.markerType = markerType;
+	}
 
 	/**
 	 * Gets marker type. Returned markers type is plain type 
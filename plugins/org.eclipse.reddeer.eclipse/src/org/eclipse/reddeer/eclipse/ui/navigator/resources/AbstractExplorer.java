@@ -11,8 +11,10 @@
  *******************************************************************************/
 package org.eclipse.reddeer.eclipse.ui.navigator.resources;
 
+import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.reddeer.common.logging.Logger;
 import org.eclipse.reddeer.common.wait.TimePeriod;
@@ -34,6 +36,7 @@ import org.eclipse.reddeer.swt.impl.button.PushButton;
 import org.eclipse.reddeer.swt.impl.menu.ContextMenuItem;
 import org.eclipse.reddeer.swt.impl.shell.DefaultShell;
 import org.eclipse.reddeer.swt.impl.tree.DefaultTree;
+import org.eclipse.reddeer.swt.impl.tree.DefaultTreeItem;
 import org.eclipse.reddeer.workbench.core.condition.JobIsRunning;
 import org.eclipse.reddeer.workbench.impl.view.WorkbenchView;
 
@@ -91,6 +94,10 @@ public class AbstractExplorer extends WorkbenchView {
 	 * @return true if project exists, false otherwise
 	 */
 	public boolean containsProject(String projectName) {
+		activate();
+		if (!ExplorerProjectIndex.getInstance().containsProject(projectName)) {
+			return false;
+		}
 		boolean result = false;
 		try{
 			getProject(projectName);
@@ -109,10 +116,22 @@ public class AbstractExplorer extends WorkbenchView {
 	public List<DefaultProject> getProjects(){
 		List<DefaultProject> projects = new ArrayList<DefaultProject>();
 
-		TreeViewerHandler treeViewerHandler = TreeViewerHandler.getInstance();
-		
+		List<TreeItem> explorerTreeItems = getExplorerTreeItems();
+		if (explorerTreeItems.isEmpty()) {
+			return projects;
+		}
+		Map<String, org.eclipse.swt.widgets.TreeItem> projectItems = ExplorerProjectIndex.getInstance()
+				.getProjectItems(getTree().getSWTWidget());
+		if (!projectItems.isEmpty()) {
+			for (org.eclipse.swt.widgets.TreeItem item : projectItems.values()) {
+				projects.add(new DefaultProject(new DefaultTreeItem(item)));
+			}
+			return projects;
+		}
 		
-		for (TreeItem item : getExplorerTreeItems()){
+		// tree items cannot be mapped to projects, check their labels
+		TreeViewerHandler treeViewerHandler = TreeViewerHandler.getInstance();
+		for (TreeItem item : explorerTreeItems){
 			String projectName = treeViewerHandler.getNonStyledText(item);
 			log.debug("Getting project with name "+projectName);
 			if (org.eclipse.reddeer.direct.project.Project.isProject(projectName)) {
@@ -185,6 +204,14 @@ public class AbstractExplorer extends WorkbenchView {
 	 */
 	public DefaultProject getProject(String projectName){
 		activate();
+		if (!ExplorerProjectIndex.getInstance().containsProject(projectName)) {
+			throw new EclipseLayerException("There is no project with name " + projectName);
+		}
+		org.eclipse.swt.widgets.TreeItem projectItem = getIndexedProjectItem(projectName);
+		if (projectItem != null) {
+			return new DefaultProject(new DefaultTreeItem(projectItem));
+		}
+		// project tree item cannot be mapped to a project, search by labels
 		for (DefaultProject project : getProjects()){
 			if (project.getName().equals(projectName)){
 				return project;
@@ -193,6 +220,16 @@ public class AbstractExplorer extends WorkbenchView {
 		throw new EclipseLayerException("There is no project with name " + projectName);
 	}	
 	
+	/**
+	 * Gets tree item of a project from project index of the explorer tree.
+	 * 
+	 * @param projectName name of a project
+	 * @return tree item of a project or null if there is no such item in index
+	 */
+	private org.eclipse.swt.widgets.TreeItem getIndexedProjectItem(String projectName) {
+		return ExplorerProjectIndex.getInstance().getProjectItem(getTree().getSWTWidget(), projectName);
+	}
+	
 	/**
 	 * Gets project with specific project type defined by subclass of Abstract Project.
 	 * 
@@ -202,6 +239,19 @@ public class AbstractExplorer extends WorkbenchView {
 	 * @return project of specific type with defined name
 	 */
 	public <T extends AbstractProject> T getProject(final String projectName, Class<T> projectType) {		
+		org.eclipse.swt.widgets.TreeItem projectItem = ExplorerProjectIndex.getInstance().containsProject(projectName)
+				? getIndexedProjectItem(projectName) : null;
+		if (projectItem != null) {
+			try {
+				return projectType.getDeclaredConstructor(TreeItem.class).newInstance(new DefaultTreeItem(projectItem));
+			} catch (InvocationTargetException ex) {
+				// project is not of required type
+				throw new EclipseLayerException("Required project does not exist. Make sure you are using correct "
+						+ "project type and desired project exists.");
+			} catch (ReflectiveOperationException e) {
+				// This should not happen, search all tree items.
+			}
+		}
 		for (TreeItem item : getExplorerTreeItems()){
 			try {
 				T project =  projectType.getDeclaredConstructor(TreeItem.class).newInstance(item);
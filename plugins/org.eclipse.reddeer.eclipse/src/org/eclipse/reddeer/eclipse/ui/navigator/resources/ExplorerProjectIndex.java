@@ -0,0 +1,187 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat, Inc - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.reddeer.eclipse.ui.navigator.resources;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.Adapters;
+import org.eclipse.reddeer.common.logging.Logger;
+import org.eclipse.reddeer.common.util.Display;
+import org.eclipse.reddeer.common.util.ResultRunnable;
+import org.eclipse.swt.widgets.Tree;
+import org.eclipse.swt.widgets.TreeItem;
+
+/**
+ * Index of projects shown in explorers. Names of projects are taken from the
+ * workspace root, so checking whether a project exists does not access the UI.
+ * Root tree items of an explorer tree are mapped to projects by the resources
+ * they represent (the data of tree items set by the tree viewer) in one UI
+ * thread access and the mapping is kept until a project is added, removed or
+ * changed in the workspace or until the mapped tree item is disposed.
+ */
+class ExplorerProjectIndex implements IResourceChangeListener {
+
+	private static final Logger log = Logger.getLogger(ExplorerProjectIndex.class);
+
+	private static ExplorerProjectIndex instance;
+
+	private Set<String> projectNames;
+	private final Map<Tree, Map<String, TreeItem>> treeItems = new WeakHashMap<Tree, Map<String, TreeItem>>();
+
+	private ExplorerProjectIndex() {
+
+	}
+
+	/**
+	 * Gets instance of ExplorerProjectIndex. Index starts to listen to resource
+	 * changes on the first call.
+	 *
+	 * @return instance of ExplorerProjectIndex
+	 */
+	public static synchronized ExplorerProjectIndex getInstance() {
+		if (instance == null) {
+			instance = new ExplorerProjectIndex();
+			ResourcesPlugin.getWorkspace().addResourceChangeListener(instance, IResourceChangeEvent.POST_CHANGE);
+		}
+		return instance;
+	}
+
+	/**
+	 * Finds out whether a project with specified name exists in the workspace.
+	 *
+	 * @param projectName name of a project
+	 * @return true if project exists, false otherwise
+	 */
+	public synchronized boolean containsProject(String projectName) {
+		if (projectNames == null) {
+			projectNames = new HashSet<String>();
+			for (IProject project : ResourcesPlugin.getWorkspace().getRoot().getProjects()) {
+				projectNames.add(project.getName());
+			}
+		}
+		return projectNames.contains(projectName);
+	}
+
+	/**
+	 * Gets root tree item of a project in specified tree.
+	 *
+	 * @param tree explorer tree
+	 * @param projectName name of a project
+	 * @return tree item of the project or null if the project is not shown in
+	 *         the tree or cannot be mapped to a tree item
+	 */
+	public TreeItem getProjectItem(Tree tree, String projectName) {
+		if (!containsProject(projectName)) {
+			return null;
+		}
+		TreeItem item;
+		synchronized (this) {
+			Map<String, TreeItem> items = treeItems.get(tree);
+			item = items == null ? null : items.get(projectName);
+		}
+		if (item != null && isValid(item, projectName)) {
+			return item;
+		}
+		return getProjectItems(tree).get(projectName);
+	}
+
+	/**
+	 * Gets root tree items of projects in specified tree in order in which they
+	 * are shown. Tree items are read again and the index of the tree is
+	 * replaced.
+	 *
+	 * @param tree explorer tree
+	 * @return unmodifiable map of project names to tree items
+	 */
+	public Map<String, TreeItem> getProjectItems(final Tree tree) {
+		Map<String, TreeItem> items = Display.syncExec(new ResultRunnable<Map<String, TreeItem>>() {
+
+			@Override
+			public Map<String, TreeItem> run() {
+				Map<String, TreeItem> result = new LinkedHashMap<String, TreeItem>();
+				if (tree.isDisposed()) {
+					return result;
+				}
+				for (TreeItem item : tree.getItems()) {
+					IProject project = getProject(item);
+					if (project != null) {
+						result.put(project.getName(), item);
+					}
+				}
+				return result;
+			}
+		});
+		log.debug("Indexed " + items.size() + " project tree items");
+		items = Collections.unmodifiableMap(items);
+		synchronized (this) {
+			treeItems.put(tree, items);
+		}
+		return items;
+	}
+
+	private static boolean isValid(final TreeItem item, final String projectName) {
+		return Display.syncExec(new ResultRunnable<Boolean>() {
+
+			@Override
+			public Boolean run() {
+				if (item.isDisposed()) {
+					return false;
+				}
+				IProject project = getProject(item);
+				return project != null && project.getName().equals(projectName);
+			}
+		});
+	}
+
+	/**
+	 * Gets project represented by a tree item, has to be called in the UI thread.
+	 */
+	private static IProject getProject(TreeItem item) {
+		Object data = item.getData();
+		if (data == null) {
+			return null;
+		}
+		IResource resource = Adapters.adapt(data, IResource.class);
+		return resource instanceof IProject ? (IProject) resource : null;
+	}
+
+	@Override
+	public void resourceChanged(IResourceChangeEvent event) {
+		IResourceDelta delta = event.getDelta();
+		if (delta == null) {
+			return;
+		}
+		for (IResourceDelta projectDelta : delta.getAffectedChildren()) {
+			if (projectDelta.getKind() != IResourceDelta.CHANGED
+					|| (projectDelta.getFlags() & (IResourceDelta.OPEN | IResourceDelta.DESCRIPTION)) != 0) {
+				invalidate();
+				return;
+			}
+		}
+	}
+
+	private synchronized void invalidate() {
+		projectNames = null;
+		treeItems.clear();
+	}
+}
@@ -12,6 +12,7 @@
 package org.eclipse.reddeer.eclipse.ui.problems;
 
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.reddeer.eclipse.ui.markers.AbstractMarker;
 import org.eclipse.reddeer.eclipse.ui.views.markers.ProblemsView;
@@ -50,6 +51,18 @@ public class Problem extends AbstractMarker {
 		this(ProblemType.fromString(problemType), item);
 	}
 	
+	/**
+	 * Constructs a new problem of specific problem type with already read cells.
+	 * 
+	 * @param problemType type of a problem [warning|error]
+	 * @param item tree item of a problem
+	 * @param cells texts of visible columns of a problem
+	 */
+	public Problem(String problemType, TreeItem item, Map<Column, String> cells) {
+		super(item, cells);
+		this.problemType = ProblemType.fromString(problemType);
+	}
+	
 	/**
 	 * Gets type of the problem. Currently either warning or error. There is also info but this feature is not 
 	 * supported yet.
@@ -13,9 +13,15 @@ package org.eclipse.reddeer.eclipse.ui.views.markers;
 
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.reddeer.common.exception.RedDeerException;
+import org.eclipse.reddeer.common.util.Display;
+import org.eclipse.reddeer.common.util.ResultRunnable;
+import org.eclipse.reddeer.common.wait.TimePeriod;
 import org.eclipse.reddeer.common.wait.WaitWhile;
 import org.eclipse.reddeer.eclipse.exception.EclipseLayerException;
 import org.eclipse.reddeer.eclipse.ui.markers.AbstractMarker;
@@ -30,7 +36,9 @@ import org.eclipse.reddeer.workbench.impl.menu.WorkbenchPartMenuItem;
 import org.eclipse.reddeer.swt.impl.shell.DefaultShell;
 import org.eclipse.reddeer.swt.impl.table.DefaultTable;
 import org.eclipse.reddeer.swt.impl.tree.DefaultTree;
+import org.eclipse.reddeer.swt.impl.tree.DefaultTreeItem;
 import org.eclipse.reddeer.workbench.impl.view.WorkbenchView;
+import org.eclipse.swt.widgets.TreeColumn;
 
 /**
  * Abstract view supporting markers. 
@@ -182,6 +190,9 @@ public class AbstractMarkersSupportView extends WorkbenchView {
 	
 	/**
 	 * Gets markers of any type matching specified matcher as a list of markers of specific class.
+	 * Header columns and cells of all markers of the specified type are read at once, markers
+	 * are created with these cells (see {@link AbstractMarker#AbstractMarker(TreeItem, Map)}) if 
+	 * the marker class provides a constructor with (String, TreeItem, Map) parameters.
 	 * 
 	 * @param <T> type of marker
 	 * @param clazz class of marker to get
@@ -191,59 +202,90 @@ public class AbstractMarkersSupportView extends WorkbenchView {
 	 */
 	protected <T extends AbstractMarker> List<T> getMarkers(Class<T> clazz, String markerType, AbstractMarkerMatcher... matchers) {
 		List<T> filteredResult = new ArrayList<T>();
-		List<TreeItem> markerItems = getAllSpecificMarkerItems(markerType);
-		if (markerItems != null) {
-			for (TreeItem markerItem: markerItems) {
-				if (matchMarkerTreeItem(markerItem, matchers)) {
-					try {
-						filteredResult.add(clazz.getConstructor(String.class, TreeItem.class).newInstance(
-								markerType, markerItem));
-					} catch (InstantiationException | IllegalAccessException | IllegalArgumentException
-							| InvocationTargetException | NoSuchMethodException | SecurityException e) {
-						// if something bad happen, print stack trace and throw RedDeer Exception 
-						e.printStackTrace();
-						throw new EclipseLayerException("Cannot create a new marker.");
-					}
-				}
+		TreeItem markerTypeItem = getSpecificMarkerTypeItem(markerType);
+		if (markerTypeItem == null) {
+			return filteredResult;
+		}
+		try {
+			markerTypeItem.expand(TimePeriod.SHORT);
+		} catch (RedDeerException ex) {
+			//if widget is disposed we can ignore it - problems disappeared
+			if (!markerTypeItem.isDisposed()) {
+				throw ex;
+			}
+			return filteredResult;
+		}
+		for (MarkerRow markerRow: getMarkerRows(markerTypeItem.getSWTWidget())) {
+			if (markerRow.matches(matchers)) {
+				filteredResult.add(createMarker(clazz, markerType, markerRow));
 			}
 		}
 		return filteredResult;
 	}
-
-	/** 
-	 * Matches a specific marker with provided matchers. 
-	 * @param item tree item of marker
-	 * @param matchers matchers to match marker
-	 * @return true if marker matches all provided matchers, false otherwise
+	
+	private <T extends AbstractMarker> T createMarker(Class<T> clazz, String markerType, MarkerRow markerRow) {
+		TreeItem markerItem = new DefaultTreeItem(markerRow.item);
+		try {
+			try {
+				return clazz.getConstructor(String.class, TreeItem.class, Map.class).newInstance(
+						markerType, markerItem, markerRow.cells);
+			} catch (NoSuchMethodException e) {
+				return clazz.getConstructor(String.class, TreeItem.class).newInstance(markerType, markerItem);
+			}
+		} catch (InstantiationException | IllegalAccessException | IllegalArgumentException
+				| InvocationTargetException | NoSuchMethodException | SecurityException e) {
+			// if something bad happen, print stack trace and throw RedDeer Exception 
+			e.printStackTrace();
+			throw new EclipseLayerException("Cannot create a new marker.");
+		}
+	}
+	
+	/**
+	 * Reads cells of all children of a marker type item in one UI thread access. 
+	 * Disposed items are skipped - problems disappeared.
+	 * 
+	 * @param markerTypeItem tree item of a marker type
+	 * @return rows of markers of specific type
 	 */
-	private boolean matchMarkerTreeItem(TreeItem item, AbstractMarkerMatcher... matchers) {
-		boolean itemFitsMatchers = true;
-		if(matchers != null){
-			for (AbstractMarkerMatcher matcher: matchers) {
-				try{
-					if (!matcher.matches(item.getCell(getIndexOfColumn(matcher.getColumn())))) {
-						itemFitsMatchers = false;
-						break;
+	private List<MarkerRow> getMarkerRows(final org.eclipse.swt.widgets.TreeItem markerTypeItem) {
+		return Display.syncExec(new ResultRunnable<List<MarkerRow>>() {
+
+			@Override
+			public List<MarkerRow> run() {
+				List<MarkerRow> rows = new ArrayList<MarkerRow>();
+				if (markerTypeItem.isDisposed()) {
+					return rows;
+				}
+				Map<Column, Integer> columnIndexes = new EnumMap<Column, Integer>(Column.class);
+				TreeColumn[] treeColumns = markerTypeItem.getParent().getColumns();
+				for (int i = 0; i < treeColumns.length; i++) {
+					for (Column column: Column.values()) {
+						if (column.toString().equals(treeColumns[i].getText())) {
+							columnIndexes.put(column, i);
+						}
 					}
-				} catch (RedDeerException ex){
-					//if widget is disposed we can ignore it - problem disappeared
-					if(!item.isDisposed()){
-						throw ex;
-					} else {
-						itemFitsMatchers = false;
+				}
+				for (org.eclipse.swt.widgets.TreeItem item: markerTypeItem.getItems()) {
+					if (item.isDisposed()) {
+						continue;
+					}
+					Map<Column, String> cells = new EnumMap<Column, String>(Column.class);
+					for (Map.Entry<Column, Integer> columnIndex: columnIndexes.entrySet()) {
+						cells.put(columnIndex.getKey(), item.getText(columnIndex.getValue()));
 					}
+					rows.add(new MarkerRow(item, cells));
 				}
+				return rows;
 			}
-		}
-		return itemFitsMatchers;
+		});
 	}
 	
 	/**
-	 * Gets a list of tree items of a specific marker type. If such type is not listed, return null.
+	 * Gets a tree item of a specific marker type. If such type is not listed, return null.
 	 * @param markerType type of a marker
-	 * @return list of markers of specific type or null if such type is not present (no such items)
+	 * @return tree item of a specific marker type or null if such type is not present (no such items)
 	 */
-	private List<TreeItem> getAllSpecificMarkerItems(String markerType) {
+	private TreeItem getSpecificMarkerTypeItem(String markerType) {
 		// suffix of marker type can be '(XX items)' or 'XXX of XXX items) 
 		String markerTypeSuffix = " \\(\\d+ .*\\)";
 		activate();
@@ -251,7 +293,7 @@ public class AbstractMarkersSupportView extends WorkbenchView {
 		for (TreeItem item: markerTypeItems) {
 			try {
 				if (item.getText().matches(markerType + markerTypeSuffix)) {
-					return item.getItems();
+					return item;
 				}
 			} catch (RedDeerException ex) {
 				//if widget is disposed we can ignore it - problem disappeared
@@ -265,6 +307,40 @@ public class AbstractMarkersSupportView extends WorkbenchView {
 		return null;
 	}
 	
+	/**
+	 * Row of a marker holding its tree item and texts of its visible columns.
+	 */
+	private static class MarkerRow {
+		
+		private final org.eclipse.swt.widgets.TreeItem item;
+		private final Map<Column, String> cells;
+		
+		private MarkerRow(org.eclipse.swt.widgets.TreeItem item, Map<Column, String> cells) {
+			this.item = item;
+			this.cells = Collections.unmodifiableMap(cells);
+		}
+		
+		/** 
+		 * Matches a marker row with provided matchers. 
+		 * @param matchers matchers to match marker
+		 * @return true if marker matches all provided matchers, false otherwise
+		 */
+		private boolean matches(AbstractMarkerMatcher... matchers) {
+			if (matchers != null) {
+				for (AbstractMarkerMatcher matcher: matchers) {
+					if (!cells.containsKey(matcher.getColumn())) {
+						throw new EclipseLayerException("Specified column " + matcher.getColumn() 
+							+ " is not presented in a tree of markers.");
+					}
+					if (!matcher.matches(cells.get(matcher.getColumn()))) {
+						return false;
+					}
+				}
+			}
+			return true;
+		}
+	}
+	
 	private Tree getViewTree(){
 		return new DefaultTree(cTabItem);
 	}
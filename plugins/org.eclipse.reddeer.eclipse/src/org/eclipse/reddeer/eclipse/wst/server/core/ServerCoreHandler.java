@@ -0,0 +1,312 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat, Inc - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.reddeer.eclipse.wst.server.core;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.reddeer.common.exception.WaitTimeoutExpiredException;
+import org.eclipse.reddeer.common.logging.Logger;
+import org.eclipse.reddeer.common.wait.TimePeriod;
+import org.eclipse.reddeer.eclipse.exception.EclipseLayerException;
+import org.eclipse.wst.server.core.IRuntime;
+import org.eclipse.wst.server.core.IServer;
+import org.eclipse.wst.server.core.IServerListener;
+import org.eclipse.wst.server.core.ServerCore;
+import org.eclipse.wst.server.core.ServerEvent;
+
+/**
+ * Server core handler handles servers and runtimes via WST server API, without
+ * Servers view or preference pages. State changes are awaited by server
+ * listeners, so the caller is woken up as soon as the server reaches the
+ * required state.
+ */
+public class ServerCoreHandler {
+
+	private static final Logger log = Logger.getLogger(ServerCoreHandler.class);
+
+	private static ServerCoreHandler instance;
+
+	/**
+	 * Gets instance of ServerCoreHandler.
+	 *
+	 * @return instance of ServerCoreHandler
+	 */
+	public static ServerCoreHandler getInstance() {
+		if (instance == null) {
+			instance = new ServerCoreHandler();
+		}
+		return instance;
+	}
+
+	/**
+	 * Finds a server with the specified name.
+	 *
+	 * @param name
+	 *            server name
+	 * @return server with the specified name or null if there is no such server
+	 */
+	public IServer getServer(String name) {
+		for (IServer server : ServerCore.getServers()) {
+			if (name.equals(server.getName())) {
+				return server;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Finds a runtime with the specified name.
+	 *
+	 * @param name
+	 *            runtime name
+	 * @return runtime with the specified name or null if there is no such runtime
+	 */
+	public IRuntime getRuntime(String name) {
+		for (IRuntime runtime : ServerCore.getRuntimes()) {
+			if (name.equals(runtime.getName())) {
+				return runtime;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Checks whether a server with the specified name exists.
+	 *
+	 * @param name
+	 *            server name
+	 * @return true if the server exists, false otherwise
+	 */
+	public boolean serverExists(String name) {
+		return getServer(name) != null;
+	}
+
+	/**
+	 * Starts the server in the specified launch mode (e.g. "run" or "debug") and
+	 * waits until it is started.
+	 *
+	 * @param server
+	 *            server to start
+	 * @param launchMode
+	 *            launch mode
+	 * @param timeout
+	 *            maximal time to wait for the server to start
+	 */
+	public void start(final IServer server, final String launchMode, TimePeriod timeout) {
+		log.debug("Starting server '" + server.getName() + "' in mode '" + launchMode + "'");
+		changeState(server, IServer.STATE_STARTED, launchMode, timeout, new ServerOperation() {
+
+			@Override
+			public void run(IServer.IOperationListener listener) {
+				server.start(launchMode, listener);
+			}
+		});
+	}
+
+	/**
+	 * Stops the server and waits until it is stopped.
+	 *
+	 * @param server
+	 *            server to stop
+	 * @param timeout
+	 *            maximal time to wait for the server to stop
+	 */
+	public void stop(final IServer server, TimePeriod timeout) {
+		log.debug("Stopping server '" + server.getName() + "'");
+		changeState(server, IServer.STATE_STOPPED, null, timeout, new ServerOperation() {
+
+			@Override
+			public void run(IServer.IOperationListener listener) {
+				server.stop(false, listener);
+			}
+		});
+	}
+
+	/**
+	 * Deletes the server. Running server is stopped first.
+	 *
+	 * @param server
+	 *            server to delete
+	 * @param timeout
+	 *            maximal time to wait for the server to stop
+	 */
+	public void delete(IServer server, TimePeriod timeout) {
+		if (server.getServerState() != IServer.STATE_STOPPED) {
+			stop(server, timeout);
+		}
+		log.debug("Deleting server '" + server.getName() + "'");
+		try {
+			server.delete();
+		} catch (CoreException e) {
+			throw new EclipseLayerException("Cannot delete server '" + server.getName() + "'", e);
+		}
+	}
+
+	/**
+	 * Deletes the runtime.
+	 *
+	 * @param runtime
+	 *            runtime to delete
+	 */
+	public void delete(IRuntime runtime) {
+		log.debug("Deleting runtime '" + runtime.getName() + "'");
+		try {
+			runtime.delete();
+		} catch (CoreException e) {
+			throw new EclipseLayerException("Cannot delete runtime '" + runtime.getName() + "'", e);
+		}
+	}
+
+	/**
+	 * Waits until the server has the specified state. If launch mode is not null
+	 * then the server has to run in this mode as well.
+	 *
+	 * @param server
+	 *            server
+	 * @param state
+	 *            one of IServer.STATE_* constants
+	 * @param launchMode
+	 *            launch mode or null if it does not matter
+	 * @param timeout
+	 *            maximal time to wait
+	 */
+	public void waitForState(IServer server, int state, String launchMode, TimePeriod timeout) {
+		changeState(server, state, launchMode, timeout, null);
+	}
+
+	/**
+	 * Waits until the server is not starting or stopping.
+	 *
+	 * @param server
+	 *            server
+	 * @param timeout
+	 *            maximal time to wait
+	 * @return stable state of the server, one of IServer.STATE_* constants
+	 */
+	public int waitForStableState(IServer server, TimePeriod timeout) {
+		final CountDownLatch latch = new CountDownLatch(1);
+		IServerListener listener = new IServerListener() {
+
+			@Override
+			public void serverChanged(ServerEvent event) {
+				if (isStable(event.getServer().getServerState())) {
+					latch.countDown();
+				}
+			}
+		};
+		server.addServerListener(listener);
+		try {
+			if (!isStable(server.getServerState()) && !latch.await(timeout.getSeconds(), TimeUnit.SECONDS)
+					&& !isStable(server.getServerState())) {
+				throw new WaitTimeoutExpiredException("Server '" + server.getName() + "' is still in state "
+						+ getStateName(server.getServerState()) + " after " + timeout.getSeconds() + " s");
+			}
+			return server.getServerState();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new EclipseLayerException("Interrupted while waiting for server '" + server.getName() + "'", e);
+		} finally {
+			server.removeServerListener(listener);
+		}
+	}
+
+	/**
+	 * Gets readable name of a server state.
+	 *
+	 * @param state
+	 *            one of IServer.STATE_* constants
+	 * @return name of the state
+	 */
+	public static String getStateName(int state) {
+		switch (state) {
+			case IServer.STATE_STARTING:
+				return "starting";
+			case IServer.STATE_STARTED:
+				return "started";
+			case IServer.STATE_STOPPING:
+				return "stopping";
+			case IServer.STATE_STOPPED:
+				return "stopped";
+			default:
+				return "unknown";
+		}
+	}
+
+	private static boolean isStable(int state) {
+		return state != IServer.STATE_STARTING && state != IServer.STATE_STOPPING;
+	}
+
+	private void changeState(IServer server, final int state, final String launchMode, TimePeriod timeout,
+			ServerOperation operation) {
+		final CountDownLatch latch = new CountDownLatch(1);
+		final AtomicReference<IStatus> result = new AtomicReference<IStatus>();
+		IServerListener listener = new IServerListener() {
+
+			@Override
+			public void serverChanged(ServerEvent event) {
+				if (hasState(event.getServer(), state, launchMode)) {
+					latch.countDown();
+				}
+			}
+		};
+		server.addServerListener(listener);
+		try {
+			if (operation != null && !hasState(server, state, launchMode)) {
+				operation.run(new IServer.IOperationListener() {
+
+					@Override
+					public void done(IStatus status) {
+						if (!status.isOK()) {
+							result.set(status);
+							latch.countDown();
+						}
+					}
+				});
+			}
+			if (hasState(server, state, launchMode)) {
+				return;
+			}
+			if (!latch.await(timeout.getSeconds(), TimeUnit.SECONDS) && !hasState(server, state, launchMode)) {
+				throw new WaitTimeoutExpiredException("Server '" + server.getName() + "' did not reach state "
+						+ getStateName(state) + " in " + timeout.getSeconds() + " s");
+			}
+			IStatus status = result.get();
+			if (status != null && !hasState(server, state, launchMode)) {
+				throw new EclipseLayerException("Cannot change state of server '" + server.getName() + "': "
+						+ status.getMessage(), status.getException());
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new EclipseLayerException("Interrupted while waiting for server '" + server.getName() + "'", e);
+		} finally {
+			server.removeServerListener(listener);
+		}
+	}
+
+	private static boolean hasState(IServer server, int state, String launchMode) {
+		return server.getServerState() == state && (launchMode == null || launchMode.equals(server.getMode()));
+	}
+
+	/**
+	 * Asynchronous server operation reporting its result to an operation
+	 * listener.
+	 */
+	private interface ServerOperation {
+
+		void run(IServer.IOperationListener listener);
+	}
+
+}
@@ -30,6 +30,7 @@ import org.eclipse.reddeer.graphiti.GraphitiLayerException;
 import org.eclipse.reddeer.graphiti.api.ContextButton;
 import org.eclipse.reddeer.graphiti.impl.contextbutton.internal.BasicContextButton;
 import org.eclipse.reddeer.graphiti.lookup.DiagramEditorLookup;
+import org.eclipse.reddeer.graphiti.lookup.GraphitiEditPartIndex;
 
 /**
  * Handler for Graphiti UI operations.
@@ -55,14 +56,24 @@ public class GraphitiEditPartHandler {
 	}
 
 	/**
-	 * Returns list of context buttons of the specified edit part.
+	 * Returns list of context buttons of the specified edit part. Context
+	 * buttons are cached until the selection or the diagram changes.
 	 * 
 	 * @param editPart
 	 *            Edit part
 	 * @return List of context buttons
 	 */
 	public List<ContextButton> getContextButtons(final org.eclipse.gef.EditPart editPart) {
-		return getContextButtons(DiagramEditorLookup.getInstance().findDiagramEditor(), editPart);
+		final org.eclipse.graphiti.ui.editor.DiagramEditor diagramEditor = DiagramEditorLookup.getInstance()
+				.findDiagramEditor();
+		return GraphitiEditPartIndex.getInstance().getContextButtons(diagramEditor, editPart,
+				new ResultRunnable<List<ContextButton>>() {
+
+					@Override
+					public List<ContextButton> run() {
+						return getContextButtons(diagramEditor, editPart);
+					}
+				});
 	}
 
 	private List<ContextButton> getContextButtons(final org.eclipse.graphiti.ui.editor.DiagramEditor diagramEditor,
@@ -11,10 +11,23 @@
  *******************************************************************************/
 package org.eclipse.reddeer.graphiti.impl.graphitieditpart;
 
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.gef.EditPart;
+import org.eclipse.graphiti.ui.editor.DiagramEditor;
+import org.eclipse.reddeer.gef.GEFLayerException;
+import org.eclipse.reddeer.gef.comparator.ChainedComparator;
+import org.eclipse.reddeer.gef.comparator.ChildrenComparator;
+import org.eclipse.reddeer.gef.comparator.PositionComparator;
+import org.eclipse.reddeer.gef.lookup.EditPartLookup;
 import org.eclipse.reddeer.gef.matcher.IsEditPartWithLabel;
+import org.eclipse.reddeer.graphiti.lookup.DiagramEditorLookup;
+import org.eclipse.reddeer.graphiti.lookup.GraphitiEditPartIndex;
 
 /**
- * Graphiti EditPart implementation which is looking for a given label inside the edit part.
+ * Graphiti EditPart implementation which is looking for a given label inside the edit part. In a diagram editor the
+ * edit part is found by {@link GraphitiEditPartIndex}.
  * 
  * @author Andrej Podhradsky (andrej.podhradsky@gmail.com)
  * 
@@ -40,7 +53,30 @@ public class LabeledGraphitiEditPart extends AbstractGraphitiEditPart {
 	 *            Index
 	 */
 	public LabeledGraphitiEditPart(String label, int index) {
-		super(new IsEditPartWithLabel(label), index);
+		super(findEditPart(label, index));
+	}
+
+	private static EditPart findEditPart(String label, int index) {
+		ChainedComparator<EditPart> comparator = new ChainedComparator<EditPart>(new ChildrenComparator(),
+				new PositionComparator());
+		DiagramEditor diagramEditor;
+		try {
+			diagramEditor = DiagramEditorLookup.getInstance().findDiagramEditor();
+		} catch (GEFLayerException ex) {
+			// not a diagram editor, search all edit parts
+			return EditPartLookup.getInstance().findEditPart(new IsEditPartWithLabel(label), index, comparator);
+		}
+		List<EditPart> editParts = GraphitiEditPartIndex.getInstance().getEditPartsWithLabel(diagramEditor, label);
+		if (index >= editParts.size()) {
+			// another edit part could get the label without any notification
+			editParts = GraphitiEditPartIndex.getInstance().getEditPartsWithLabel(diagramEditor, label, true);
+		}
+		if (index >= editParts.size()) {
+			throw new GEFLayerException(
+					"Cannot find edit part with matcher " + new IsEditPartWithLabel(label) + " at index " + index);
+		}
+		Collections.sort(editParts, comparator);
+		return editParts.get(index);
 	}
 
 }
@@ -0,0 +1,417 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat, Inc - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.reddeer.graphiti.lookup;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.draw2d.IFigure;
+import org.eclipse.draw2d.Label;
+import org.eclipse.draw2d.text.TextFlow;
+import org.eclipse.emf.transaction.ResourceSetChangeEvent;
+import org.eclipse.emf.transaction.ResourceSetListener;
+import org.eclipse.emf.transaction.ResourceSetListenerImpl;
+import org.eclipse.emf.transaction.TransactionalEditingDomain;
+import org.eclipse.gef.EditPart;
+import org.eclipse.gef.EditPartListener;
+import org.eclipse.gef.GraphicalEditPart;
+import org.eclipse.gef.GraphicalViewer;
+import org.eclipse.graphiti.mm.pictograms.PictogramElement;
+import org.eclipse.graphiti.ui.editor.DiagramEditor;
+import org.eclipse.jface.viewers.ISelectionChangedListener;
+import org.eclipse.jface.viewers.SelectionChangedEvent;
+import org.eclipse.reddeer.common.logging.Logger;
+import org.eclipse.reddeer.common.util.Display;
+import org.eclipse.reddeer.common.util.ResultRunnable;
+import org.eclipse.reddeer.gef.finder.EditPartFinder;
+import org.eclipse.reddeer.gef.finder.FigureFinder;
+import org.eclipse.reddeer.gef.matcher.IsEditPartWithLabel;
+import org.eclipse.reddeer.graphiti.api.ContextButton;
+import org.eclipse.swt.events.DisposeEvent;
+import org.eclipse.swt.events.DisposeListener;
+import org.hamcrest.BaseMatcher;
+import org.hamcrest.core.IsInstanceOf;
+
+/**
+ * Graphiti edit part index resolves edit parts of a diagram editor without
+ * scanning all edit parts of its graphical viewer. Edit parts of pictogram
+ * elements and business objects are taken from the edit part registry of the
+ * viewer. Edit parts with a label are kept in an index which is built in one UI
+ * thread access and rebuilt on the next lookup after an edit part is added or
+ * removed or after a transaction on the diagram model is committed. Context
+ * buttons are cached per edit part until the selection of the viewer changes
+ * or the diagram model changes.<br>
+ * <br>
+ * Listeners are added to a diagram editor on its first lookup and the editor
+ * is forgotten when its viewer is disposed.
+ */
+public class GraphitiEditPartIndex {
+
+	private static final Logger log = Logger.getLogger(GraphitiEditPartIndex.class);
+
+	private static GraphitiEditPartIndex instance;
+
+	private final Map<DiagramEditor, DiagramState> states = new HashMap<DiagramEditor, DiagramState>();
+
+	private GraphitiEditPartIndex() {
+
+	}
+
+	/**
+	 * Gets instance of GraphitiEditPartIndex.
+	 *
+	 * @return GraphitiEditPartIndex instance
+	 */
+	public static synchronized GraphitiEditPartIndex getInstance() {
+		if (instance == null) {
+			instance = new GraphitiEditPartIndex();
+		}
+		return instance;
+	}
+
+	/**
+	 * Gets edit part of specified pictogram element.
+	 *
+	 * @param diagramEditor diagram editor
+	 * @param pictogramElement pictogram element
+	 * @return edit part of the pictogram element or null if it has no edit part
+	 */
+	public EditPart getEditPart(DiagramEditor diagramEditor, final PictogramElement pictogramElement) {
+		final GraphicalViewer viewer = getState(diagramEditor).viewer;
+		return Display.syncExec(new ResultRunnable<EditPart>() {
+
+			@Override
+			public EditPart run() {
+				return (EditPart) viewer.getEditPartRegistry().get(pictogramElement);
+			}
+		});
+	}
+
+	/**
+	 * Gets edit parts of pictogram elements linked to specified business
+	 * object.
+	 *
+	 * @param diagramEditor diagram editor
+	 * @param businessObject business object
+	 * @return edit parts of the business object
+	 */
+	public List<EditPart> getEditParts(final DiagramEditor diagramEditor, final Object businessObject) {
+		final GraphicalViewer viewer = getState(diagramEditor).viewer;
+		return Display.syncExec(new ResultRunnable<List<EditPart>>() {
+
+			@Override
+			public List<EditPart> run() {
+				List<EditPart> editParts = new ArrayList<EditPart>();
+				PictogramElement[] pictogramElements = diagramEditor.getDiagramTypeProvider().getFeatureProvider()
+						.getAllPictogramElementsForBusinessObject(businessObject);
+				for (PictogramElement pictogramElement : pictogramElements) {
+					EditPart editPart = (EditPart) viewer.getEditPartRegistry().get(pictogramElement);
+					if (editPart != null) {
+						editParts.add(editPart);
+					}
+				}
+				return editParts;
+			}
+		});
+	}
+
+	/**
+	 * Gets edit parts containing a label with specified text, i.e. edit parts
+	 * matched by {@link IsEditPartWithLabel}. Edit parts are returned in the
+	 * order of the edit part tree traversal. Edit parts found in the index are
+	 * verified and the index is rebuilt if any of them does not match anymore
+	 * or if there is no such edit part, because a label can be changed without
+	 * a model transaction.
+	 *
+	 * @param diagramEditor diagram editor
+	 * @param label text of a label
+	 * @return edit parts with the label
+	 */
+	public List<EditPart> getEditPartsWithLabel(DiagramEditor diagramEditor, String label) {
+		return getEditPartsWithLabel(diagramEditor, label, false);
+	}
+
+	/**
+	 * Gets edit parts containing a label with specified text, see
+	 * {@link #getEditPartsWithLabel(DiagramEditor, String)}. The index can be
+	 * rebuilt on demand, e.g. when fewer edit parts are found than expected,
+	 * because a label can be added to another edit part without a model
+	 * transaction.
+	 *
+	 * @param diagramEditor diagram editor
+	 * @param label text of a label
+	 * @param rebuild whether the index should be rebuilt before the lookup
+	 * @return edit parts with the label
+	 */
+	public List<EditPart> getEditPartsWithLabel(DiagramEditor diagramEditor, String label, boolean rebuild) {
+		DiagramState state = getState(diagramEditor);
+		if (rebuild) {
+			List<EditPart> rebuiltEditParts = state.getLabelIndex(true).get(label);
+			return rebuiltEditParts == null ? new ArrayList<EditPart>() : new ArrayList<EditPart>(rebuiltEditParts);
+		}
+		final IsEditPartWithLabel matcher = new IsEditPartWithLabel(label);
+		final List<EditPart> editParts = state.getLabelIndex(false).get(label);
+		boolean valid = editParts != null && Display.syncExec(new ResultRunnable<Boolean>() {
+
+			@Override
+			public Boolean run() {
+				for (EditPart editPart : editParts) {
+					if (!editPart.isActive() || !matcher.matches(editPart)) {
+						return false;
+					}
+				}
+				return true;
+			}
+		});
+		if (valid) {
+			return new ArrayList<EditPart>(editParts);
+		}
+		List<EditPart> rebuiltEditParts = state.getLabelIndex(true).get(label);
+		return rebuiltEditParts == null ? new ArrayList<EditPart>() : new ArrayList<EditPart>(rebuiltEditParts);
+	}
+
+	/**
+	 * Gets cached context buttons of specified edit part. If there are no cached
+	 * context buttons, they are provided by specified runnable and cached until
+	 * the selection of the viewer or the diagram model changes.
+	 *
+	 * @param diagramEditor diagram editor
+	 * @param editPart edit part
+	 * @param provider runnable providing context buttons of the edit part
+	 * @return context buttons of the edit part
+	 */
+	public List<ContextButton> getContextButtons(DiagramEditor diagramEditor, EditPart editPart,
+			ResultRunnable<List<ContextButton>> provider) {
+		DiagramState state = getState(diagramEditor);
+		long generation;
+		synchronized (state) {
+			List<ContextButton> contextButtons = state.contextButtons.get(editPart);
+			if (contextButtons != null) {
+				return contextButtons;
+			}
+			generation = state.contextButtonsGeneration;
+		}
+		List<ContextButton> contextButtons = provider.run();
+		synchronized (state) {
+			// selection could change while the buttons were being provided
+			if (generation == state.contextButtonsGeneration) {
+				state.contextButtons.put(editPart, contextButtons);
+			}
+		}
+		return contextButtons;
+	}
+
+	private DiagramState getState(final DiagramEditor diagramEditor) {
+		synchronized (states) {
+			DiagramState state = states.get(diagramEditor);
+			if (state != null) {
+				return state;
+			}
+		}
+		// state is created in the UI thread, so listeners are added only once
+		return Display.syncExec(new ResultRunnable<DiagramState>() {
+
+			@Override
+			public DiagramState run() {
+				synchronized (states) {
+					DiagramState state = states.get(diagramEditor);
+					if (state == null) {
+						state = new DiagramState(diagramEditor);
+						states.put(diagramEditor, state);
+					}
+					return state;
+				}
+			}
+		});
+	}
+
+	private void removeState(DiagramEditor diagramEditor) {
+		synchronized (states) {
+			states.remove(diagramEditor);
+		}
+	}
+
+	/**
+	 * Index and caches of one diagram editor together with listeners keeping
+	 * them fresh.
+	 */
+	private class DiagramState {
+
+		private final GraphicalViewer viewer;
+		private final AtomicLong version = new AtomicLong();
+		private volatile LabelIndex labelIndex;
+		private final Map<EditPart, List<ContextButton>> contextButtons = new IdentityHashMap<EditPart, List<ContextButton>>();
+		private long contextButtonsGeneration;
+
+		private final EditPartListener editPartListener = new EditPartListener.Stub() {
+
+			@Override
+			public void childAdded(EditPart child, int index) {
+				addEditPartListener(child);
+				invalidate();
+			}
+
+			@Override
+			public void removingChild(EditPart child, int index) {
+				removeEditPartListener(child);
+				invalidate();
+			}
+		};
+
+		private final ResourceSetListener modelListener = new ResourceSetListenerImpl() {
+
+			@Override
+			public boolean isPostcommitOnly() {
+				return true;
+			}
+
+			@Override
+			public void resourceSetChanged(ResourceSetChangeEvent event) {
+				invalidate();
+			}
+		};
+
+		/**
+		 * Has to be called in the UI thread.
+		 */
+		private DiagramState(final DiagramEditor diagramEditor) {
+			viewer = (GraphicalViewer) diagramEditor.getAdapter(GraphicalViewer.class);
+			final TransactionalEditingDomain editingDomain = diagramEditor.getEditingDomain();
+			addEditPartListener(viewer.getContents());
+			editingDomain.addResourceSetListener(modelListener);
+			viewer.addSelectionChangedListener(new ISelectionChangedListener() {
+
+				@Override
+				public void selectionChanged(SelectionChangedEvent event) {
+					clearContextButtons();
+				}
+			});
+			viewer.getControl().addDisposeListener(new DisposeListener() {
+
+				@Override
+				public void widgetDisposed(DisposeEvent e) {
+					editingDomain.removeResourceSetListener(modelListener);
+					removeState(diagramEditor);
+				}
+			});
+			log.debug("Graphiti edit part index installed for diagram editor " + diagramEditor.getTitle());
+		}
+
+		private Map<String, List<EditPart>> getLabelIndex(boolean rebuild) {
+			LabelIndex currentIndex = labelIndex;
+			if (!rebuild && currentIndex != null && currentIndex.version == version.get()) {
+				return currentIndex.editParts;
+			}
+			currentIndex = Display.syncExec(new ResultRunnable<LabelIndex>() {
+
+				@Override
+				public LabelIndex run() {
+					// edit parts and model are changed in the UI thread, thus
+					// version cannot change while labels are being read
+					return new LabelIndex(version.get(), viewer.getContents());
+				}
+			});
+			labelIndex = currentIndex;
+			return currentIndex.editParts;
+		}
+
+		private void invalidate() {
+			version.incrementAndGet();
+			clearContextButtons();
+		}
+
+		private synchronized void clearContextButtons() {
+			contextButtonsGeneration++;
+			contextButtons.clear();
+		}
+
+		@SuppressWarnings("unchecked")
+		private void addEditPartListener(EditPart editPart) {
+			if (editPart == null) {
+				return;
+			}
+			// listener is added at most once to every edit part
+			editPart.removeEditPartListener(editPartListener);
+			editPart.addEditPartListener(editPartListener);
+			for (EditPart child : (List<EditPart>) editPart.getChildren()) {
+				addEditPartListener(child);
+			}
+		}
+
+		@SuppressWarnings("unchecked")
+		private void removeEditPartListener(EditPart editPart) {
+			editPart.removeEditPartListener(editPartListener);
+			for (EditPart child : (List<EditPart>) editPart.getChildren()) {
+				removeEditPartListener(child);
+			}
+		}
+	}
+
+	/**
+	 * Edit parts of a diagram mapped by texts of their labels at one moment.
+	 */
+	private static class LabelIndex {
+
+		private final long version;
+		private final Map<String, List<EditPart>> editParts = new HashMap<String, List<EditPart>>();
+
+		private LabelIndex(long version, EditPart root) {
+			this.version = version;
+			List<EditPart> allEditParts = new EditPartFinder().find(root, new BaseMatcher<EditPart>() {
+
+				@Override
+				public boolean matches(Object item) {
+					return true;
+				}
+
+				@Override
+				public void describeTo(org.hamcrest.Description description) {
+					description.appendText("any edit part");
+				}
+			});
+			for (EditPart editPart : allEditParts) {
+				for (String label : getLabels(editPart)) {
+					List<EditPart> labeledEditParts = editParts.get(label);
+					if (labeledEditParts == null) {
+						labeledEditParts = new ArrayList<EditPart>();
+						editParts.put(label, labeledEditParts);
+					}
+					labeledEditParts.add(editPart);
+				}
+			}
+		}
+
+		/**
+		 * Gets texts of labels and text flows the same way as
+		 * {@link IsEditPartWithLabel} does.
+		 */
+		private static Set<String> getLabels(EditPart editPart) {
+			Set<String> labels = new LinkedHashSet<String>();
+			if (editPart instanceof GraphicalEditPart && ((GraphicalEditPart) editPart).isSelectable()) {
+				IFigure figure = ((GraphicalEditPart) editPart).getFigure();
+				for (IFigure label : new FigureFinder().find(figure, new IsInstanceOf(Label.class))) {
+					labels.add(((Label) label).getText());
+				}
+				for (IFigure textFlow : new FigureFinder().find(figure, new IsInstanceOf(TextFlow.class))) {
+					labels.add(((TextFlow) textFlow).getText());
+				}
+			}
+			return labels;
+		}
+	}
+}
@@ -11,6 +11,8 @@
  *******************************************************************************/
 package org.eclipse.reddeer.jdt.junit;
 
+import java.lang.management.ManagementFactory;
+
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IConfigurationElement;
@@ -20,6 +22,8 @@ import org.eclipse.core.runtime.Platform;
 import org.eclipse.equinox.app.IApplication;
 import org.eclipse.equinox.app.IApplicationContext;
 import org.eclipse.reddeer.common.exception.RedDeerException;
+import org.eclipse.reddeer.common.logging.Logger;
+import org.eclipse.reddeer.common.properties.RedDeerProperties;
 import org.eclipse.ui.PlatformUI;
 import org.eclipse.ui.testing.ITestHarness;
 import org.eclipse.ui.testing.TestableObject;
@@ -33,8 +37,15 @@ import org.eclipse.ui.testing.TestableObject;
  */
 public class UITestApplication implements IApplication, ITestHarness {
 
+	/**
+	 * System property with time in milliseconds when the test JVM was launched by RedDeer launcher.
+	 */
+	public static final String LAUNCH_TIME_PROPERTY = "rd.internal.launchTime"; //$NON-NLS-1$
+
 	private static final String DEFAULT_APP_3_0 = "org.eclipse.ui.ide.workbench"; //$NON-NLS-1$
 
+	private static final Logger log = Logger.getLogger(UITestApplication.class);
+
 	private TestableObject fTestableObject;
 	private IApplication fApplication;
 
@@ -129,8 +140,24 @@ public class UITestApplication implements IApplication, ITestHarness {
 	 * @see org.eclipse.ui.testing.ITestHarness#runTests()
 	 */
 	public void runTests() {
+		reportStartupTime();
 		fTestableObject.testingStarting();
 		RemotePluginTestRunner.main(Platform.getCommandLineArgs());
 		fTestableObject.testingFinished();
 	}
+
+	private void reportStartupTime() {
+		String launchTime = System.getProperty(LAUNCH_TIME_PROPERTY);
+		if (launchTime == null) {
+			return;
+		}
+		try {
+			long startupTime = System.currentTimeMillis() - Long.parseLong(launchTime);
+			long jvmUptime = ManagementFactory.getRuntimeMXBean().getUptime();
+			log.info("Eclipse started in " + startupTime + " ms since launch, JVM uptime " + jvmUptime
+					+ " ms, JVM profile '" + RedDeerProperties.JVM_PROFILE.getValue() + "'");
+		} catch (NumberFormatException e) {
+			log.warn("Cannot report startup time, launch time is not a number: " + launchTime);
+		}
+	}
 }
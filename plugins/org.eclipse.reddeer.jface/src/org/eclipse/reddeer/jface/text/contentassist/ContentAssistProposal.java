@@ -0,0 +1,61 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat, Inc - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.reddeer.jface.text.contentassist;
+
+/**
+ * Content assist proposal read from a table of proposals. It holds a text and
+ * an index of the proposal in the table at the moment of reading.
+ */
+public class ContentAssistProposal {
+
+	private final int index;
+	private final String text;
+	private final boolean hasImage;
+
+	ContentAssistProposal(int index, String text, boolean hasImage) {
+		this.index = index;
+		this.text = text;
+		this.hasImage = hasImage;
+	}
+
+	/**
+	 * Gets index of the proposal in a table of proposals.
+	 *
+	 * @return index of the proposal
+	 */
+	public int getIndex() {
+		return index;
+	}
+
+	/**
+	 * Gets text of the proposal.
+	 *
+	 * @return text of the proposal
+	 */
+	public String getText() {
+		return text;
+	}
+
+	/**
+	 * Finds out whether the proposal has an image.
+	 *
+	 * @return true if the proposal has an image, false otherwise
+	 */
+	public boolean hasImage() {
+		return hasImage;
+	}
+
+	@Override
+	public String toString() {
+		return index + ": " + text;
+	}
+}
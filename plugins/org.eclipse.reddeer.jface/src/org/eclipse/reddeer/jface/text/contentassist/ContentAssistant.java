@@ -14,13 +14,18 @@ package org.eclipse.reddeer.jface.text.contentassist;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.hamcrest.Matcher;
 import org.eclipse.reddeer.common.logging.Logger;
+import org.eclipse.reddeer.common.util.Display;
+import org.eclipse.reddeer.common.util.ResultRunnable;
+import org.eclipse.reddeer.common.wait.TimePeriod;
+import org.eclipse.reddeer.common.wait.WaitUntil;
 import org.eclipse.reddeer.common.wait.WaitWhile;
 import org.eclipse.reddeer.core.handler.TableItemHandler;
 import org.eclipse.reddeer.core.lookup.ShellLookup;
 import org.eclipse.reddeer.swt.api.Table;
-import org.eclipse.reddeer.swt.api.TableItem;
 import org.eclipse.reddeer.swt.condition.ShellIsAvailable;
+import org.eclipse.reddeer.swt.condition.TableHasRows;
 import org.eclipse.reddeer.swt.impl.shell.AbstractShell;
 
 /**
@@ -53,13 +58,56 @@ public class ContentAssistant extends AbstractShell{
 		log.debug("Getting content assist proposals");
 		List<String> proposals = new ArrayList<String>();
 		log.debug("Content assist proposals:");
-		for(TableItem i: contentAssistTable.getItems()){
-			String text = i.getText();
-			log.debug("  "+text);
-			proposals.add(text);
+		for (ContentAssistProposal proposal: getProposalSnapshot()) {
+			log.debug("  "+proposal.getText());
+			proposals.add(proposal.getText());
 		}
 		return proposals;
-	} 
+	}
+	
+	/**
+	 * Returns content assist proposals matching given matcher. Proposals are
+	 * read at once and filtered outside of UI thread.
+	 *
+	 * @param matcher matcher of proposal text
+	 * @return list of matching proposals
+	 */
+	public List<ContentAssistProposal> getProposals(Matcher<String> matcher){
+		List<ContentAssistProposal> proposals = new ArrayList<ContentAssistProposal>();
+		for (ContentAssistProposal proposal: getProposalSnapshot()) {
+			if (matcher.matches(proposal.getText())) {
+				proposals.add(proposal);
+			}
+		}
+		return proposals;
+	}
+	
+	/**
+	 * Returns all content assist proposals in order in which they are shown.
+	 * All proposals are read in one UI thread access.
+	 *
+	 * @return list of proposals
+	 */
+	public List<ContentAssistProposal> getProposalSnapshot(){
+		new WaitUntil(new TableHasRows(contentAssistTable), TimePeriod.SHORT, false);
+		final org.eclipse.swt.widgets.Table table = contentAssistTable.getSWTWidget();
+		return Display.syncExec(new ResultRunnable<List<ContentAssistProposal>>() {
+
+			@Override
+			public List<ContentAssistProposal> run() {
+				List<ContentAssistProposal> proposals = new ArrayList<ContentAssistProposal>();
+				if (table.isDisposed()) {
+					return proposals;
+				}
+				int count = table.getItemCount();
+				for (int i = 0; i < count; i++) {
+					org.eclipse.swt.widgets.TableItem item = table.getItem(i);
+					proposals.add(new ContentAssistProposal(i, item.getText(), item.getImage() != null));
+				}
+				return proposals;
+			}
+		});
+	}
 	
 	/**
 	 * Selects given proposal.
@@ -71,6 +119,26 @@ public class ContentAssistant extends AbstractShell{
 		TableItemHandler.getInstance().setDefaultSelection(contentAssistTable.getItem(proposal).getSWTWidget());
 		new WaitWhile(new ShellIsAvailable(this));
 	}
+	
+	/**
+	 * Selects given proposal.
+	 *
+	 * @param proposal proposal to select
+	 */
+	public void chooseProposal(ContentAssistProposal proposal){
+		chooseProposal(proposal.getIndex());
+	}
+	
+	/**
+	 * Selects proposal with given index.
+	 *
+	 * @param index index of proposal to select
+	 */
+	public void chooseProposal(int index){
+		log.debug("Choose content assist proposal with index " + index);
+		TableItemHandler.getInstance().setDefaultSelection(contentAssistTable.getItem(index).getSWTWidget());
+		new WaitWhile(new ShellIsAvailable(this));
+	}
 
 }
 
@@ -12,13 +12,11 @@
 package org.eclipse.reddeer.junit.extension.before.test.impl;
 
 import org.eclipse.core.runtime.Platform;
-import org.eclipse.reddeer.common.exception.RedDeerException;
 import org.eclipse.reddeer.common.logging.Logger;
 import org.eclipse.reddeer.common.properties.RedDeerProperties;
-import org.eclipse.reddeer.eclipse.m2e.core.ui.preferences.MavenPreferencePage;
+import org.eclipse.reddeer.direct.preferences.PreferencesUtil;
 import org.eclipse.reddeer.junit.extension.ExtensionPriority;
 import org.eclipse.reddeer.junit.extensionpoint.IBeforeTest;
-import org.eclipse.reddeer.workbench.ui.dialogs.WorkbenchPreferenceDialog;
 import org.junit.runners.model.FrameworkMethod;
 import org.junit.runners.model.TestClass;
 
@@ -54,41 +52,21 @@ public class DoNotDownloadMavenIndexesExt implements IBeforeTest {
 	}
 
 	/** 
-	 * Disables downloading Maven repo indexes on startup.
+	 * Disables downloading Maven repo indexes on startup. The preference is
+	 * stored directly, Maven preference page is not opened.
 	 */
 	private void disableMavenDownloadRepoIndexOnStartup() {
-		String updateIndexesPreferenceString = Platform
-				.getPreferencesService()
-				.getString("org.eclipse.m2e.core", "eclipse.m2.updateIndexes",
-						"true", null);
-
 		// Maven is not installed
-		if (updateIndexesPreferenceString == null) {
+		if (Platform.getBundle(PreferencesUtil.MAVEN_PLUGIN) == null) {
 			return;
 		}
 
 		// It is already disabled
-		if (updateIndexesPreferenceString.equalsIgnoreCase("false")){
+		if (!PreferencesUtil.isMavenDownloadRepoIndexOnStartup()) {
 			return;
 		}
 
-		log.debug("Trying to disable downloading maven repo indexes on startup "
-				+ "via Windows > Preferences > Maven");
-
-		WorkbenchPreferenceDialog preferencesDialog = new WorkbenchPreferenceDialog();
-		MavenPreferencePage mavenPreferencePage = new MavenPreferencePage(preferencesDialog);
-
-		preferencesDialog.open();
-		try {
-			preferencesDialog.select(mavenPreferencePage);
-		} catch (RedDeerException e){
-			// Maven is not installed
-			preferencesDialog.cancel();
-			return;
-		}
-		mavenPreferencePage.setDownloadRepoIndexOnStartup(false);
-		preferencesDialog.ok();
-		
+		PreferencesUtil.setMavenDownloadRepoIndexOnStartup(false);
 		log.debug("Downloading maven repo indexes on startup disabled");
 	}
 
@@ -12,22 +12,27 @@
 package org.eclipse.reddeer.junit.internal.configuration;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.eclipse.reddeer.common.exception.RedDeerException;
 import org.eclipse.reddeer.junit.annotation.AnnotationUtils;
 import org.eclipse.reddeer.junit.annotation.RequirementRestriction;
 import org.eclipse.reddeer.junit.internal.requirement.RequirementHelper;
-import org.eclipse.reddeer.junit.requirement.ConfigurableRequirement;
-import org.eclipse.reddeer.junit.requirement.Requirement;
+import org.eclipse.reddeer.junit.internal.requirement.RequirementMetadata;
+import org.eclipse.reddeer.junit.internal.requirement.RequirementMetadata.RequirementDeclaration;
 import org.eclipse.reddeer.junit.requirement.configuration.MissingRequirementConfiguration;
 import org.eclipse.reddeer.junit.requirement.configuration.RequirementConfiguration;
 import org.eclipse.reddeer.junit.requirement.matcher.RequirementMatcher;
@@ -84,24 +89,23 @@ public class SuiteConfiguration {
 	 *            top level suite class, run by JUnit core runner.
 	 * @throws InitializationError
 	 */
-	@SuppressWarnings("rawtypes")
 	private void createTestSuites(Class<?> suiteClass) throws InitializationError {
 		if (suiteClass == null) {
 			throw new InitializationError("Suite class given is null");
 		}
 		List<Class<?>> testClasses = getTestClasses(suiteClass);
 		for (Class<?> clazz : testClasses) {
-			List<Requirement<?>> requirements = RequirementHelper.getRequirements(clazz);
 			List<List<RequirementConfiguration>> requirementConfigurationsLists = new ArrayList<>();
 			boolean shouldHaveConfig = false;
 			Collection<RequirementMatcher> matchers = getRequirementRestrictions(clazz);
 			checkMatchersAreValid(matchers);
-			for (Requirement<?> requirement : requirements) {
-				if (ConfigurableRequirement.class.isAssignableFrom(requirement.getClass())) {
+			// requirements are not instantiated here, they are created when the suite runs
+			for (RequirementDeclaration declaration : RequirementMetadata.getMetadata(clazz).getDeclarations()) {
+				if (declaration.isConfigurable()) {
 					shouldHaveConfig = true;
-					requirementConfigurationsLists
-							.add(RequirementHelper.getRequirementConfigurations((ConfigurableRequirement) requirement,
-									matchers));
+					requirementConfigurationsLists.add(RequirementHelper.getRequirementConfigurations(
+							declaration.getAnnotation().annotationType(), declaration.getConfigurationClass(),
+							matchers));
 				}
 			}
 			if (shouldHaveConfig  && requirementConfigurationsLists.get(0).isEmpty()) {
@@ -111,12 +115,11 @@ public class SuiteConfiguration {
 			} else if (requirementConfigurationsLists.isEmpty()) {
 				updateMap(new RequirementConfigurationSet(), clazz);
 			} else {
-				for (List<RequirementConfiguration> configurationList : getCartesianProduct(
-						requirementConfigurationsLists)) {
+				getCartesianProduct(requirementConfigurationsLists).forEach(configurationList -> {
 					Set<RequirementConfiguration> configSet = new HashSet<>();
 					configSet.addAll(configurationList);
 					updateMap(new RequirementConfigurationSet(configSet), clazz);
-				}
+				});
 			}
 		}
 	}
@@ -153,42 +156,55 @@ public class SuiteConfiguration {
 	}
 
 	private void updateMap(RequirementConfigurationSet requirementConfigurationSet, Class<?> clazz) {
-		if (configurationSetSuites.containsKey(requirementConfigurationSet)) {
-			List<Class<?>> classes = configurationSetSuites.get(requirementConfigurationSet);
-			List<Class<?>> updatedList = new ArrayList<>();
-			updatedList.addAll(classes);
-			updatedList.add(clazz);;
-			configurationSetSuites.put(requirementConfigurationSet, updatedList);
-		} else {
-			configurationSetSuites.put(requirementConfigurationSet, Arrays.asList(clazz));
-		}
+		configurationSetSuites.computeIfAbsent(requirementConfigurationSet, key -> new ArrayList<>()).add(clazz);
 	}
 	
 	/**
-	 * Gets Cartesian product of given lists.
+	 * Gets Cartesian product of given lists. Combinations are generated lazily
+	 * while the stream is consumed, in the same order as nested loops over the
+	 * lists would produce them (the last list changes fastest).
 	 * 
 	 * @param lists
 	 *            list of lists to get its Cartesian product
-	 * @return Cartesian product of lists
+	 * @return stream of Cartesian product of lists
 	 */
-	private static <T> List<List<T>> getCartesianProduct(List<List<T>> lists) {
-		List<List<T>> resultLists = new ArrayList<List<T>>();
-		if (lists.size() == 0) {
-			resultLists.add(new ArrayList<T>());
-			return resultLists;
-		} else {
-			List<T> firstList = lists.get(0);
-			List<List<T>> remainingLists = getCartesianProduct(lists.subList(1, lists.size()));
-			for (T listElement : firstList) {
-				for (List<T> remainingList : remainingLists) {
-					ArrayList<T> resultList = new ArrayList<T>();
-					resultList.add(listElement);
-					resultList.addAll(remainingList);
-					resultLists.add(resultList);
-				}
+	private static <T> Stream<List<T>> getCartesianProduct(List<List<T>> lists) {
+		for (List<T> list : lists) {
+			if (list.isEmpty()) {
+				return Stream.empty();
 			}
 		}
-		return resultLists;
+		Iterator<List<T>> iterator = new Iterator<List<T>>() {
+
+			private final int[] indexes = new int[lists.size()];
+			private boolean hasNext = true;
+
+			@Override
+			public boolean hasNext() {
+				return hasNext;
+			}
+
+			@Override
+			public List<T> next() {
+				if (!hasNext) {
+					throw new NoSuchElementException();
+				}
+				List<T> result = new ArrayList<T>(lists.size());
+				for (int i = 0; i < indexes.length; i++) {
+					result.add(lists.get(i).get(indexes[i]));
+				}
+				// move to the next combination
+				int position = indexes.length - 1;
+				while (position >= 0 && ++indexes[position] == lists.get(position).size()) {
+					indexes[position] = 0;
+					position--;
+				}
+				hasNext = position >= 0;
+				return result;
+			}
+		};
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator,
+				Spliterator.ORDERED | Spliterator.NONNULL), false);
 	}
 
 	/**
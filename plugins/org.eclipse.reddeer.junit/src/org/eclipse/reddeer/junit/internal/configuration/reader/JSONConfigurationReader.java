@@ -12,14 +12,14 @@
 package org.eclipse.reddeer.junit.internal.configuration.reader;
 
 import java.io.File;
-import java.io.FileNotFoundException;
-import java.io.FileReader;
 import java.io.IOException;
+import java.io.Reader;
 import java.lang.annotation.Annotation;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
 import java.util.Map.Entry;
 
 import org.eclipse.reddeer.junit.Activator;
@@ -28,11 +28,8 @@ import org.eclipse.reddeer.junit.requirement.ConfigurableRequirement;
 import org.eclipse.reddeer.junit.requirement.Requirement;
 import org.eclipse.reddeer.junit.requirement.RequirementException;
 import org.eclipse.reddeer.junit.requirement.configuration.RequirementConfiguration;
-import org.json.JSONObject;
 import org.yaml.snakeyaml.Yaml;
 
-import com.fasterxml.jackson.core.JsonParseException;
-import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.type.CollectionType;
@@ -40,6 +37,8 @@ import com.fasterxml.jackson.databind.type.TypeFactory;
 
 /**
  * JSON requirement reader read a requirements configurations from JSON/YAML file.
+ * Both formats are parsed only once into a tree which is then bound directly to
+ * configuration classes.
  * 
  * @author mlabuda@redhat.com
  * @author Andrej Podhradsky (apodhrad@redhat.com)
@@ -64,7 +63,7 @@ public class JSONConfigurationReader implements ConfigurationReader {
 			if (fileName.endsWith(".json")) {
 				root = mapper.readTree(file);
 			} else if (fileName.endsWith(".yaml") || fileName.endsWith(".yml")) {
-				root = mapper.readTree(convertYamlToJson(file));	 
+				root = readYamlTree(file);
 			} else {
 				throw new RedDeerConfigurationException("Only JSON and YAML files are supported");
 			}
@@ -83,15 +82,25 @@ public class JSONConfigurationReader implements ConfigurationReader {
 		}
 	}
 	
-	@SuppressWarnings("unchecked")
-	private String convertYamlToJson(File file) throws FileNotFoundException {
-		Map<String,Object> map= (Map<String, Object>) new Yaml().load(new FileReader(file));
-		JSONObject jsonObject = new JSONObject(map);
-		return jsonObject.toString();
+	/**
+	 * Reads YAML file into a JSON tree without serializing it to text.
+	 * 
+	 * @param file YAML file
+	 * @return root node of the YAML document
+	 * @throws IOException if file cannot be read
+	 */
+	private JsonNode readYamlTree(File file) throws IOException {
+		try (Reader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+			Object yaml = new Yaml().load(reader);
+			if (yaml == null) {
+				return mapper.createObjectNode();
+			}
+			return mapper.valueToTree(yaml);
+		}
 	}
 	
 	private List<RequirementConfiguration> getConfigurationsFromRootNode(JsonNode root)
-			throws ClassNotFoundException, JsonParseException, JsonMappingException, IOException {
+			throws ClassNotFoundException, IOException {
 		List<RequirementConfiguration> configs = new ArrayList<RequirementConfiguration>();
 		Iterator<Entry<String, JsonNode>> it = root.fields();
 
@@ -105,7 +114,7 @@ public class JSONConfigurationReader implements ConfigurationReader {
 				ConfigurableRequirement<?, ?> configurableRequirement = (ConfigurableRequirement<?, ?>) requirement;
 				CollectionType typeReference = TypeFactory.defaultInstance().constructCollectionType(List.class,
 						configurableRequirement.getConfigurationClass());
-				List<RequirementConfiguration> resultList = mapper.readValue(node.getValue().toString(), typeReference);
+				List<RequirementConfiguration> resultList = mapper.readerFor(typeReference).readValue(node.getValue());
 				configs.addAll(resultList);
 			} else {
 				throw new RequirementException("Annotation class for requirement " + requirement + " located in "
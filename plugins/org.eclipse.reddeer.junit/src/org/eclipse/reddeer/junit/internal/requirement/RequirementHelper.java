@@ -15,10 +15,8 @@ import java.lang.annotation.Annotation;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.stream.Collectors;
 
-import org.eclipse.reddeer.junit.annotation.AnnotationUtils;
+import org.eclipse.reddeer.junit.internal.requirement.RequirementMetadata.RequirementDeclaration;
 import org.eclipse.reddeer.junit.requirement.ConfigurableRequirement;
 import org.eclipse.reddeer.junit.requirement.Requirement;
 import org.eclipse.reddeer.junit.requirement.RequirementException;
@@ -64,14 +62,8 @@ public class RequirementHelper {
 	 */
 	public static List<Requirement<?>> getRequirements(Class<?> clazz) {
 		List<Requirement<?>> requirements = new ArrayList<>();
-		for (Annotation annotation : AnnotationUtils.getRequirementAnnotations(clazz)) {
-			Class<Requirement<Annotation>> requirementClass = AnnotationUtils
-					.getEnclosingRequirementClass(annotation.annotationType());
-			if (requirementClass != null) {
-				Requirement<Annotation> requirement = RequirementHelper.createInstance(requirementClass);
-				requirement.setDeclaration(annotation);
-				requirements.add(requirement);
-			}
+		for (RequirementDeclaration declaration : RequirementMetadata.getMetadata(clazz).getDeclarations()) {
+			requirements.add(declaration.createRequirement());
 		}
 		return requirements;
 	}
@@ -93,42 +85,71 @@ public class RequirementHelper {
 	@SuppressWarnings({ "rawtypes", "unchecked" })
 	public static List<RequirementConfiguration> getRequirementConfigurations(ConfigurableRequirement requirement,
 			Collection<RequirementMatcher> matchers) {
-		List<RequirementConfiguration> result = new ArrayList<>();
-		List<org.eclipse.reddeer.junit.requirement.configuration.RequirementConfiguration> configurations = RequirementConfigurationPool
-				.getInstance().getConfigurations(requirement.getConfigurationClass());
-		if(matchers == null){ //no restriction is defined
-			result.addAll(configurations);
-		} else {
-			for (RequirementConfiguration configuration : configurations) {
-				AtomicBoolean matcherIsDefined = new AtomicBoolean(false);
-				
-				// aggragete same req. configurations -> 1 req. config : M matchers(attributes)
-				matchers.stream()
-					.collect(Collectors.groupingBy(RequirementMatcher::getConfigurationClass))
-					.forEach((config, listOfMatchers) -> {
-						if (config.equals(requirement.getDeclaration().annotationType()) && 
-						configuration.getClass().equals(requirement.getConfigurationClass())) {
-							matcherIsDefined.set(true);
-							AtomicBoolean matchersPassed = new AtomicBoolean(true);
-							// test that each matchers matches
-							listOfMatchers.forEach((matcher) -> {
-								if (!matcher.matches(configuration)) {
-									matchersPassed.set(false);
-								}
-							});	
-							if (matchersPassed.get()) {
-								result.add(configuration);
-							}
-						}
-					});
-				//no matcher is defined to restrict the given config, therefore we add it to result.
-				if(!matcherIsDefined.get()){ 
-					result.add(configuration); 
+		return getRequirementConfigurations(requirement.getDeclaration().annotationType(),
+				requirement.getConfigurationClass(), matchers);
+	}
+
+	/**
+	 * Gets suitable configurations for a requirement declared by an annotation
+	 * of the specified class, see
+	 * {@link #getRequirementConfigurations(ConfigurableRequirement, Collection)}.
+	 * No requirement instance is needed.
+	 * 
+	 * @param declarationClass
+	 *            class of requirement annotation
+	 * @param configurationClass
+	 *            configuration class of the requirement
+	 * @param matchers
+	 *            matchers to match configurations or null
+	 * @return matching configurations
+	 */
+	public static List<RequirementConfiguration> getRequirementConfigurations(
+			Class<? extends Annotation> declarationClass,
+			Class<? extends RequirementConfiguration> configurationClass, Collection<RequirementMatcher> matchers) {
+		RequirementConfigurationPool pool = RequirementConfigurationPool.getInstance();
+		List<RequirementMatcher> restrictingMatchers = new ArrayList<>();
+		if (matchers != null) {
+			for (RequirementMatcher matcher : matchers) {
+				if (declarationClass.equals(matcher.getConfigurationClass())) {
+					restrictingMatchers.add(matcher);
 				}
 			}
 		}
+		if (restrictingMatchers.isEmpty()) { //no restriction is defined
+			return pool.getConfigurations(configurationClass);
+		}
+
+		// narrow configurations via index if there is an equality matcher
+		List<RequirementConfiguration> configurations = null;
+		for (RequirementMatcher matcher : restrictingMatchers) {
+			if (matcher.isEqualityMatcher()) {
+				configurations = pool.getConfigurations(configurationClass, matcher.getAttributeName(),
+						matcher.getExpectedValue());
+				break;
+			}
+		}
+		if (configurations == null) {
+			configurations = pool.getConfigurations(configurationClass);
+		}
+
+		List<RequirementConfiguration> result = new ArrayList<>();
+		for (RequirementConfiguration configuration : configurations) {
+			// matchers restrict only configurations of exactly the configuration class
+			if (!configuration.getClass().equals(configurationClass) || matchesAll(restrictingMatchers, configuration)) {
+				result.add(configuration);
+			}
+		}
 		return result;
 	}
+
+	private static boolean matchesAll(List<RequirementMatcher> matchers, RequirementConfiguration configuration) {
+		for (RequirementMatcher matcher : matchers) {
+			if (!matcher.matches(configuration)) {
+				return false;
+			}
+		}
+		return true;
+	}
 	
 	/**
 	 * Gets a list of custom requirements for a custom requirement (without
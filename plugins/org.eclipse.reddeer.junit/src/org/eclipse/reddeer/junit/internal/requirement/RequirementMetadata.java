@@ -0,0 +1,159 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat, Inc - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.reddeer.junit.internal.requirement;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.reddeer.junit.annotation.AnnotationUtils;
+import org.eclipse.reddeer.junit.requirement.ConfigurableRequirement;
+import org.eclipse.reddeer.junit.requirement.Requirement;
+import org.eclipse.reddeer.junit.requirement.configuration.RequirementConfiguration;
+
+/**
+ * Requirement metadata of a test class - requirement annotations declared on
+ * the class and its ancestors together with their requirement and
+ * configuration classes. Metadata are computed once per class and cached, so
+ * building suites does not need to scan annotations or instantiate
+ * requirements repeatedly.
+ */
+public class RequirementMetadata {
+
+	private static final Map<Class<?>, RequirementMetadata> metadataCache = new ConcurrentHashMap<>();
+
+	private static final Map<Class<?>, Optional<Class<? extends RequirementConfiguration>>> configurationClasses = new ConcurrentHashMap<>();
+
+	private final List<RequirementDeclaration> declarations;
+
+	private RequirementMetadata(Class<?> clazz) {
+		List<RequirementDeclaration> result = new ArrayList<>();
+		for (Annotation annotation : AnnotationUtils.getRequirementAnnotations(clazz)) {
+			Class<Requirement<Annotation>> requirementClass = AnnotationUtils
+					.getEnclosingRequirementClass(annotation.annotationType());
+			if (requirementClass != null) {
+				result.add(new RequirementDeclaration(annotation, requirementClass));
+			}
+		}
+		declarations = Collections.unmodifiableList(result);
+	}
+
+	/**
+	 * Gets requirement metadata of a specified class.
+	 *
+	 * @param clazz
+	 *            test class
+	 * @return requirement metadata of the class
+	 */
+	public static RequirementMetadata getMetadata(Class<?> clazz) {
+		return metadataCache.computeIfAbsent(clazz, RequirementMetadata::new);
+	}
+
+	/**
+	 * Gets requirement declarations of the class in the order they were found.
+	 *
+	 * @return unmodifiable list of requirement declarations
+	 */
+	public List<RequirementDeclaration> getDeclarations() {
+		return declarations;
+	}
+
+	/**
+	 * Gets configuration class of a configurable requirement class. The
+	 * configuration class is obtained from a single requirement instance and
+	 * cached, it is expected that it does not depend on the state of the
+	 * requirement.
+	 *
+	 * @param requirementClass
+	 *            requirement class
+	 * @return configuration class or null if the requirement is not
+	 *         configurable
+	 */
+	@SuppressWarnings("rawtypes")
+	public static Class<? extends RequirementConfiguration> getConfigurationClass(
+			Class<? extends Requirement> requirementClass) {
+		return configurationClasses.computeIfAbsent(requirementClass, clazz -> {
+			if (!ConfigurableRequirement.class.isAssignableFrom(clazz)) {
+				return Optional.empty();
+			}
+			ConfigurableRequirement<?, ?> requirement = (ConfigurableRequirement<?, ?>) RequirementHelper
+					.createInstance(clazz);
+			return Optional.<Class<? extends RequirementConfiguration>>ofNullable(requirement.getConfigurationClass());
+		}).orElse(null);
+	}
+
+	/**
+	 * Requirement annotation declared on a test class.
+	 */
+	public static class RequirementDeclaration {
+
+		private final Annotation annotation;
+		private final Class<Requirement<Annotation>> requirementClass;
+
+		private RequirementDeclaration(Annotation annotation, Class<Requirement<Annotation>> requirementClass) {
+			this.annotation = annotation;
+			this.requirementClass = requirementClass;
+		}
+
+		/**
+		 * Gets requirement annotation.
+		 *
+		 * @return requirement annotation
+		 */
+		public Annotation getAnnotation() {
+			return annotation;
+		}
+
+		/**
+		 * Gets requirement class enclosing the annotation.
+		 *
+		 * @return requirement class
+		 */
+		public Class<Requirement<Annotation>> getRequirementClass() {
+			return requirementClass;
+		}
+
+		/**
+		 * Decides whether the requirement is configurable.
+		 *
+		 * @return true if the requirement is configurable, false otherwise
+		 */
+		public boolean isConfigurable() {
+			return ConfigurableRequirement.class.isAssignableFrom(requirementClass);
+		}
+
+		/**
+		 * Gets configuration class of the requirement.
+		 *
+		 * @return configuration class or null if the requirement is not
+		 *         configurable
+		 */
+		public Class<? extends RequirementConfiguration> getConfigurationClass() {
+			return RequirementMetadata.getConfigurationClass(requirementClass);
+		}
+
+		/**
+		 * Creates a new requirement instance with this declaration.
+		 *
+		 * @return new requirement instance
+		 */
+		public Requirement<Annotation> createRequirement() {
+			Requirement<Annotation> requirement = RequirementHelper.createInstance(requirementClass);
+			requirement.setDeclaration(annotation);
+			return requirement;
+		}
+	}
+}
@@ -15,6 +15,7 @@ import java.lang.annotation.Annotation;
 import java.util.Iterator;
 import java.util.List;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import org.eclipse.reddeer.common.logging.Logger;
 import org.eclipse.reddeer.junit.execution.PriorityComparator;
@@ -32,6 +33,7 @@ import org.eclipse.reddeer.junit.screenshot.ScreenshotCapturer;
 public class Requirements implements Requirement<Annotation>, Iterable<Requirement<?>>{
 
 	private List<Requirement<?>> requirements;
+	private Supplier<List<Requirement<?>>> requirementsSupplier;
 	private Class<?> clazz;
 	private String configID;
 	private Logger log = Logger.getLogger(Requirements.class);
@@ -57,9 +59,47 @@ public class Requirements implements Requirement<Annotation>, Iterable<Requireme
 		this.configID = configID;
 	}
 
+	private Requirements(Class<?> clazz, String configID, Supplier<List<Requirement<?>>> requirementsSupplier) {
+		super();
+		if (requirementsSupplier == null){
+			throw new IllegalArgumentException("The requirements supplier was null");
+		}
+		if (clazz == null) {
+			throw new IllegalArgumentException("The class containing requirements is null");
+		}
+		this.requirementsSupplier = requirementsSupplier;
+		this.clazz = clazz;
+		this.configID = configID;
+	}
+
+	/**
+	 * Creates requirements which are instantiated lazily by the specified
+	 * supplier when they are accessed for the first time (typically when the
+	 * test class is being run).
+	 *
+	 * @param requirementsSupplier the supplier of requirements
+	 * @param clazz the clazz
+	 * @param configID the config id
+	 * @return requirements created on demand
+	 */
+	public static Requirements createLazily(Supplier<List<Requirement<?>>> requirementsSupplier, Class<?> clazz,
+			String configID) {
+		return new Requirements(clazz, configID, requirementsSupplier);
+	}
+
+	private synchronized List<Requirement<?>> getRequirements() {
+		if (requirements == null) {
+			List<Requirement<?>> createdRequirements = requirementsSupplier.get();
+			createdRequirements.sort(new PriorityComparator());
+			requirements = createdRequirements;
+			requirementsSupplier = null;
+		}
+		return requirements;
+	}
+
 	@Override
 	public Iterator<Requirement<?>> iterator() {
-		return requirements.iterator();
+		return getRequirements().iterator();
 	}
 	
 	/**
@@ -68,7 +108,7 @@ public class Requirements implements Requirement<Annotation>, Iterable<Requireme
 	 * @return the int
 	 */
 	public int size(){
-		return requirements.size();
+		return getRequirements().size();
 	}
 
 	@Override
@@ -102,7 +142,7 @@ public class Requirements implements Requirement<Annotation>, Iterable<Requireme
 	}
 
 	private void runSafely(Consumer<Requirement<?>> run) {
-		requirements.forEach(requirement -> runSafely(run, requirement));
+		getRequirements().forEach(requirement -> runSafely(run, requirement));
 	}
 
 	private void runSafely(Consumer<Requirement<?>> run, Requirement<?> requirement) {
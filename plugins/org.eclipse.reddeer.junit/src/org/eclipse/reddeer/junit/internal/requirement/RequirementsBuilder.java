@@ -41,13 +41,19 @@ public class RequirementsBuilder {
 	 *            class to build its requirements
 	 * @return requirements set for a specified class, if configuration set
 	 *         contains only MissingRequirementConfiguration, then empty
-	 *         requirements is created
+	 *         requirements is created. Requirement instances are created
+	 *         lazily when they are accessed for the first time.
 	 */
-	@SuppressWarnings("unchecked")
 	public Requirements build(RequirementConfigurationSet configurationSet, Class<?> clazz) {
 		if (configurationSet == null || clazz == null) {
 			throw new IllegalArgumentException("Configuration set nor clazz cannot be null.");
 		}
+		return Requirements.createLazily(() -> createRequirements(configurationSet, clazz), clazz,
+				configurationSet.getId());
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<Requirement<?>> createRequirements(RequirementConfigurationSet configurationSet, Class<?> clazz) {
 		List<Requirement<?>> requirements = new ArrayList<>();
 		if (configurationSet.getConfigurationSet().contains(new MissingRequirementConfiguration())) {
 			// Do nothing
@@ -67,6 +73,7 @@ public class RequirementsBuilder {
 				requirements.add(requirement);
 			}
 		}
-		return new Requirements(requirements, clazz, configurationSet.getId());
+		log.debug("Created " + requirements.size() + " requirement(s) for " + clazz.getName());
+		return requirements;
 	}
 }
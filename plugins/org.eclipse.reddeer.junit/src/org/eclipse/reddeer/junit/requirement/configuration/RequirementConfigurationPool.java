@@ -12,18 +12,28 @@
 package org.eclipse.reddeer.junit.requirement.configuration;
 
 import java.io.File;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.reddeer.common.properties.RedDeerProperties;
 import org.eclipse.reddeer.junit.configuration.RedDeerConfigurationException;
 import org.eclipse.reddeer.junit.internal.configuration.reader.JSONConfigurationReader;
+import org.eclipse.reddeer.junit.util.ReflectionUtil;
 
 /**
  * Requirements configuration pool consist of requirements configurations loaded
- * for a test run from a source.
+ * for a test run from a source. Configurations are indexed by configuration
+ * class and, on demand, by attribute values so that large configuration
+ * matrices are not scanned repeatedly.
  * 
  * @author mlabuda@redhat.com
  *
@@ -34,6 +44,14 @@ public class RequirementConfigurationPool {
 
 	private List<RequirementConfiguration> requirementsConfigurations;
 
+	private Map<Class<?>, List<RequirementConfiguration>> configurationsByClass = new ConcurrentHashMap<>();
+
+	private Map<Class<?>, Map<String, Map<Object, List<RequirementConfiguration>>>> configurationsByAttribute = new ConcurrentHashMap<>();
+
+	private static final Map<Class<?>, Optional<Constructor<?>>> copyConstructors = new ConcurrentHashMap<>();
+
+	private static final Object NULL_KEY = new Object();
+
 	/**
 	 * Creates a new requirement configuration pool and initialize it -
 	 * populates with data from a source.
@@ -109,6 +127,7 @@ public class RequirementConfigurationPool {
 	 */
 	public void setRequirementsConfigurations(List<RequirementConfiguration> configurations) {
 		requirementsConfigurations = configurations;
+		invalidateIndex();
 	}
 
 	/**
@@ -117,7 +136,10 @@ public class RequirementConfigurationPool {
 	 * @param configurations
 	 */
 	public void addRequirementsConfigurations(List<RequirementConfiguration> configurations) {
-		getRequirementsConfigurations().addAll(configurations);
+		List<RequirementConfiguration> updatedConfigurations = new ArrayList<>(requirementsConfigurations);
+		updatedConfigurations.addAll(configurations);
+		requirementsConfigurations = updatedConfigurations;
+		invalidateIndex();
 	}
 
 	/**
@@ -139,16 +161,80 @@ public class RequirementConfigurationPool {
 	 *         class
 	 */
 	public List<RequirementConfiguration> getConfigurations(Class<? extends RequirementConfiguration> configClass) {
+		return deepCopyList(getIndexedConfigurations(configClass));
+	}
 
-		List<RequirementConfiguration> suitableConfigs = new ArrayList<RequirementConfiguration>();
-		for (RequirementConfiguration config : requirementsConfigurations) {
-			if (configClass.isAssignableFrom(config.getClass())) {
+	/**
+	 * Gets all available configurations for a specified configuration class
+	 * having an attribute of the specified value. Attribute is specified by
+	 * property access syntax, e.g. "person.name", see
+	 * {@link ReflectionUtil#getValue(Object, String)}. Only configurations of
+	 * exactly the specified class are restricted by the attribute value,
+	 * configurations of its subclasses are always returned (the same way as
+	 * requirement matchers do not restrict them).
+	 * 
+	 * @param configClass
+	 *            class of a requirement configurations
+	 * @param attributeName
+	 *            name of the attribute
+	 * @param attributeValue
+	 *            required value of the attribute
+	 * @return list of available requirement configurations for a specified
+	 *         class with the specified attribute value
+	 */
+	public List<RequirementConfiguration> getConfigurations(Class<? extends RequirementConfiguration> configClass,
+			String attributeName, Object attributeValue) {
+		Map<Object, List<RequirementConfiguration>> valueIndex = configurationsByAttribute
+				.computeIfAbsent(configClass, key -> new ConcurrentHashMap<>())
+				.computeIfAbsent(attributeName, key -> indexByAttribute(configClass, attributeName));
+		List<RequirementConfiguration> matchingConfigs = valueIndex
+				.get(attributeValue == null ? NULL_KEY : attributeValue);
+		Set<RequirementConfiguration> matchingSet = Collections.newSetFromMap(new IdentityHashMap<>());
+		if (matchingConfigs != null) {
+			matchingSet.addAll(matchingConfigs);
+		}
+		// keep the order of the pool
+		List<RequirementConfiguration> suitableConfigs = new ArrayList<>();
+		for (RequirementConfiguration config : getIndexedConfigurations(configClass)) {
+			if (!config.getClass().equals(configClass) || matchingSet.contains(config)) {
 				suitableConfigs.add(config);
 			}
 		}
 		return deepCopyList(suitableConfigs);
 	}
 
+	private List<RequirementConfiguration> getIndexedConfigurations(Class<?> configClass) {
+		return configurationsByClass.computeIfAbsent(configClass, key -> {
+			List<RequirementConfiguration> suitableConfigs = new ArrayList<RequirementConfiguration>();
+			for (RequirementConfiguration config : requirementsConfigurations) {
+				if (key.isAssignableFrom(config.getClass())) {
+					suitableConfigs.add(config);
+				}
+			}
+			return Collections.unmodifiableList(suitableConfigs);
+		});
+	}
+
+	private Map<Object, List<RequirementConfiguration>> indexByAttribute(Class<?> configClass, String attributeName) {
+		Map<Object, List<RequirementConfiguration>> index = new HashMap<>();
+		for (RequirementConfiguration config : getIndexedConfigurations(configClass)) {
+			if (!config.getClass().equals(configClass)) {
+				continue;
+			}
+			Object value = ReflectionUtil.getValue(config, attributeName);
+			index.computeIfAbsent(value == null ? NULL_KEY : value, key -> new ArrayList<>()).add(config);
+		}
+		return index;
+	}
+
+	/**
+	 * Drops indexes of configurations, they are rebuilt on demand.
+	 */
+	private void invalidateIndex() {
+		configurationsByClass.clear();
+		configurationsByAttribute.clear();
+	}
+
 	/**
 	 * Deep copy list of requirement configurations.
 	 * 
@@ -180,10 +266,20 @@ public class RequirementConfigurationPool {
 	 */
 	@SuppressWarnings("unchecked")
 	private <T extends RequirementConfiguration> T deepCopyConfiguration(T configuration) {
+		Optional<Constructor<?>> constructor = copyConstructors.computeIfAbsent(configuration.getClass(), clazz -> {
+			try {
+				return Optional.of(clazz.getConstructor(clazz));
+			} catch (NoSuchMethodException | SecurityException e) {
+				return Optional.empty();
+			}
+		});
+		if (!constructor.isPresent()) {
+			return null;
+		}
 		try {
-			return (T) configuration.getClass().getConstructor(configuration.getClass()).newInstance(configuration);
-		} catch (NoSuchMethodException | SecurityException | InstantiationException | IllegalAccessException
-				| IllegalArgumentException | InvocationTargetException e) {
+			return (T) constructor.get().newInstance(configuration);
+		} catch (InstantiationException | IllegalAccessException | IllegalArgumentException
+				| InvocationTargetException e) {
 			return null;
 		}
 	}
@@ -31,6 +31,8 @@ public class RequirementMatcher extends TypeSafeMatcher<RequirementConfiguration
 	private Matcher<?> attributeValueMatcher;
 	private String attributeName;
 	private Class<? extends Annotation> configurationClass;
+	private boolean equalityMatcher;
+	private Object expectedValue;
 
 	/**
 	 * Constructs a new requirement matcher.
@@ -46,6 +48,8 @@ public class RequirementMatcher extends TypeSafeMatcher<RequirementConfiguration
 	
 	public RequirementMatcher(Class<? extends Annotation> clazz, String attributeName, String attributeValue) {
 		this(clazz, attributeName, new IsEqual<String>(attributeValue));
+		this.equalityMatcher = true;
+		this.expectedValue = attributeValue;
 	}
 
 	/**
@@ -65,6 +69,27 @@ public class RequirementMatcher extends TypeSafeMatcher<RequirementConfiguration
 		return this.attributeName;
 	}
 
+	/**
+	 * Decides whether this matcher matches an attribute by equality with a
+	 * known value. Such matchers can be evaluated by an index lookup, see
+	 * {@link #getExpectedValue()}.
+	 * 
+	 * @return true if the attribute is matched against an expected value, false
+	 *         otherwise
+	 */
+	public boolean isEqualityMatcher() {
+		return equalityMatcher;
+	}
+
+	/**
+	 * Gets expected value of the attribute if this is an equality matcher.
+	 * 
+	 * @return expected value of the attribute or null
+	 */
+	public Object getExpectedValue() {
+		return expectedValue;
+	}
+
 	/**
 	 * Sets configuration class for matching.
 	 * @param configurationClass configuration class to match
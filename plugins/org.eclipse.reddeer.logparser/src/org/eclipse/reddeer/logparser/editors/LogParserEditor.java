@@ -47,8 +47,10 @@ import org.eclipse.ui.PartInitException;
 import org.eclipse.ui.part.MultiPageEditorPart;
 import org.eclipse.reddeer.logparser.LogParserActivator;
 import org.eclipse.reddeer.logparser.LogParserLog;
+import org.eclipse.reddeer.logparser.model.CompiledParseRules;
 import org.eclipse.reddeer.logparser.model.LogData;
 import org.eclipse.reddeer.logparser.model.ParseRule;
+import org.eclipse.reddeer.logparser.preferences.LogParserPreferencesPageModel;
 
 public class LogParserEditor extends MultiPageEditorPart {
 	/**
@@ -217,36 +219,22 @@ public class LogParserEditor extends MultiPageEditorPart {
 		try {
 			TreeMap<Integer, String> originalLogLines = new TreeMap<Integer, String>();
 			TreeMap<Integer, ParseRule> parsedLogIncludeLines = new TreeMap<Integer, ParseRule>();
+			ParseRule defaultParseRule = getDefaultParseRule();
+			// patterns are compiled once per parsing instead of once per line
+			CompiledParseRules compiledParseRules = null;
+			if (logData.getParseRules() != null && !logData.getParseRules().isEmpty()) {
+				compiledParseRules = new CompiledParseRules(logData.getParseRules(),
+						LogParserPreferencesPageModel.getParseRuleRegistry());
+			}
 			while ((line = lineNumberReader.readLine()) != null) {
 				int lineNumber = lineNumberReader.getLineNumber();
 				originalLogLines.put(lineNumber, line);
-				boolean notIncludeLine = true;
-				ParseRule parseRule = getDefaultParseRule();
-				if (logData.getParseRules() != null && !logData.getParseRules().isEmpty() && line != null
-						&& line.length() > 0) {
-					boolean excludeRegexNotApplied = true;
-					Iterator<ParseRule> itParseRule = logData.getParseRules().iterator();
-					while (notIncludeLine && excludeRegexNotApplied && itParseRule.hasNext()) {
-						parseRule = itParseRule.next();
-						boolean includeRegexMatches = true;
-						if (parseRule.getIncludeRegex() != null && parseRule.getIncludeRegex().length() > 0) {
-							includeRegexMatches = line.matches(parseRule.getIncludeRegex());
-						}
-						if (includeRegexMatches) {
-							if (parseRule.getExcludeRegex() != null && parseRule.getExcludeRegex().length() > 0) {
-								notIncludeLine = line.matches(parseRule.getExcludeRegex());
-								if (notIncludeLine) {
-									excludeRegexNotApplied = false;
-								}
-							} else {
-								notIncludeLine = false;
-							}
-						}
-					}
-				} else {
-					notIncludeLine = line == null || line.length() == 0;
+				ParseRule parseRule = null;
+				if (line.length() > 0) {
+					parseRule = compiledParseRules == null ? defaultParseRule
+							: compiledParseRules.getIncludingParseRule(line);
 				}
-				if (!notIncludeLine) {
+				if (parseRule != null) {
 					int addLinesFrom = lineNumber;
 					int addLinesTo = lineNumber;
 					addLinesFrom -= parseRule.getDisplayLinesBefore();
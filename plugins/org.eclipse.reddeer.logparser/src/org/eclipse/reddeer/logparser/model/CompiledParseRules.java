@@ -0,0 +1,104 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat, Inc - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.reddeer.logparser.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Parse rules of a log with compiled patterns applied to log lines. Rules are
+ * tried in their order, the first rule whose include pattern matches a line
+ * includes the line unless its exclude pattern matches the line too, which
+ * excludes the line. If no rule has an exclude pattern, include patterns are
+ * combined into a single alternation, so lines not included by any rule are
+ * rejected by one match.
+ */
+public class CompiledParseRules {
+
+	// back references are numbered globally, so they break in an alternation
+	private static final Pattern BACK_REFERENCE = Pattern.compile("\\\\(\\d|k<)");
+
+	private final List<CompiledParseRule> compiledParseRules = new ArrayList<CompiledParseRule>();
+	private Pattern includeAlternation;
+
+	/**
+	 * Compiles specified parse rules.
+	 * 
+	 * @param parseRules parse rules of a log
+	 * @param registry registry with precompiled patterns of defined rules
+	 * @throws PatternSyntaxException if some regular expression is not valid
+	 */
+	public CompiledParseRules(List<ParseRule> parseRules, ParseRuleRegistry registry) {
+		boolean includeOnly = !parseRules.isEmpty();
+		StringBuilder alternation = new StringBuilder();
+		for (ParseRule parseRule : parseRules) {
+			Pattern include = compile(parseRule.getIncludeRegex(), registry);
+			Pattern exclude = compile(parseRule.getExcludeRegex(), registry);
+			compiledParseRules.add(new CompiledParseRule(parseRule, include, exclude));
+			if (exclude != null || include == null || BACK_REFERENCE.matcher(include.pattern()).find()) {
+				includeOnly = false;
+			} else {
+				alternation.append(alternation.length() == 0 ? "" : "|").append("(?:").append(include.pattern())
+						.append(")");
+			}
+		}
+		if (includeOnly) {
+			try {
+				includeAlternation = Pattern.compile(alternation.toString());
+			} catch (PatternSyntaxException pse) {
+				// e.g. duplicate named groups, rules are applied one by one
+			}
+		}
+	}
+
+	/**
+	 * Returns parse rule which includes specified line.
+	 * 
+	 * @param line line of a log
+	 * @return parse rule including the line or null if the line is not included
+	 */
+	public ParseRule getIncludingParseRule(String line) {
+		if (includeAlternation != null && !includeAlternation.matcher(line).matches()) {
+			return null;
+		}
+		for (CompiledParseRule compiledParseRule : compiledParseRules) {
+			if (compiledParseRule.include == null || compiledParseRule.include.matcher(line).matches()) {
+				if (compiledParseRule.exclude != null && compiledParseRule.exclude.matcher(line).matches()) {
+					return null;
+				}
+				return compiledParseRule.parseRule;
+			}
+		}
+		return null;
+	}
+
+	private static Pattern compile(String regex, ParseRuleRegistry registry) {
+		if (regex == null || regex.length() == 0) {
+			return null;
+		}
+		return registry.getPattern(regex);
+	}
+
+	private static class CompiledParseRule {
+		private final ParseRule parseRule;
+		private final Pattern include;
+		private final Pattern exclude;
+
+		private CompiledParseRule(ParseRule parseRule, Pattern include, Pattern exclude) {
+			this.parseRule = parseRule;
+			this.include = include;
+			this.exclude = exclude;
+		}
+	}
+}
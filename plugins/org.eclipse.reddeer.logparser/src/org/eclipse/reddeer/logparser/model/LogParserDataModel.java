@@ -32,13 +32,44 @@ public class LogParserDataModel {
 	private static final String TAG_LOCATION = "location";
 	private static final String TAG_RULE_NAME = "rule_name";
 
+	// location and rule names of logs, rules are resolved on every access
+	private static volatile List<StoredLogData> storedLogs;
+
+	/**
+	 * Returns logs with their parse rules. Logs are loaded from the state
+	 * location only once until they are saved again, parse rules are looked up
+	 * by name in the current parse rule registry.
+	 * 
+	 * @return list of logs
+	 */
 	public static ArrayList<LogData> getLogParserData() {
-		return loadLogParserData();
+		List<StoredLogData> logs = storedLogs;
+		if (logs == null) {
+			logs = loadLogParserData();
+			storedLogs = logs;
+		}
+		ParseRuleRegistry registry = LogParserPreferencesPageModel.getParseRuleRegistry();
+		ArrayList<LogData> logParserData = new ArrayList<LogData>(logs.size());
+		for (StoredLogData storedLogData : logs) {
+			LogData logData = new LogData();
+			logData.setLocation(storedLogData.location);
+			ArrayList<ParseRule> parseRules = new ArrayList<ParseRule>();
+			for (String ruleName : storedLogData.ruleNames) {
+				ParseRule parseRule = registry.getParseRule(ruleName);
+				if (parseRule != null) {
+					parseRules.add(parseRule);
+				}
+			}
+			logData.setParseRules(parseRules);
+			logParserData.add(logData);
+		}
+		return logParserData;
 	}
 
 	public static void saveLogParserData(List<LogData> logs) {
 		XMLMemento memento = XMLMemento.createWriteRoot(TAG_LOGS);
 		FileWriter fileWriter = null;
+		storedLogs = null;
 		try {
 			for (LogData logData : logs) {
 				IMemento logDataNode = memento.createChild(TAG_LOG_DATA);
@@ -62,30 +93,22 @@ public class LogParserDataModel {
 		}
 	}
 
-	private static ArrayList<LogData> loadLogParserData() {
-		ArrayList<LogData> logs = new ArrayList<LogData>();
+	private static List<StoredLogData> loadLogParserData() {
+		List<StoredLogData> logs = new ArrayList<StoredLogData>();
 		
 		FileReader fileReader = null;
 		File logParserFile = getLogParserFile();
-		List<ParseRule> definedParseRules = LogParserPreferencesPageModel.getParseRules();
 		if (logParserFile.exists()){
 			try {
 				fileReader = new FileReader(logParserFile);
 				IMemento[] logDataNodes = XMLMemento.createReadRoot(fileReader).getChildren(TAG_LOG_DATA);
 				for (IMemento logDataNode : logDataNodes) {
-					LogData logData = new LogData();
-					logData.setLocation(logDataNode.getString(TAG_LOCATION));
-					ArrayList<ParseRule> parseRules = new ArrayList<ParseRule>();
+					List<String> ruleNames = new ArrayList<String>();
 					IMemento[] parseRuleNodes = logDataNode.getChildren(TAG_RULE_NAME);
 					for (IMemento parseRuleNode : parseRuleNodes){
-						ParseRule parseRule = LogParserDataModel.getRuleByName(parseRuleNode.getTextData(),
-								definedParseRules);
-						if (parseRule != null){
-							parseRules.add(parseRule);
-						}
+						ruleNames.add(parseRuleNode.getTextData());
 					}
-					logData.setParseRules(parseRules);
-					logs.add(logData);
+					logs.add(new StoredLogData(logDataNode.getString(TAG_LOCATION), ruleNames));
 				}
 			} catch (WorkbenchException|IOException ioe ) {
 				LogParserLog.logError(ioe);
@@ -122,5 +145,14 @@ public class LogParserDataModel {
 		
 		return parseRule;
 	}
-	
+
+	private static class StoredLogData {
+		private final String location;
+		private final List<String> ruleNames;
+
+		private StoredLogData(String location, List<String> ruleNames) {
+			this.location = location;
+			this.ruleNames = ruleNames;
+		}
+	}
 }
@@ -0,0 +1,101 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat, Inc - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.reddeer.logparser.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Immutable registry of defined parse rules indexed by rule name (ignoring
+ * case) with precompiled include and exclude patterns. Rules held by the
+ * registry are never handed out, callers get copies they can modify.
+ */
+public class ParseRuleRegistry {
+
+	private final List<ParseRule> parseRules;
+	private final Map<String, ParseRule> parseRulesByName = new HashMap<String, ParseRule>();
+	private final Map<String, Pattern> patterns = new HashMap<String, Pattern>();
+
+	public ParseRuleRegistry(List<ParseRule> parseRules) {
+		List<ParseRule> copies = new ArrayList<ParseRule>();
+		for (ParseRule parseRule : parseRules) {
+			ParseRule copy = parseRule.clone();
+			copies.add(copy);
+			String key = getKey(copy.getName());
+			// first rule with the name wins as in a linear search
+			if (key != null && !parseRulesByName.containsKey(key)) {
+				parseRulesByName.put(key, copy);
+			}
+			compile(copy.getIncludeRegex());
+			compile(copy.getExcludeRegex());
+		}
+		this.parseRules = Collections.unmodifiableList(copies);
+	}
+
+	/**
+	 * Returns copies of all parse rules in the order they were defined.
+	 * 
+	 * @return list of parse rules
+	 */
+	public ArrayList<ParseRule> getParseRules() {
+		ArrayList<ParseRule> copies = new ArrayList<ParseRule>(parseRules.size());
+		for (ParseRule parseRule : parseRules) {
+			copies.add(parseRule.clone());
+		}
+		return copies;
+	}
+
+	/**
+	 * Returns copy of parse rule with specified name ignoring case.
+	 * 
+	 * @param name name of parse rule
+	 * @return parse rule or null if there is no rule with the name
+	 */
+	public ParseRule getParseRule(String name) {
+		ParseRule parseRule = parseRulesByName.get(getKey(name));
+		return parseRule == null ? null : parseRule.clone();
+	}
+
+	/**
+	 * Returns compiled pattern of specified regular expression. Patterns of
+	 * regular expressions of defined rules are compiled only once.
+	 * 
+	 * @param regex regular expression
+	 * @return compiled pattern
+	 * @throws PatternSyntaxException if regular expression is not valid
+	 */
+	public Pattern getPattern(String regex) {
+		Pattern pattern = patterns.get(regex);
+		return pattern != null ? pattern : Pattern.compile(regex);
+	}
+
+	private void compile(String regex) {
+		if (regex == null || regex.length() == 0 || patterns.containsKey(regex)) {
+			return;
+		}
+		try {
+			patterns.put(regex, Pattern.compile(regex));
+		} catch (PatternSyntaxException pse) {
+			// reported when the rule is applied
+		}
+	}
+
+	private static String getKey(String name) {
+		return name == null ? null : name.toLowerCase(Locale.ENGLISH);
+	}
+}
@@ -24,6 +24,7 @@ import org.eclipse.ui.XMLMemento;
 import org.eclipse.reddeer.logparser.LogParserActivator;
 import org.eclipse.reddeer.logparser.LogParserLog;
 import org.eclipse.reddeer.logparser.model.ParseRule;
+import org.eclipse.reddeer.logparser.model.ParseRuleRegistry;
 
 public class LogParserPreferencesPageModel {
 	private static final String TAG_PARSE_RULES = "parse_rules";
@@ -37,8 +38,31 @@ public class LogParserPreferencesPageModel {
 	private static final String TAG_DISPLAY_LINES_BEFORE = "display_lines_before";
 	private static final String TAG_DISPLAY_LINES_AFTER = "display_lines_after";
 
+	private static volatile ParseRuleRegistry parseRuleRegistry;
+
+	/**
+	 * Returns copies of defined parse rules. Rules are loaded from the state
+	 * location only once until they are saved again.
+	 * 
+	 * @return list of parse rules
+	 */
 	public static ArrayList<ParseRule> getParseRules() {
-		return loadParseRules();
+		return getParseRuleRegistry().getParseRules();
+	}
+
+	/**
+	 * Returns registry of defined parse rules indexed by name with precompiled
+	 * patterns.
+	 * 
+	 * @return parse rule registry
+	 */
+	public static ParseRuleRegistry getParseRuleRegistry() {
+		ParseRuleRegistry registry = parseRuleRegistry;
+		if (registry == null) {
+			registry = new ParseRuleRegistry(loadParseRules());
+			parseRuleRegistry = registry;
+		}
+		return registry;
 	}
 
 	public static void saveParseRules(List<ParseRule> parseRules) {
@@ -60,7 +84,9 @@ public class LogParserPreferencesPageModel {
 			}
 			fileWriter = new FileWriter(getParseRulesFile());
 			memento.save(fileWriter);
+			parseRuleRegistry = new ParseRuleRegistry(parseRules);
 		} catch (IOException ioe) {
+			parseRuleRegistry = null;
 			LogParserLog.logError(ioe);
 		} finally {
 			try {
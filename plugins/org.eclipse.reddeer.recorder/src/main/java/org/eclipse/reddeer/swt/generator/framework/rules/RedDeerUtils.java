@@ -32,19 +32,20 @@ public class RedDeerUtils {
 	
 	private static ShellRule activeShell;
 	
+	// forms are optional, resolve them once instead of on every recorded event
+	private static final boolean FORMS_AVAILABLE = Platform.getBundle("org.eclipse.ui.forms") != null;
+	
 	public static List<ReferencedComposite> getComposites(Control widget){
 		List<ReferencedComposite> toReturn = new ArrayList<ReferencedComposite>();
-		widget = widget.getParent();
-		if (widget != null){
-			if (widget instanceof org.eclipse.ui.forms.widgets.Section) {
-				org.eclipse.ui.forms.widgets.Section section = (org.eclipse.ui.forms.widgets.Section)widget;
+		for (Control parent = widget.getParent(); parent != null; parent = parent.getParent()) {
+			if (FORMS_AVAILABLE && parent instanceof org.eclipse.ui.forms.widgets.Section) {
+				org.eclipse.ui.forms.widgets.Section section = (org.eclipse.ui.forms.widgets.Section)parent;
 				toReturn.add(new SectionRule(section.getText()));
 			}
-			else if(widget instanceof Group){
-				Group group = (Group)widget;
+			else if(parent instanceof Group){
+				Group group = (Group)parent;
 				toReturn.add(new GroupRule(group.getText()));
 			}
-			toReturn.addAll(getComposites(widget));
 		}
 		return toReturn;
 	}
@@ -66,7 +67,7 @@ public class RedDeerUtils {
 	}
 	
 	public static String getSection(Control widget) {
-		if(Platform.getBundle("org.eclipse.ui.forms") != null){
+		if(FORMS_AVAILABLE){
 			while (widget != null) {
 				if (widget instanceof org.eclipse.ui.forms.widgets.Section) {
 					return ((org.eclipse.ui.forms.widgets.Section)widget).getText();
@@ -25,12 +25,6 @@ public class CTabRule extends AbstractSimpleRedDeerRule{
 
 	@Override
 	public boolean appliesTo(Event event) {
-		if(event.widget != null) {
-			System.out.println(event.widget.getClass());
-		} 
-		if (event.item != null) {
-			System.out.println(event.item.getClass());
-		}
 		return event.widget instanceof CTabFolder && event.type == SWT.Selection;
 	}
 
@@ -28,6 +28,9 @@ public class ShellMenuRule extends AbstractSimpleRedDeerRule{
 
 	@Override
 	public boolean appliesTo(Event event) {
+		if(event.type != SWT.Selection){
+			return false;
+		}
 		boolean menu = event.widget instanceof MenuItem;
 		int style = 0;
 		if(menu){
@@ -38,7 +41,7 @@ public class ShellMenuRule extends AbstractSimpleRedDeerRule{
 				currentItem = parent.getParentItem();
 			}
 		}
-		return event.type == SWT.Selection && menu && (style & SWT.BAR)!=0;
+		return menu && (style & SWT.BAR)!=0;
 	}
 
 	@Override
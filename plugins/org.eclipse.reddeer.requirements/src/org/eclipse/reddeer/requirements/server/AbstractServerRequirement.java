@@ -12,6 +12,7 @@
 package org.eclipse.reddeer.requirements.server;
 
 import org.eclipse.reddeer.common.logging.Logger;
+import org.eclipse.reddeer.common.wait.TimePeriod;
 import org.eclipse.reddeer.eclipse.wst.server.ui.Runtime;
 import org.eclipse.reddeer.eclipse.wst.server.ui.RuntimePreferencePage;
 import org.eclipse.reddeer.eclipse.wst.server.ui.cnf.Server;
@@ -32,6 +33,9 @@ public abstract class AbstractServerRequirement {
 	
 	private static final Logger LOGGER = Logger.getLogger(AbstractServerRequirement.class);
 	
+	// server core bundle is an optional dependency, its classes are referenced only by ServerCoreRequirementSupport
+	private static final boolean SERVER_CORE_AVAILABLE = isServerCoreAvailable();
+	
 	/**
 	 * Setup server state.
 	 *
@@ -41,6 +45,15 @@ public abstract class AbstractServerRequirement {
 	protected void setupServerState(ServerRequirementState requiredState) {
 		LOGGER.info("Checking the state of the server '" + getServerName() + "'");
 		
+		if (useServersView()) {
+			setupServerStateInView(requiredState);
+			return;
+		}
+		
+		ServerCoreRequirementSupport.setupServerState(getServerName(), requiredState, getServerStateChangeTimeout());
+	}
+	
+	private void setupServerStateInView(ServerRequirementState requiredState) {
 		Server serverInView = getConfiguredServer();
 		
 		ServerState state = serverInView.getLabel().getState();
@@ -64,6 +77,15 @@ public abstract class AbstractServerRequirement {
 	 * Removes server and its runtime.
 	 */
 	protected void removeServerAndRuntime() {
+		if (useServersView()) {
+			removeServerAndRuntimeInView();
+			return;
+		}
+		ServerCoreRequirementSupport.removeServerAndRuntime(getServerName(), getRuntimeName(),
+				getServerStateChangeTimeout());
+	}
+	
+	private void removeServerAndRuntimeInView() {
 		Server serverInView = getConfiguredServer();
 		if(serverInView == null){
 			return;
@@ -80,7 +102,9 @@ public abstract class AbstractServerRequirement {
 	}
 	
 	/**
-	 * Gets the configured server or null if it does not exist
+	 * Gets the configured server from Servers view or null if it does not exist.
+	 * Use this method only if the Servers view is needed, otherwise use
+	 * {@link #getConfiguredServerCore()}.
 	 *
 	 * @return the configured server
 	 */
@@ -94,6 +118,27 @@ public abstract class AbstractServerRequirement {
 		}
 		return null;
 	}
+	
+	/**
+	 * Decides whether the server state is set up and the server is removed via
+	 * Servers view and preference pages instead of server API. Override this
+	 * method to validate the views in tests. The views are used by default
+	 * only if the optional WST server core bundle is not available.
+	 *
+	 * @return true if the views should be used, false otherwise
+	 */
+	protected boolean useServersView() {
+		return !SERVER_CORE_AVAILABLE;
+	}
+	
+	/**
+	 * Gets the time to wait for server to start or stop.
+	 *
+	 * @return timeout of a server state change
+	 */
+	protected TimePeriod getServerStateChangeTimeout() {
+		return TimePeriod.getCustom(600);
+	}
 
 	/**
 	 * Checks if is last configured server present.
@@ -101,7 +146,20 @@ public abstract class AbstractServerRequirement {
 	 * @return true, if is last configured server present
 	 */
 	protected boolean isLastConfiguredServerPresent() {
-		return getConfiguredServer() != null;
+		if (useServersView()) {
+			return getConfiguredServer() != null;
+		}
+		return ServerCoreRequirementSupport.serverExists(getServerName());
+	}
+	
+	private static boolean isServerCoreAvailable() {
+		try {
+			Class.forName("org.eclipse.wst.server.core.IServer", false, AbstractServerRequirement.class.getClassLoader());
+			return true;
+		} catch (ClassNotFoundException | LinkageError e) {
+			LOGGER.debug("WST server core is not available, servers are managed via Servers view");
+			return false;
+		}
 	}
 	
 	/**
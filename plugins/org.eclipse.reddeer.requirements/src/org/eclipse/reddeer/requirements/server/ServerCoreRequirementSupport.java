@@ -0,0 +1,96 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat, Inc - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.reddeer.requirements.server;
+
+import org.eclipse.debug.core.ILaunchManager;
+import org.eclipse.reddeer.common.wait.TimePeriod;
+import org.eclipse.reddeer.eclipse.wst.server.core.ServerCoreHandler;
+import org.eclipse.reddeer.eclipse.wst.server.ui.cnf.ServersViewEnums.ServerState;
+import org.eclipse.reddeer.requirements.exception.RequirementsLayerException;
+import org.eclipse.wst.server.core.IRuntime;
+import org.eclipse.wst.server.core.IServer;
+
+/**
+ * Sets up and removes servers of server requirements via WST server API. All
+ * references to the optional WST server core bundle are kept in this class so
+ * that {@link AbstractServerRequirement} can be loaded without it.
+ */
+final class ServerCoreRequirementSupport {
+
+	private ServerCoreRequirementSupport() {
+
+	}
+
+	/**
+	 * Sets up state of the server with specified name. Server which is
+	 * starting or stopping is set up once it settles.
+	 *
+	 * @param serverName name of the server
+	 * @param requiredState required state of the server
+	 * @param timeout timeout of a server state change
+	 */
+	static void setupServerState(String serverName, ServerRequirementState requiredState, TimePeriod timeout) {
+		ServerCoreHandler handler = ServerCoreHandler.getInstance();
+		IServer server = handler.getServer(serverName);
+		if (server == null) {
+			throw new RequirementsLayerException("Server '" + serverName + "' does not exist");
+		}
+		int state = handler.waitForStableState(server, timeout);
+		switch(state) {
+			case IServer.STATE_STARTED:
+				if(requiredState == ServerRequirementState.STOPPED)
+					handler.stop(server, timeout);
+				break;
+			case IServer.STATE_STOPPED:
+				if(requiredState == ServerRequirementState.RUNNING)
+					handler.start(server, ILaunchManager.RUN_MODE, timeout);
+				break;
+			default:
+				throw new RequirementsLayerException("It was expected to have server in "
+						+ ServerState.STARTED + " or " + ServerState.STOPPED
+						+ " state." + " Not in state " + ServerCoreHandler.getStateName(state) + ".");
+		}
+	}
+
+	/**
+	 * Removes the server with specified name and the runtime with specified
+	 * name.
+	 *
+	 * @param serverName name of the server
+	 * @param runtimeName name of the runtime
+	 * @param timeout timeout of the server removal
+	 */
+	static void removeServerAndRuntime(String serverName, String runtimeName, TimePeriod timeout) {
+		ServerCoreHandler handler = ServerCoreHandler.getInstance();
+		IServer server = handler.getServer(serverName);
+		if(server == null){
+			return;
+		}
+		//remove server added by last requirement
+		handler.delete(server, timeout);
+		//remove runtime
+		IRuntime runtime = handler.getRuntime(runtimeName);
+		if (runtime != null) {
+			handler.delete(runtime);
+		}
+	}
+
+	/**
+	 * Finds out whether the server with specified name exists.
+	 *
+	 * @param serverName name of the server
+	 * @return true if the server exists, false otherwise
+	 */
+	static boolean serverExists(String serverName) {
+		return ServerCoreHandler.getInstance().serverExists(serverName);
+	}
+}
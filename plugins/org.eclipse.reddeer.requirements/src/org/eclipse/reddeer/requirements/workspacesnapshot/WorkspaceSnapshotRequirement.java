@@ -0,0 +1,149 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat, Inc - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.reddeer.requirements.workspacesnapshot;
+
+import java.io.File;
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.reddeer.common.exception.RedDeerException;
+import org.eclipse.reddeer.common.logging.Logger;
+import org.eclipse.reddeer.direct.project.Project;
+import org.eclipse.reddeer.direct.workspace.WorkspaceSnapshot;
+import org.eclipse.reddeer.junit.requirement.AbstractRequirement;
+import org.eclipse.reddeer.junit.requirement.Requirement;
+import org.eclipse.reddeer.requirements.exception.RequirementsLayerException;
+import org.eclipse.reddeer.requirements.property.RequirementPropertyExpandor;
+import org.eclipse.reddeer.requirements.workspacesnapshot.WorkspaceSnapshotRequirement.RestoreWorkspaceSnapshot;
+
+/**
+ * Workspace snapshot requirement<br><br>
+ *
+ * This {@link Requirement} restores projects from a template created by
+ * {@link WorkspaceSnapshot#capture(File, String...)} instead of importing them
+ * through wizards.<br><br>
+ *
+ * Example:<br>
+ * <pre>
+ * {@code @RestoreWorkspaceSnapshot("resources/snapshots/maven-projects.zip")
+ * public class TestClass {
+ *    // projects from the template are in the workspace
+ * }
+ * }
+ * </pre>
+ *
+ * Template path can be also specified as a system property, e.g.
+ * <i>${snapshot.location}</i>.
+ */
+public class WorkspaceSnapshotRequirement extends AbstractRequirement<RestoreWorkspaceSnapshot> {
+
+	private static final Logger log = Logger.getLogger(WorkspaceSnapshotRequirement.class);
+
+	private List<String> restoredProjects = new ArrayList<String>();
+
+	/**
+	 * Marks test class, which requires projects from a workspace snapshot.
+	 */
+	@Retention(RetentionPolicy.RUNTIME)
+	@Target(ElementType.TYPE)
+	@Documented
+	public @interface RestoreWorkspaceSnapshot {
+
+		/**
+		 * Path to the template file.
+		 *
+		 * @return path to the template file
+		 */
+		String value();
+
+		/**
+		 * Whether projects with the same names should be deleted before restoring.
+		 * The default value is true.
+		 *
+		 * @return true if existing projects should be replaced, false otherwise
+		 */
+		boolean replace() default true;
+
+		/**
+		 * Whether restored projects should be deleted after the test class. The
+		 * default value is true.
+		 *
+		 * @return true if the cleanup is required, false otherwise
+		 */
+		boolean cleanup() default true;
+	}
+
+	/**
+	 * Restores projects from the template into the workspace.
+	 */
+	@Override
+	public void fulfill() {
+		File template = getTemplate();
+		if (!template.isFile()) {
+			throw new RequirementsLayerException("Workspace snapshot '" + template.getAbsolutePath()
+					+ "' does not exist");
+		}
+		if (annotation.replace()) {
+			for (String projectName : WorkspaceSnapshot.getProjectNames(template)) {
+				if (Project.isProject(projectName)) {
+					log.debug("Deleting project '" + projectName + "' before restoring a workspace snapshot");
+					Project.delete(projectName, true, true);
+				}
+			}
+		}
+		try {
+			restoredProjects = WorkspaceSnapshot.restore(template);
+		} catch (RedDeerException e) {
+			throw new RequirementsLayerException("Cannot restore workspace snapshot '"
+					+ template.getAbsolutePath() + "'", e);
+		}
+	}
+
+	/**
+	 * Deletes restored projects if the cleanup is required.
+	 */
+	@Override
+	public void cleanUp() {
+		if (!annotation.cleanup()) {
+			return;
+		}
+		for (String projectName : restoredProjects) {
+			if (Project.isProject(projectName)) {
+				Project.delete(projectName, true, true);
+			}
+		}
+		restoredProjects.clear();
+	}
+
+	/**
+	 * Returns the template file. Its path can be a specific value or a property.
+	 *
+	 * @return template file
+	 */
+	public File getTemplate() {
+		return new File(RequirementPropertyExpandor.getProperty(annotation.value()));
+	}
+
+	/**
+	 * Returns names of projects restored from the template.
+	 *
+	 * @return names of restored projects
+	 */
+	public List<String> getRestoredProjects() {
+		return new ArrayList<String>(restoredProjects);
+	}
+}
@@ -42,6 +42,8 @@ import org.eclipse.swt.widgets.Widget;
 import org.eclipse.reddeer.common.exception.RedDeerException;
 import org.eclipse.reddeer.spy.view.RedDeerSpy;
 import org.eclipse.reddeer.spy.widget.ListChild;
+import org.eclipse.reddeer.spy.widget.locator.Locator;
+import org.eclipse.reddeer.spy.widget.locator.LocatorAnalyzer;
 import org.eclipse.reddeer.spy.widget.resolver.WidgetResolver;
 import org.eclipse.reddeer.core.util.TextWidgetUtil;
 
@@ -57,6 +59,7 @@ public class RedDeerWidgetTracker implements Runnable {
 
 	private RedDeerSpy spy;
 	private WidgetResolver widgetResolver;
+	private LocatorAnalyzer locatorAnalyzer;
 	// Style ranges for headlines and significant information in output
 	private List<StyleRange> styleRanges;
 	
@@ -65,6 +68,7 @@ public class RedDeerWidgetTracker implements Runnable {
 	public RedDeerWidgetTracker(RedDeerSpy spy) {
 		this.spy= spy;
 		widgetResolver = WidgetResolver.getInstance();
+		locatorAnalyzer = LocatorAnalyzer.getInstance();
 	}
 
 	@Override
@@ -94,6 +98,7 @@ public class RedDeerWidgetTracker implements Runnable {
 	private void getInformation(Control control, StringBuffer stringBuffer) {
 		stringBuffer.append(RedDeerSpy.SPY_VIEW_HEADER);
 		getWidgetInformation(control, stringBuffer);
+		getLocatorsInformation(control, stringBuffer);
 		getSiblingsInformation(control, stringBuffer);
 		getChildrenInformation(control, stringBuffer);
 		getWidgetTreeInformation(control, stringBuffer);
@@ -130,6 +135,24 @@ public class RedDeerWidgetTracker implements Runnable {
 		stringBuffer.append(redDeerWidgets.toString() + "\n");
 	}
 	
+	private void getLocatorsInformation(Control control, StringBuffer stringBuffer) {
+		addBoldText("Locators (cheapest first):", stringBuffer);
+		stringBuffer.append("\n");
+		
+		List<Locator> locators = locatorAnalyzer.analyze(control);
+		Locator suggestedLocator = locatorAnalyzer.getSuggestedLocator(locators);
+		for (Locator locator: locators) {
+			stringBuffer.append("\t");
+			if (locator == suggestedLocator) {
+				addBoldText("Suggested: " + locator.toString(), stringBuffer);
+			} else {
+				stringBuffer.append(locator.toString());
+			}
+			stringBuffer.append("\n");
+		}
+		stringBuffer.append("\n");
+	}
+	
 	private void getSiblingsInformation(Control control, StringBuffer stringBuffer) {
 		addBoldText("Siblings:", stringBuffer);
 		stringBuffer.append("\n");
@@ -0,0 +1,88 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat, Inc - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.reddeer.spy.widget.locator;
+
+/**
+ * Locator is a way to look up a widget by RedDeer together with cost of the
+ * lookup measured against the widget tree. Cost is the number of widgets
+ * traversed and the estimated number of UI thread accesses (syncExecs) until
+ * the widget is found.
+ */
+public class Locator {
+
+	private final String description;
+	private final boolean unique;
+	private final boolean stable;
+	private final int traversedWidgets;
+	private final int syncExecs;
+
+	Locator(String description, boolean unique, boolean stable, int traversedWidgets, int syncExecs) {
+		this.description = description;
+		this.unique = unique;
+		this.stable = stable;
+		this.traversedWidgets = traversedWidgets;
+		this.syncExecs = syncExecs;
+	}
+
+	/**
+	 * Gets description of the locator, i.e. RedDeer matchers, reference
+	 * composite and index.
+	 *
+	 * @return description of the locator
+	 */
+	public String getDescription() {
+		return description;
+	}
+
+	/**
+	 * Finds out whether the locator matches only one widget.
+	 *
+	 * @return true if no other widget is matched by the locator, false otherwise
+	 */
+	public boolean isUnique() {
+		return unique;
+	}
+
+	/**
+	 * Finds out whether the locator does not depend on order of widgets or on
+	 * content edited by a user.
+	 *
+	 * @return true if the locator is stable, false otherwise
+	 */
+	public boolean isStable() {
+		return stable;
+	}
+
+	/**
+	 * Gets number of widgets traversed until the widget is found.
+	 *
+	 * @return number of traversed widgets
+	 */
+	public int getTraversedWidgets() {
+		return traversedWidgets;
+	}
+
+	/**
+	 * Gets estimated number of UI thread accesses until the widget is found.
+	 *
+	 * @return number of syncExecs
+	 */
+	public int getSyncExecs() {
+		return syncExecs;
+	}
+
+	@Override
+	public String toString() {
+		return description + " [" + (unique ? "unique" : "not unique") + (stable ? ", stable" : "") + ", "
+				+ traversedWidgets + " widgets, ~" + syncExecs + " syncExecs]";
+	}
+}
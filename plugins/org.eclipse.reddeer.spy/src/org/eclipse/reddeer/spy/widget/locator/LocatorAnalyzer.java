@@ -0,0 +1,402 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat, Inc - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.reddeer.spy.widget.locator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.reddeer.common.exception.RedDeerException;
+import org.eclipse.reddeer.common.properties.RedDeerProperties;
+import org.eclipse.reddeer.core.lookup.WidgetLookup;
+import org.eclipse.reddeer.core.matcher.ClassMatcher;
+import org.eclipse.reddeer.core.matcher.WithIdMatcher;
+import org.eclipse.reddeer.core.matcher.WithLabelMatcher;
+import org.eclipse.reddeer.core.matcher.WithTextMatcher;
+import org.eclipse.reddeer.core.resolver.WidgetResolver;
+import org.eclipse.reddeer.core.util.TextWidgetUtil;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.custom.CLabel;
+import org.eclipse.swt.custom.StyledText;
+import org.eclipse.swt.layout.FormData;
+import org.eclipse.swt.widgets.Combo;
+import org.eclipse.swt.widgets.Control;
+import org.eclipse.swt.widgets.Group;
+import org.eclipse.swt.widgets.Label;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swt.widgets.Spinner;
+import org.eclipse.swt.widgets.Text;
+import org.eclipse.swt.widgets.Widget;
+import org.eclipse.ui.forms.widgets.Section;
+import org.hamcrest.BaseMatcher;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+
+/**
+ * Locator analyzer finds locators of a widget (index, text, label, id and
+ * group or section reference) and measures their cost against the live widget
+ * tree of the widget's shell. Widget tree is traversed in the same order as
+ * {@link WidgetLookup} does and for every traversed widget the UI thread
+ * accesses of the lookup are counted: visibility check, getting children and
+ * evaluation of matchers on widgets of the same class. Label matcher searches
+ * the whole shell for every evaluated widget, thus it is the most expensive one.
+ * The analyzer itself computes labels of all widgets of the shell in one
+ * traversal and reuses them for all scans.
+ */
+public class LocatorAnalyzer {
+
+	private static final int TEXT_MATCHER_SYNC_EXECS = 1;
+	private static final int ID_MATCHER_SYNC_EXECS = 1;
+
+	private static LocatorAnalyzer instance;
+
+	private LocatorAnalyzer() {
+
+	}
+
+	/**
+	 * Gets instance of LocatorAnalyzer.
+	 *
+	 * @return instance of LocatorAnalyzer
+	 */
+	public static LocatorAnalyzer getInstance() {
+		if (instance == null) {
+			instance = new LocatorAnalyzer();
+		}
+		return instance;
+	}
+
+	/**
+	 * Finds locators of specified control and measures their cost. Locators are
+	 * sorted from the best one, unique locators are first and then the
+	 * cheaper ones. Has to be called in the UI thread.
+	 *
+	 * @param control control to find locators of
+	 * @return sorted list of locators
+	 */
+	public List<Locator> analyze(Control control) {
+		Shell shell = control.getShell();
+		List<Candidate> candidates = getCandidates(control, countWidgets(shell), new Labels(control));
+		List<Locator> locators = new ArrayList<Locator>();
+		addLocators(locators, candidates, control, shell, null, new Scan());
+		for (Control parent = control.getParent(); parent != null && parent != shell; parent = parent.getParent()) {
+			String reference = getReference(parent);
+			if (reference == null) {
+				continue;
+			}
+			Scan referenceScan = scan(shell, parent, new ClassMatcher(parent.getClass()),
+					new WithTextMatcher(getText(parent)), TEXT_MATCHER_SYNC_EXECS);
+			if (referenceScan.isUnique()) {
+				addLocators(locators, candidates, control, parent, reference, referenceScan);
+			}
+		}
+		Collections.sort(locators, new Comparator<Locator>() {
+
+			@Override
+			public int compare(Locator locator1, Locator locator2) {
+				if (locator1.isUnique() != locator2.isUnique()) {
+					return locator1.isUnique() ? -1 : 1;
+				}
+				if (locator1.getSyncExecs() != locator2.getSyncExecs()) {
+					return Integer.compare(locator1.getSyncExecs(), locator2.getSyncExecs());
+				}
+				return Integer.compare(locator1.getTraversedWidgets(), locator2.getTraversedWidgets());
+			}
+		});
+		return locators;
+	}
+
+	/**
+	 * Gets the cheapest unique and stable locator from specified locators. If
+	 * there is no such locator, the first one is returned.
+	 *
+	 * @param locators locators sorted by {@link #analyze(Control)}
+	 * @return suggested locator or null if there are no locators
+	 */
+	public Locator getSuggestedLocator(List<Locator> locators) {
+		for (Locator locator : locators) {
+			if (locator.isUnique() && locator.isStable()) {
+				return locator;
+			}
+		}
+		return locators.isEmpty() ? null : locators.get(0);
+	}
+
+	private List<Candidate> getCandidates(Control control, int shellWidgets, Labels labels) {
+		List<Candidate> candidates = new ArrayList<Candidate>();
+		candidates.add(new Candidate(null, null, 0, false));
+
+		String text = getText(control);
+		if (text != null && !text.isEmpty()) {
+			candidates.add(new Candidate("new WithTextMatcher(" + quote(text) + ")", new WithTextMatcher(text),
+					TEXT_MATCHER_SYNC_EXECS, !isEditable(control)));
+		}
+
+		String label = labels.getLabel(control);
+		if (label != null && !label.isEmpty()) {
+			// label is searched among all widgets of the shell by WithLabelMatcher
+			candidates.add(new Candidate("new WithLabelMatcher(" + quote(label) + ")",
+					new LabelMatcher(label, labels), 2 + 2 * shellWidgets, true));
+		}
+
+		Object id = control.getData(RedDeerProperties.DEFAULT_KEY.getValue());
+		if (id != null) {
+			String idDescription = id instanceof String ? quote((String) id) : id.toString();
+			candidates.add(new Candidate("new WithIdMatcher(" + idDescription + ")", new WithIdMatcher(id),
+					ID_MATCHER_SYNC_EXECS, true));
+		}
+		return candidates;
+	}
+
+	private void addLocators(List<Locator> locators, List<Candidate> candidates, Control control, Widget root,
+			String reference, Scan referenceScan) {
+		ClassMatcher classMatcher = new ClassMatcher(control.getClass());
+		for (Candidate candidate : candidates) {
+			Scan scan = scan(root, control, classMatcher, candidate.matcher, candidate.syncExecs);
+			if (scan.index < 0) {
+				continue;
+			}
+			StringBuilder description = new StringBuilder();
+			if (reference != null) {
+				description.append("reference: ").append(reference).append("; ");
+			}
+			description.append("index: ").append(scan.index);
+			if (candidate.description != null) {
+				description.append("; matcher: ").append(candidate.description);
+			}
+			// index of widget depends on other widgets
+			boolean stable = candidate.stable && scan.index == 0;
+			locators.add(new Locator(description.toString(), scan.isUnique(), stable,
+					referenceScan.traversedWidgets + scan.traversedWidgets,
+					referenceScan.syncExecs + scan.syncExecs));
+		}
+	}
+
+	private Scan scan(Widget root, Widget target, Matcher<?> classMatcher, Matcher<?> matcher,
+			int matcherSyncExecs) {
+		Scan scan = new Scan();
+		visit(root, target, classMatcher, matcher, matcherSyncExecs, scan);
+		return scan;
+	}
+
+	private void visit(Widget widget, Widget target, Matcher<?> classMatcher, Matcher<?> matcher,
+			int matcherSyncExecs, Scan scan) {
+		if (widget.isDisposed()) {
+			return;
+		}
+		boolean counting = scan.index < 0;
+		if (counting) {
+			// visibility check
+			scan.traversedWidgets++;
+			scan.syncExecs++;
+		}
+		if (widget instanceof Control && !((Control) widget).getVisible()) {
+			return;
+		}
+		if (classMatcher.matches(widget)) {
+			if (counting) {
+				scan.syncExecs += matcherSyncExecs;
+			}
+			if (matcher == null || matcher.matches(widget)) {
+				if (widget == target) {
+					scan.index = scan.matches;
+				}
+				scan.matches++;
+			}
+		}
+		if (counting) {
+			// getting children
+			scan.syncExecs++;
+		}
+		for (Widget child : WidgetResolver.getInstance().getChildren(widget)) {
+			visit(child, target, classMatcher, matcher, matcherSyncExecs, scan);
+		}
+	}
+
+	private int countWidgets(Widget widget) {
+		int count = 1;
+		for (Widget child : WidgetResolver.getInstance().getChildren(widget)) {
+			count += countWidgets(child);
+		}
+		return count;
+	}
+
+	private String getReference(Control control) {
+		String text = getText(control);
+		if (text == null || text.isEmpty()) {
+			return null;
+		}
+		if (control instanceof Group) {
+			return "new DefaultGroup(" + quote(text) + ")";
+		}
+		if (control instanceof Section) {
+			return "new DefaultSection(" + quote(text) + ")";
+		}
+		return null;
+	}
+
+	private static boolean isEditable(Control control) {
+		if (control instanceof Combo) {
+			return (control.getStyle() & SWT.READ_ONLY) == 0;
+		}
+		return control instanceof Text || control instanceof StyledText || control instanceof Spinner;
+	}
+
+	private static String getText(Widget widget) {
+		try {
+			return TextWidgetUtil.getText(widget);
+		} catch (RedDeerException ex) {
+			return null;
+		}
+	}
+
+	private static String quote(String text) {
+		return "\"" + text.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n").replace("\t", "\\t")
+				+ "\"";
+	}
+
+	/**
+	 * Labels of controls computed the same way as
+	 * {@link WidgetLookup#getLabel(Control)} does, i.e. a label attached by form
+	 * data or the closest preceding label, but in one traversal of the shell.
+	 */
+	private static class Labels {
+
+		private final Map<Control, String> precedingLabels = new IdentityHashMap<Control, String>();
+		private final Map<Control, Map<Control, String>> formLabelsByParent =
+				new IdentityHashMap<Control, Map<Control, String>>();
+
+		private Labels(Control control) {
+			List<Control> allWidgets = Collections.emptyList();
+			try {
+				allWidgets = WidgetLookup.getInstance().findAllParentWidgets(control);
+			} catch (RedDeerException ex) {
+			}
+			String label = null;
+			for (Control widget : allWidgets) {
+				precedingLabels.put(widget, label);
+				if (widget instanceof Label && ((Label) widget).getImage() == null) {
+					label = ((Label) widget).getText();
+				} else if (widget instanceof CLabel && ((CLabel) widget).getImage() == null) {
+					label = ((CLabel) widget).getText();
+				}
+			}
+		}
+
+		private String getLabel(Control control) {
+			Control parent = control.getParent();
+			if (parent == null) {
+				return null;
+			}
+			Map<Control, String> formLabels = formLabelsByParent.get(parent);
+			if (formLabels == null) {
+				formLabels = getFormLabels(parent);
+				formLabelsByParent.put(parent, formLabels);
+			}
+			if (formLabels.containsKey(control)) {
+				return formLabels.get(control);
+			}
+			return precedingLabels.get(control);
+		}
+
+		private static Map<Control, String> getFormLabels(Control parent) {
+			Map<Control, String> formLabels = new IdentityHashMap<Control, String>();
+			for (Widget child : WidgetResolver.getInstance().getChildren(parent)) {
+				if (!(child instanceof Label || child instanceof CLabel)
+						|| !(((Control) child).getLayoutData() instanceof FormData)) {
+					continue;
+				}
+				FormData formData = (FormData) ((Control) child).getLayoutData();
+				if (formData.right != null && formData.right.control != null
+						&& !formLabels.containsKey(formData.right.control)) {
+					formLabels.put(formData.right.control,
+							child instanceof Label ? ((Label) child).getText() : ((CLabel) child).getText());
+				}
+			}
+			return formLabels;
+		}
+	}
+
+	/**
+	 * Matches the same widgets as {@link WithLabelMatcher} using labels
+	 * computed once per analysis.
+	 */
+	private static class LabelMatcher extends BaseMatcher<Control> {
+
+		private final String text;
+		private final Labels labels;
+
+		private LabelMatcher(String text, Labels labels) {
+			this.text = text;
+			this.labels = labels;
+		}
+
+		@Override
+		public boolean matches(Object item) {
+			if (!(item instanceof Control)) {
+				return false;
+			}
+			String label = labels.getLabel((Control) item);
+			if (label == null) {
+				return false;
+			}
+			// ignore asterisk and spaces
+			String trimmedLabel = label.trim();
+			if (trimmedLabel.endsWith("*")) {
+				trimmedLabel = trimmedLabel.substring(0, trimmedLabel.length() - 1).trim();
+			}
+			return text.equals(label) || text.equals(trimmedLabel);
+		}
+
+		@Override
+		public void describeTo(Description description) {
+			description.appendText("with label ").appendValue(text);
+		}
+	}
+
+	/**
+	 * Matcher of a locator with its cost per evaluated widget.
+	 */
+	private static class Candidate {
+
+		private final String description;
+		private final Matcher<?> matcher;
+		private final int syncExecs;
+		private final boolean stable;
+
+		private Candidate(String description, Matcher<?> matcher, int syncExecs, boolean stable) {
+			this.description = description;
+			this.matcher = matcher;
+			this.syncExecs = syncExecs;
+			this.stable = stable;
+		}
+	}
+
+	/**
+	 * Result of traversing a widget tree, cost is counted until the target
+	 * widget is found.
+	 */
+	private static class Scan {
+
+		private int index = -1;
+		private int matches;
+		private int traversedWidgets;
+		private int syncExecs;
+
+		private boolean isUnique() {
+			return index == 0 && matches == 1;
+		}
+	}
+}
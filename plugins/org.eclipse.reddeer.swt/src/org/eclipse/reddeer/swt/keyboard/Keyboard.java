@@ -11,12 +11,21 @@
  *******************************************************************************/
 package org.eclipse.reddeer.swt.keyboard;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.widgets.Event;
+import org.eclipse.swt.widgets.Listener;
 import org.eclipse.swt.widgets.Widget;
 import org.eclipse.reddeer.common.logging.Logger;
+import org.eclipse.reddeer.common.properties.RedDeerProperties;
 import org.eclipse.reddeer.common.util.Display;
+import org.eclipse.reddeer.common.util.ResultRunnable;
 import org.eclipse.reddeer.core.lookup.WidgetLookup;
+import org.eclipse.reddeer.swt.exception.SWTLayerException;
 
 /**
  * Class for operating with keyboard
@@ -31,6 +40,12 @@ abstract public class Keyboard {
 	
 	private static final int DELAY = 200;
 	
+	private static final int PIPELINE_BATCH_SIZE = 32;
+	
+	private static final long PIPELINE_TIMEOUT = 5000;
+	
+	private static final String PIPELINED_MODE = "pipelined";
+	
 	/**
 	 * Invokes given key combination. Accepts chars or {@link org.eclipse.swt.SWT} constants. For example: invokeKeyCombination(SWT.CONTROL, SWT.SHIFT, 't');
 	 * 
@@ -54,18 +69,62 @@ abstract public class Keyboard {
 	}
 	
 	/**
-	 * Types given text.
+	 * Types given text. Text is typed in paced mode unless the pipelined mode
+	 * is set by system property <i>rd.keyboardTypingMode=pipelined</i>.
 	 *
 	 * @param text the text to type
+	 * @see #typePipelined(String)
+	 * @see #typePaced(String)
 	 */
 	
 	public void type(String text){
+		if (PIPELINED_MODE.equals(RedDeerProperties.KEYBOARD_TYPING_MODE.getValue())) {
+			typePipelined(text);
+		} else {
+			typePaced(text);
+		}
+	}
+	
+	/**
+	 * Types given text character by character waiting between each key event.
+	 * This mode is slow but it works also for widgets which drop fast input.
+	 *
+	 * @param text the text to type
+	 */
+	
+	public void typePaced(String text){
 		log.info("Type text \"" + text + "\"");
 		for (char c : text.toCharArray()) {
 			invokeKeyCombination(DefaultKeyboardLayout.getInstance().getKeyCombination(c));
 		}
 	}
 	
+	/**
+	 * Types given text in batches of key events. Focus control is resolved only
+	 * once, all key events of a batch are posted at once and the next batch is
+	 * posted as soon as all key up events of the previous batch have been
+	 * dispatched. Widgets which drop dispatched key events cannot be detected,
+	 * they have to be typed to in paced mode.
+	 *
+	 * @param text the text to type
+	 * @throws SWTLayerException if key events cannot be posted or are not
+	 *             dispatched in time
+	 */
+	
+	public void typePipelined(String text){
+		log.info("Type text \"" + text + "\" (pipelined)");
+		final Widget w = WidgetLookup.getInstance().getFocusControl();
+		char[] chars = text.toCharArray();
+		for (int from = 0; from < chars.length; from += PIPELINE_BATCH_SIZE) {
+			int to = Math.min(from + PIPELINE_BATCH_SIZE, chars.length);
+			List<int[]> keyCombinations = new ArrayList<int[]>();
+			for (int i = from; i < to; i++) {
+				keyCombinations.add(DefaultKeyboardLayout.getInstance().getKeyCombination(chars[i]));
+			}
+			postAndWait(keyCombinations, w);
+		}
+	}
+	
 	/**
 	 *  Types given character.
 	 *
@@ -165,6 +224,75 @@ abstract public class Keyboard {
 		return e;
 	}
 	
+	/**
+	 * Posts key events of given key combinations and waits until all key up
+	 * events are dispatched. A display filter serves as a sentinel counting
+	 * dispatched key up events. Key events are matched by count only because
+	 * platforms may report key codes of dispatched events differently than
+	 * they were posted. Posted key events cannot be taken back, so they are
+	 * never typed again.
+	 *
+	 * @param keyCombinations key combinations of typed characters
+	 * @param w widget to post key events to
+	 * @throws SWTLayerException if key events cannot be posted or are not
+	 *             dispatched in time
+	 */
+	private void postAndWait(List<int[]> keyCombinations, Widget w) {
+		final List<Event> events = new ArrayList<Event>();
+		int keyUps = 0;
+		for (int[] keys : keyCombinations) {
+			for (int j = 0; j < keys.length; j++) {
+				events.add(keyEvent(keys[j], SWT.KeyDown, w));
+			}
+			for (int j = keys.length - 1; j >= 0; j--) {
+				events.add(keyEvent(keys[j], SWT.KeyUp, w));
+			}
+			keyUps += keys.length;
+		}
+		final CountDownLatch dispatched = new CountDownLatch(keyUps);
+		final Listener sentinel = new Listener() {
+
+			@Override
+			public void handleEvent(Event event) {
+				dispatched.countDown();
+			}
+		};
+		boolean completed = false;
+		try {
+			boolean posted = Display.syncExec(new ResultRunnable<Boolean>() {
+
+				@Override
+				public Boolean run() {
+					Display.getDisplay().addFilter(SWT.KeyUp, sentinel);
+					for (Event event : events) {
+						if (!Display.getDisplay().post(event)) {
+							return false;
+						}
+					}
+					return true;
+				}
+			});
+			if (!posted) {
+				throw new SWTLayerException("Cannot post key events to type the text");
+			}
+			completed = dispatched.await(PIPELINE_TIMEOUT, TimeUnit.MILLISECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} finally {
+			Display.syncExec(new Runnable() {
+
+				@Override
+				public void run() {
+					Display.getDisplay().removeFilter(SWT.KeyUp, sentinel);
+				}
+			});
+		}
+		if (!completed) {
+			throw new SWTLayerException("Key events were not dispatched in " + PIPELINE_TIMEOUT + " ms, "
+					+ dispatched.getCount() + " of " + keyUps + " key up events are pending");
+		}
+	}
+	
 	private void sync() {
 		delay(DELAY);
 		emptySync();		
@@ -0,0 +1,153 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat, Inc - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.reddeer.eclipse.ui.launcher;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.reddeer.common.properties.RedDeerProperties;
+
+/**
+ * JVM tuning profiles of the test JVM selected by
+ * {@link RedDeerProperties#JVM_PROFILE}. Both tuning profiles reuse the OSGi
+ * bundle cache of the previous launch and a class data sharing archive of the
+ * launch configuration, which is created by the first launch. Startup profile
+ * uses only the client compiler which is enough for a short test run,
+ * throughput profile uses parallel garbage collector and pre-touches the heap.
+ * Options specified in VM arguments of the launch configuration take
+ * precedence.
+ */
+public enum RedDeerJvmProfile {
+
+	NONE("none"),
+
+	STARTUP("startup"),
+
+	THROUGHPUT("throughput");
+
+	static final String CLEAN_ARGUMENT = "-clean";
+
+	// since Java 13 the archive can be dumped at exit, since 19 it is also recreated automatically
+	private static final int DYNAMIC_ARCHIVE_JAVA_VERSION = 13;
+	private static final int AUTO_ARCHIVE_JAVA_VERSION = 19;
+
+	private final String name;
+
+	private RedDeerJvmProfile(String name) {
+		this.name = name;
+	}
+
+	/**
+	 * Gets name of the profile used as value of
+	 * {@link RedDeerProperties#JVM_PROFILE}.
+	 *
+	 * @return name of the profile
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Finds out whether OSGi bundle cache is reused, i.e. the
+	 * {@value #CLEAN_ARGUMENT} program argument is not passed.
+	 *
+	 * @return true if bundle cache is reused, false otherwise
+	 */
+	public boolean isBundleCacheReused() {
+		return this != NONE;
+	}
+
+	/**
+	 * Gets VM arguments of the profile. Arguments for options already present
+	 * in specified VM arguments are skipped.
+	 *
+	 * @param vmArguments VM arguments of the launch
+	 * @param javaVersion major version of the test JVM, 0 if unknown
+	 * @param archive class data sharing archive file of the launch
+	 *            configuration
+	 * @return VM arguments to add
+	 */
+	public List<String> getVMArguments(List<String> vmArguments, int javaVersion, File archive) {
+		List<String> arguments = new ArrayList<String>();
+		if (this == NONE) {
+			return arguments;
+		}
+		boolean sharingConfigured = containsOption(vmArguments, "-XX:SharedArchiveFile=")
+				|| containsOption(vmArguments, "-XX:ArchiveClassesAtExit=") || containsOption(vmArguments, "-Xshare:");
+		if (!sharingConfigured && javaVersion >= AUTO_ARCHIVE_JAVA_VERSION) {
+			arguments.add("-XX:SharedArchiveFile=" + archive);
+			arguments.add("-XX:+AutoCreateSharedArchive");
+		} else if (!sharingConfigured && javaVersion >= DYNAMIC_ARCHIVE_JAVA_VERSION) {
+			arguments.add((archive.isFile() ? "-XX:SharedArchiveFile=" : "-XX:ArchiveClassesAtExit=") + archive);
+		}
+		if (this == STARTUP) {
+			addArgument(arguments, vmArguments, "-XX:TieredStopAtLevel=", "-XX:TieredStopAtLevel=1");
+		} else {
+			if (!hasGarbageCollector(vmArguments)) {
+				arguments.add("-XX:+UseParallelGC");
+			}
+			addArgument(arguments, vmArguments, "-XX:+AlwaysPreTouch", "-XX:+AlwaysPreTouch");
+			// heap is pre-touched only up to the initial size
+			String maxHeap = getOption(vmArguments, "-Xmx");
+			if (maxHeap != null) {
+				addArgument(arguments, vmArguments, "-Xms", "-Xms" + maxHeap.substring("-Xmx".length()));
+			}
+		}
+		return arguments;
+	}
+
+	/**
+	 * Gets profile with specified name.
+	 *
+	 * @param name name of the profile
+	 * @return profile with the name or {@link #NONE} if there is no such
+	 *         profile
+	 */
+	public static RedDeerJvmProfile getByName(String name) {
+		for (RedDeerJvmProfile profile : values()) {
+			if (profile.getName().equalsIgnoreCase(name)) {
+				return profile;
+			}
+		}
+		return NONE;
+	}
+
+	private static boolean hasGarbageCollector(List<String> vmArguments) {
+		for (String argument : vmArguments) {
+			if (argument.startsWith("-XX:+Use") && argument.endsWith("GC")) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static void addArgument(List<String> arguments, List<String> vmArguments, String option,
+			String argument) {
+		if (!containsOption(vmArguments, option)) {
+			arguments.add(argument);
+		}
+	}
+
+	private static boolean containsOption(List<String> vmArguments, String option) {
+		return getOption(vmArguments, option) != null;
+	}
+
+	private static String getOption(List<String> vmArguments, String option) {
+		for (String argument : vmArguments) {
+			if (argument.startsWith(option)) {
+				return argument;
+			}
+		}
+		return null;
+	}
+}
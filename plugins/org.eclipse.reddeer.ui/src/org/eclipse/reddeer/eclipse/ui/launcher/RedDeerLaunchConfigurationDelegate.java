@@ -11,6 +11,7 @@
  *******************************************************************************/
 package org.eclipse.reddeer.eclipse.ui.launcher;
 
+import java.io.File;
 import java.util.List;
 
 import org.eclipse.core.runtime.CoreException;
@@ -18,9 +19,14 @@ import org.eclipse.core.variables.IStringVariableManager;
 import org.eclipse.core.variables.VariablesPlugin;
 import org.eclipse.debug.core.ILaunchConfiguration;
 import org.eclipse.debug.core.ILaunchConfigurationWorkingCopy;
+import org.eclipse.jdt.launching.IVMInstall;
+import org.eclipse.jdt.launching.IVMInstall2;
 import org.eclipse.pde.launching.JUnitLaunchConfigurationDelegate;
+import org.eclipse.reddeer.common.properties.RedDeerProperties;
 import org.eclipse.reddeer.common.userprofile.UserProfile;
 import org.eclipse.reddeer.eclipse.jdt.debug.ui.launchConfigurations.RedDeerJavaArgumentsTab;
+import org.eclipse.reddeer.jdt.junit.UITestApplication;
+import org.eclipse.reddeer.ui.Activator;
 
 /**
  * A launch delegate for launching JUnit Plug-in tests.
@@ -42,6 +48,7 @@ public class RedDeerLaunchConfigurationDelegate extends
 	@Override
 	/**
 	 * Reads all attributes stored in configuration and those with specific red deer prefix stores as VM argument. 
+	 * Adds VM arguments of selected {@link RedDeerJvmProfile} and launch time used for the startup time report.
 	 */
 	protected void collectExecutionArguments(
 			ILaunchConfiguration configuration, List vmArguments,
@@ -50,6 +57,7 @@ public class RedDeerLaunchConfigurationDelegate extends
 
 		List<RedDeerLauncherProperties> properties = RedDeerLauncherProperties.loadAll(configuration);
 		IStringVariableManager mgr = VariablesPlugin.getDefault().getStringVariableManager();
+		String jvmProfile = null;
 		
 		if (properties != null && properties.size() > 0){
 			// RedDeer properties were added by Run As dialog
@@ -57,6 +65,9 @@ public class RedDeerLaunchConfigurationDelegate extends
 				if (property.getCurrentValue() == null || "".equals(property.getCurrentValue())){
 					continue;
 				}
+				if (property.getProperty() == RedDeerProperties.JVM_PROFILE){
+					jvmProfile = property.getCurrentValue();
+				}
 				vmArguments.add(getVMArgument(property, mgr));
 			}
 		}
@@ -66,6 +77,9 @@ public class RedDeerLaunchConfigurationDelegate extends
 			for (RedDeerLauncherProperties property : redDeerLauncherPropsInitValues){
 				String currValue = property.getCurrentValue(); 
 				if ( currValue != null && currValue.length() > 0){
+					if (property.getProperty() == RedDeerProperties.JVM_PROFILE){
+						jvmProfile = currValue;
+					}
 					vmArguments.add(getVMArgument(property, mgr));
 				}
 			}
@@ -93,6 +107,38 @@ public class RedDeerLaunchConfigurationDelegate extends
 				programArgs.add(userProfileProgramArgs);
 			}
 		}
+
+		RedDeerJvmProfile profile = RedDeerJvmProfile.getByName(jvmProfile);
+		int javaVersion = getJavaVersion(configuration);
+		if (profile != RedDeerJvmProfile.NONE){
+			vmArguments.addAll(profile.getVMArguments(vmArguments, javaVersion, getSharedArchive(configuration, javaVersion)));
+		}
+		if (profile.isBundleCacheReused()){
+			programArgs.remove(RedDeerJvmProfile.CLEAN_ARGUMENT);
+		}
+		vmArguments.add("-D" + UITestApplication.LAUNCH_TIME_PROPERTY + "=" + System.currentTimeMillis());
+	}
+
+	private int getJavaVersion(ILaunchConfiguration configuration) throws CoreException {
+		IVMInstall vmInstall = getVMInstall(configuration);
+		if (!(vmInstall instanceof IVMInstall2) || ((IVMInstall2) vmInstall).getJavaVersion() == null){
+			return 0;
+		}
+		// e.g. 1.8.0_292 or 17.0.2
+		String[] segments = ((IVMInstall2) vmInstall).getJavaVersion().split("[._+-]");
+		try {
+			int major = Integer.parseInt(segments[0]);
+			return major == 1 && segments.length > 1 ? Integer.parseInt(segments[1]) : major;
+		} catch (NumberFormatException e){
+			return 0;
+		}
+	}
+
+	private File getSharedArchive(ILaunchConfiguration configuration, int javaVersion) {
+		// archive can be used only by the JVM which created it
+		File archiveDirectory = Activator.getDefault().getStateLocation().append("cds").toFile();
+		archiveDirectory.mkdirs();
+		return new File(archiveDirectory, configuration.getName().replaceAll("[^\\w.-]", "_") + "-java" + javaVersion + ".jsa");
 	}
 	
 	private String getVMArgument (RedDeerLauncherProperties property, IStringVariableManager mgr) throws CoreException{
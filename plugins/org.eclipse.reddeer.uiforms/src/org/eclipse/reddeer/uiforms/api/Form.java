@@ -13,6 +13,7 @@ package org.eclipse.reddeer.uiforms.api;
 
 import org.eclipse.reddeer.core.reference.ReferencedComposite;
 import org.eclipse.reddeer.swt.api.Control;
+import org.eclipse.reddeer.uiforms.handler.FormSnapshot;
 
 /**
  * Represents Eclipse Form. This class will be used mainly for its children discovering
@@ -28,4 +29,22 @@ public interface Form extends ReferencedComposite, Control<org.eclipse.ui.forms.
 	 * @return the text
 	 */
 	String getText();
+
+	/**
+	 * Returns snapshot of the form with sections, expandable composites,
+	 * hyperlinks and form texts read at once.
+	 *
+	 * @return snapshot of the form
+	 */
+	FormSnapshot getSnapshot();
+
+	/**
+	 * Sets the expansion state of sections and expandable composites with
+	 * specified titles at once. If no title is specified, all sections and
+	 * expandable composites of the form are expanded or collapsed.
+	 *
+	 * @param expanded the new expanded state
+	 * @param titles titles of sections and expandable composites
+	 */
+	void setExpanded(boolean expanded, String... titles);
 }
@@ -11,7 +11,12 @@
  *******************************************************************************/
 package org.eclipse.reddeer.uiforms.handler;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.swt.widgets.Composite;
 import org.eclipse.ui.forms.widgets.ExpandableComposite;
+import org.eclipse.ui.forms.widgets.SharedScrolledComposite;
 import org.eclipse.reddeer.common.util.Display;
 import org.eclipse.reddeer.common.util.ResultRunnable;
 import org.eclipse.reddeer.core.handler.ControlHandler;
@@ -53,6 +58,65 @@ public class ExpandableCompositeHandler extends ControlHandler{
 		});
 	}
 
+	/**
+	 * Sets the expansion state to all specified {@link ExpandableComposite}s in
+	 * one UI thread access. Redraw of the scrolled forms containing the
+	 * composites is suspended meanwhile and each of the forms is reflowed once
+	 * at the end.
+	 *
+	 * @param composites {@link ExpandableComposite}s to handle
+	 * @param expanded the new expanded state
+	 */
+	public void setExpanded(final List<? extends ExpandableComposite> composites, final boolean expanded) {
+		Display.syncExec(new Runnable() {
+			@Override
+			public void run() {
+				setExpandedInUIThread(composites, expanded);
+			}
+		});
+	}
+
+	/**
+	 * Sets the expansion state to all specified {@link ExpandableComposite}s.
+	 * Has to be called in the UI thread.
+	 *
+	 * @param composites {@link ExpandableComposite}s to handle
+	 * @param expanded the new expanded state
+	 */
+	void setExpandedInUIThread(List<? extends ExpandableComposite> composites, boolean expanded) {
+		List<SharedScrolledComposite> forms = new ArrayList<SharedScrolledComposite>();
+		for (ExpandableComposite composite : composites) {
+			SharedScrolledComposite form = getScrolledForm(composite);
+			if (form != null && !forms.contains(form)) {
+				form.setRedraw(false);
+				forms.add(form);
+			}
+		}
+		try {
+			for (ExpandableComposite composite : composites) {
+				if (!composite.isDisposed() && composite.isExpanded() != expanded) {
+					composite.setExpanded(expanded);
+				}
+			}
+		} finally {
+			for (SharedScrolledComposite form : forms) {
+				if (!form.isDisposed()) {
+					form.reflow(true);
+					form.setRedraw(true);
+				}
+			}
+		}
+	}
+
+	private SharedScrolledComposite getScrolledForm(ExpandableComposite composite) {
+		for (Composite parent = composite.getParent(); parent != null; parent = parent.getParent()) {
+			if (parent instanceof SharedScrolledComposite) {
+				return (SharedScrolledComposite) parent;
+			}
+		}
+		return null;
+	}
+
 	/**
 	 * Returns the expansion state of the specified {@link ExpandableComposite}.
 	 *
@@ -11,10 +11,21 @@
  *******************************************************************************/
 package org.eclipse.reddeer.uiforms.handler;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Control;
+import org.eclipse.ui.forms.widgets.ExpandableComposite;
 import org.eclipse.ui.forms.widgets.Form;
+import org.eclipse.ui.forms.widgets.FormText;
+import org.eclipse.ui.forms.widgets.Hyperlink;
+import org.eclipse.ui.forms.widgets.Section;
 import org.eclipse.reddeer.common.util.Display;
 import org.eclipse.reddeer.common.util.ResultRunnable;
 import org.eclipse.reddeer.core.handler.ControlHandler;
+import org.eclipse.reddeer.uiforms.exception.UIFormLayerException;
 
 /**
  * Contains methods for handling UI operations on {@link Form} widget
@@ -52,4 +63,96 @@ public class FormHandler extends ControlHandler{
 		});
 	}
 
+	/**
+	 * Gets snapshot of form, i.e. titles and expansion states of sections and
+	 * expandable composites, hyperlinks and form texts, in one UI thread access.
+	 *
+	 * @param form to handle
+	 * @return snapshot of specified form
+	 */
+	public FormSnapshot getSnapshot(final Form form) {
+		return Display.syncExec(new ResultRunnable<FormSnapshot>() {
+
+			@Override
+			public FormSnapshot run() {
+				FormSnapshot snapshot = new FormSnapshot(form.getText());
+				addToSnapshot(form, snapshot);
+				return snapshot;
+			}
+		});
+	}
+
+	/**
+	 * Sets the expansion state to sections and expandable composites with
+	 * specified titles in form in one UI thread access and reflows the form
+	 * once. If no title is specified, all sections and expandable composites of
+	 * form are handled.
+	 *
+	 * @param form to handle
+	 * @param expanded the new expanded state
+	 * @param titles titles of sections and expandable composites
+	 * @throws UIFormLayerException if there is no section or expandable
+	 *             composite with some of the titles
+	 */
+	public void setExpanded(final Form form, final boolean expanded, final String... titles) {
+		final List<String> missingTitles = Display.syncExec(new ResultRunnable<List<String>>() {
+
+			@Override
+			public List<String> run() {
+				List<ExpandableComposite> composites = new ArrayList<ExpandableComposite>();
+				collectExpandableComposites(form, composites);
+				List<String> requestedTitles = Arrays.asList(titles);
+				List<String> missingTitles = new ArrayList<String>(requestedTitles);
+				if (titles.length > 0) {
+					List<ExpandableComposite> matchingComposites = new ArrayList<ExpandableComposite>();
+					for (ExpandableComposite composite : composites) {
+						if (requestedTitles.contains(composite.getText())) {
+							missingTitles.remove(composite.getText());
+							matchingComposites.add(composite);
+						}
+					}
+					composites = matchingComposites;
+				}
+				if (missingTitles.isEmpty()) {
+					ExpandableCompositeHandler.getInstance().setExpandedInUIThread(composites, expanded);
+				}
+				return missingTitles;
+			}
+		});
+		if (!missingTitles.isEmpty()) {
+			throw new UIFormLayerException("Form \"" + getText(form)
+					+ "\" does not contain sections or expandable composites " + missingTitles);
+		}
+	}
+
+	private void collectExpandableComposites(Composite composite, List<ExpandableComposite> composites) {
+		for (Control child : composite.getChildren()) {
+			if (child instanceof ExpandableComposite) {
+				composites.add((ExpandableComposite) child);
+			}
+			if (child instanceof Composite) {
+				collectExpandableComposites((Composite) child, composites);
+			}
+		}
+	}
+
+	private void addToSnapshot(Composite composite, FormSnapshot snapshot) {
+		for (Control child : composite.getChildren()) {
+			if (child instanceof Section) {
+				Section section = (Section) child;
+				snapshot.addSection(section.getText(), section.isExpanded());
+			} else if (child instanceof ExpandableComposite) {
+				ExpandableComposite expandableComposite = (ExpandableComposite) child;
+				snapshot.addExpandableComposite(expandableComposite.getText(), expandableComposite.isExpanded());
+			} else if (child instanceof Hyperlink) {
+				snapshot.addHyperlink(((Hyperlink) child).getText());
+			} else if (child instanceof FormText) {
+				snapshot.addFormText(FormTextHandler.getInstance().getText((FormText) child));
+			}
+			if (child instanceof Composite) {
+				addToSnapshot((Composite) child, snapshot);
+			}
+		}
+	}
+
 }
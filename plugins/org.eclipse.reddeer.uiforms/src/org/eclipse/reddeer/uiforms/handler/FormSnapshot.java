@@ -0,0 +1,127 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat, Inc - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.reddeer.uiforms.handler;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Form snapshot holds state of a form read in one UI thread access: titles and
+ * expansion states of sections and expandable composites, texts of hyperlinks
+ * and texts of form texts. Widgets of nested forms are included. Snapshot is
+ * not updated when the form changes.
+ */
+public class FormSnapshot {
+
+	private final String title;
+	private final Map<String, Boolean> sections = new LinkedHashMap<String, Boolean>();
+	private final Map<String, Boolean> expandableComposites = new LinkedHashMap<String, Boolean>();
+	private final List<String> hyperlinks = new ArrayList<String>();
+	private final List<String> formTexts = new ArrayList<String>();
+
+	FormSnapshot(String title) {
+		this.title = title;
+	}
+
+	void addSection(String text, boolean expanded) {
+		if (!sections.containsKey(text)) {
+			sections.put(text, expanded);
+		}
+	}
+
+	void addExpandableComposite(String text, boolean expanded) {
+		if (!expandableComposites.containsKey(text)) {
+			expandableComposites.put(text, expanded);
+		}
+	}
+
+	void addHyperlink(String text) {
+		hyperlinks.add(text);
+	}
+
+	void addFormText(String text) {
+		formTexts.add(text);
+	}
+
+	/**
+	 * Gets title of the form.
+	 *
+	 * @return title of the form
+	 */
+	public String getTitle() {
+		return title;
+	}
+
+	/**
+	 * Gets titles of sections in the order of the widget tree.
+	 *
+	 * @return titles of sections
+	 */
+	public List<String> getSectionTitles() {
+		return Collections.unmodifiableList(new ArrayList<String>(sections.keySet()));
+	}
+
+	/**
+	 * Gets titles of expandable composites which are not sections in the order
+	 * of the widget tree.
+	 *
+	 * @return titles of expandable composites
+	 */
+	public List<String> getExpandableCompositeTitles() {
+		return Collections.unmodifiableList(new ArrayList<String>(expandableComposites.keySet()));
+	}
+
+	/**
+	 * Finds out whether the form contains section with specified title.
+	 *
+	 * @param title title of a section
+	 * @return true if there is such section, false otherwise
+	 */
+	public boolean containsSection(String title) {
+		return sections.containsKey(title);
+	}
+
+	/**
+	 * Gets expansion state of a section or an expandable composite with
+	 * specified title. Sections are preferred and if there are more of them,
+	 * state of the first one is returned.
+	 *
+	 * @param title title of a section or an expandable composite
+	 * @return true if expanded, false if collapsed, null if there is no such
+	 *         section or expandable composite
+	 */
+	public Boolean isExpanded(String title) {
+		Boolean expanded = sections.get(title);
+		return expanded != null ? expanded : expandableComposites.get(title);
+	}
+
+	/**
+	 * Gets texts of hyperlinks in the order of the widget tree.
+	 *
+	 * @return texts of hyperlinks
+	 */
+	public List<String> getHyperlinks() {
+		return Collections.unmodifiableList(hyperlinks);
+	}
+
+	/**
+	 * Gets texts of form texts in the order of the widget tree.
+	 *
+	 * @return texts of form texts
+	 */
+	public List<String> getFormTexts() {
+		return Collections.unmodifiableList(formTexts);
+	}
+}
@@ -17,6 +17,7 @@ import org.eclipse.reddeer.core.reference.ReferencedComposite;
 import org.eclipse.reddeer.swt.widgets.AbstractControl;
 import org.eclipse.reddeer.uiforms.api.Form;
 import org.eclipse.reddeer.uiforms.handler.FormHandler;
+import org.eclipse.reddeer.uiforms.handler.FormSnapshot;
 
 /**
  * Common ancestor for all {@link Form} implementations. 
@@ -43,4 +44,12 @@ public abstract class AbstractForm extends AbstractControl<org.eclipse.ui.forms.
 	public String getText(){
 		return FormHandler.getInstance().getText(swtWidget);
 	}
+
+	public FormSnapshot getSnapshot(){
+		return FormHandler.getInstance().getSnapshot(swtWidget);
+	}
+
+	public void setExpanded(boolean expanded, String... titles){
+		FormHandler.getInstance().setExpanded(swtWidget, expanded, titles);
+	}
 }
@@ -31,9 +31,12 @@ import org.hamcrest.Matcher;
 import org.eclipse.reddeer.common.logging.Logger;
 import org.eclipse.reddeer.common.util.Display;
 import org.eclipse.reddeer.common.util.ResultRunnable;
+import org.eclipse.reddeer.workbench.core.lookup.WorkbenchStateTracker.WorkbenchState;
 
 /**
  * Workbench part lookup contains methods for looking up specific workbench part.
+ * Lookups read the model maintained by {@link WorkbenchStateTracker} when the
+ * workbench is running.
  * 
  * @author rawagner
  *
@@ -67,6 +70,10 @@ public class WorkbenchPartLookup {
 	 * @return active workbench part
 	 */
 	public IWorkbenchPart getActiveWorkbenchPart() {
+		WorkbenchState state = WorkbenchStateTracker.getInstance().getState();
+		if (state != null) {
+			return state.getActivePart();
+		}
 		return Display.syncExec(new ResultRunnable<IWorkbenchPart>() {
 
 			@Override
@@ -83,6 +90,10 @@ public class WorkbenchPartLookup {
 	 * @return list of currently opened view parts
 	 */
 	public List<IViewPart> getOpenViews() {
+		WorkbenchState state = WorkbenchStateTracker.getInstance().getState();
+		if (state != null) {
+			return new ArrayList<IViewPart>(state.getOpenViews());
+		}
 		return Display.syncExec(new ResultRunnable<List<IViewPart>>() {
 
 			@Override
@@ -123,6 +134,10 @@ public class WorkbenchPartLookup {
 	 * @return array of all view references
 	 */
 	public IViewReference[] findAllViewReferences() {
+		WorkbenchState state = WorkbenchStateTracker.getInstance().getState();
+		if (state != null) {
+			return state.getViewReferences().toArray(new IViewReference[0]);
+		}
 		return Display.syncExec(new ResultRunnable<IViewReference[]>() {
 
 			@Override
@@ -138,15 +153,11 @@ public class WorkbenchPartLookup {
 	 * @return active view
 	 */
 	public IViewReference getActiveView() {
-		return Display.syncExec(new ResultRunnable<IViewReference>() {
-			public IViewReference run() {
-				IWorkbenchPartReference activeWorkbenchPart = getActiveWorkbenchPartReference();
-				if (activeWorkbenchPart instanceof IViewReference) {
-					return (IViewReference) activeWorkbenchPart;
-				}
-				return null;
-			}
-		});
+		IWorkbenchPartReference activeWorkbenchPart = getActiveWorkbenchPartReference();
+		if (activeWorkbenchPart instanceof IViewReference) {
+			return (IViewReference) activeWorkbenchPart;
+		}
+		return null;
 	}
 
 	/**
@@ -156,29 +167,20 @@ public class WorkbenchPartLookup {
 	 * @return view part matching specified matcher
 	 */
 	public IViewPart getViewByTitle(final Matcher<String> name) {
-		return Display.syncExec(new ResultRunnable<IViewPart>() {
-
-			@Override
-			public IViewPart run() {
-				List<IViewPart> views = getOpenViews();
-				for (IViewPart view : views) {
-					if (name.matches(view.getViewSite().getRegisteredName())) {
-						return view;
-					}
-				}
-
-				logAllViews(views);
-				return null;
+		// registered names of views do not change, no need to access them in UI thread
+		List<IViewPart> views = getOpenViews();
+		for (IViewPart view : views) {
+			if (name.matches(view.getViewSite().getRegisteredName())) {
+				return view;
 			}
+		}
 
-			private void logAllViews(List<IViewPart> views) {
-				log.debug("View matching '" + name + "' not found");
-				log.debug("List of found views:");
-				for (IViewPart view : views) {
-					log.debug("\t'" + view.getViewSite().getRegisteredName() + "'");
-				}
-			}
-		});
+		log.debug("View matching '" + name + "' not found");
+		log.debug("List of found views:");
+		for (IViewPart view : views) {
+			log.debug("\t'" + view.getViewSite().getRegisteredName() + "'");
+		}
+		return null;
 	}
 
 	
@@ -222,6 +224,10 @@ public class WorkbenchPartLookup {
 	}
 
 	public String getActiveWorkbenchPartTitle() {
+		WorkbenchState state = WorkbenchStateTracker.getInstance().getState();
+		if (state != null) {
+			return state.getActivePartTitle();
+		}
 		final IWorkbenchPartReference part = getActiveWorkbenchPartReference();
 		if (part != null) {
 			return Display.syncExec(new ResultRunnable<String>() {
@@ -249,6 +255,10 @@ public class WorkbenchPartLookup {
 	 * @return active workbench part reference
 	 */
 	public IWorkbenchPartReference getActiveWorkbenchPartReference() {
+		WorkbenchState state = WorkbenchStateTracker.getInstance().getState();
+		if (state != null) {
+			return state.getActivePartReference();
+		}
 		return Display.syncExec(new ResultRunnable<IWorkbenchPartReference>() {
 
 			@Override
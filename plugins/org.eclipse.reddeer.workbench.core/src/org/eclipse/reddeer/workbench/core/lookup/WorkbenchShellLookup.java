@@ -15,6 +15,7 @@ import org.eclipse.swt.widgets.Shell;
 import org.eclipse.ui.PlatformUI;
 import org.eclipse.reddeer.common.util.Display;
 import org.eclipse.reddeer.common.util.ResultRunnable;
+import org.eclipse.reddeer.workbench.core.lookup.WorkbenchStateTracker.WorkbenchState;
 
 public class WorkbenchShellLookup {
 	
@@ -41,6 +42,10 @@ public class WorkbenchShellLookup {
 	 * @return active workbench shell
 	 */
 	public Shell getWorkbenchShell() {
+		WorkbenchState state = WorkbenchStateTracker.getInstance().getState();
+		if (state != null) {
+			return state.getShell();
+		}
 		return Display.syncExec(new ResultRunnable<Shell>() {
 			@Override
 			public Shell run() {
@@ -0,0 +1,477 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat, Inc - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.reddeer.workbench.core.lookup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.reddeer.common.logging.Logger;
+import org.eclipse.reddeer.common.util.Display;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.ui.IEditorReference;
+import org.eclipse.ui.IPageListener;
+import org.eclipse.ui.IPartListener2;
+import org.eclipse.ui.IPerspectiveDescriptor;
+import org.eclipse.ui.IPerspectiveListener;
+import org.eclipse.ui.IPropertyListener;
+import org.eclipse.ui.IViewPart;
+import org.eclipse.ui.IViewReference;
+import org.eclipse.ui.IWindowListener;
+import org.eclipse.ui.IWorkbench;
+import org.eclipse.ui.IWorkbenchPage;
+import org.eclipse.ui.IWorkbenchPart;
+import org.eclipse.ui.IWorkbenchPartConstants;
+import org.eclipse.ui.IWorkbenchPartReference;
+import org.eclipse.ui.IWorkbenchWindow;
+import org.eclipse.ui.PlatformUI;
+
+/**
+ * Workbench state tracker maintains a model of the active workbench window,
+ * its active page, active part and open views and editors. The model is
+ * rebuilt in the UI thread whenever workbench notifies about a change of
+ * windows, pages or perspectives, part events update only the part they are
+ * about. The model is published as an immutable {@link WorkbenchState}, so it
+ * can be read from any thread without synchronizing with the UI thread.<br>
+ * <br>
+ * The tracker is installed on the first call of {@link #getState()} when the
+ * workbench is running.
+ */
+public class WorkbenchStateTracker {
+
+	private static final Logger log = Logger.getLogger(WorkbenchStateTracker.class);
+
+	private static WorkbenchStateTracker instance;
+
+	private static final List<String> PART_CHANGES = Arrays.asList(IWorkbenchPage.CHANGE_VIEW_SHOW,
+			IWorkbenchPage.CHANGE_VIEW_HIDE, IWorkbenchPage.CHANGE_EDITOR_OPEN, IWorkbenchPage.CHANGE_EDITOR_CLOSE);
+
+	private volatile WorkbenchState state;
+	private volatile boolean installed;
+
+	// model is accessed only in the UI thread
+	private long version;
+	private IWorkbenchWindow window;
+	private IWorkbenchPage page;
+	private IWorkbenchPartReference activePartReference;
+	private String activePartTitle;
+	private final List<IViewReference> viewReferences = new ArrayList<IViewReference>();
+	private final List<IEditorReference> editorReferences = new ArrayList<IEditorReference>();
+	// views are kept by reference, reference of a closed view does not provide the view anymore
+	private final Map<IViewReference, IViewPart> openViews = new LinkedHashMap<IViewReference, IViewPart>();
+
+	private final Listener listener = new Listener();
+
+	private WorkbenchStateTracker() {
+
+	}
+
+	/**
+	 * Gets instance of WorkbenchStateTracker.
+	 *
+	 * @return WorkbenchStateTracker instance
+	 */
+	public static synchronized WorkbenchStateTracker getInstance() {
+		if (instance == null) {
+			instance = new WorkbenchStateTracker();
+		}
+		return instance;
+	}
+
+	/**
+	 * Gets current state of the workbench. Tracker is installed if it was not
+	 * installed yet.
+	 *
+	 * @return current workbench state or null if the workbench is not running
+	 *         or there is no workbench window
+	 */
+	public WorkbenchState getState() {
+		if (!installed) {
+			install();
+		}
+		return state;
+	}
+
+	/**
+	 * Gets version of the current workbench state. Version is incremented
+	 * every time the state changes.
+	 *
+	 * @return version of the current state or -1 if there is no state
+	 */
+	public long getVersion() {
+		WorkbenchState currentState = getState();
+		return currentState == null ? -1 : currentState.getVersion();
+	}
+
+	private void install() {
+		if (!PlatformUI.isWorkbenchRunning()) {
+			return;
+		}
+		// the tracker is installed and updated only in the UI thread, no
+		// locking is needed
+		Display.syncExec(new Runnable() {
+
+			@Override
+			public void run() {
+				if (installed) {
+					return;
+				}
+				IWorkbench workbench = PlatformUI.getWorkbench();
+				workbench.addWindowListener(listener);
+				for (IWorkbenchWindow window : workbench.getWorkbenchWindows()) {
+					addWindowListeners(window);
+				}
+				refresh();
+				installed = true;
+				log.debug("Workbench state tracker installed");
+			}
+		});
+	}
+
+	private void addWindowListeners(IWorkbenchWindow window) {
+		window.addPageListener(listener);
+		window.addPerspectiveListener(listener);
+		window.getPartService().addPartListener(listener);
+	}
+
+	private void removeWindowListeners(IWorkbenchWindow window) {
+		window.removePageListener(listener);
+		window.removePerspectiveListener(listener);
+		window.getPartService().removePartListener(listener);
+	}
+
+	/**
+	 * Rebuilds the whole model, has to be called in the UI thread.
+	 */
+	private void refresh() {
+		window = PlatformUI.getWorkbench().getActiveWorkbenchWindow();
+		page = window == null ? null : window.getActivePage();
+		viewReferences.clear();
+		editorReferences.clear();
+		openViews.clear();
+		if (page != null) {
+			for (IViewReference viewReference : page.getViewReferences()) {
+				addPart(viewReference);
+			}
+			for (IEditorReference editorReference : page.getEditorReferences()) {
+				addPart(editorReference);
+			}
+		}
+		setActivePart(page == null ? null : page.getActivePartReference());
+		publish();
+	}
+
+	/**
+	 * Publishes a new state from the model.
+	 */
+	private void publish() {
+		state = new WorkbenchState(++version, window, page, activePartReference, activePartTitle,
+				viewReferences, editorReferences, openViews.values());
+	}
+
+	private boolean isOnActivePage(IWorkbenchPartReference reference) {
+		return page != null && reference.getPage() == page;
+	}
+
+	private void setActivePart(IWorkbenchPartReference reference) {
+		if (activePartReference != reference) {
+			if (activePartReference != null) {
+				activePartReference.removePropertyListener(listener);
+			}
+			if (reference != null) {
+				reference.addPropertyListener(listener);
+			}
+			activePartReference = reference;
+		}
+		activePartTitle = reference == null ? null : reference.getTitle();
+	}
+
+	private void addPart(IWorkbenchPartReference reference) {
+		if (reference instanceof IViewReference) {
+			if (!viewReferences.contains(reference)) {
+				viewReferences.add((IViewReference) reference);
+			}
+			addOpenView((IViewReference) reference);
+		} else if (reference instanceof IEditorReference && !editorReferences.contains(reference)) {
+			editorReferences.add((IEditorReference) reference);
+		}
+	}
+
+	private void addOpenView(IViewReference reference) {
+		// view is created lazily, e.g. when its tab is shown for the first time
+		IViewPart view = reference.getView(false);
+		if (view != null) {
+			openViews.put(reference, view);
+		}
+	}
+
+	private void removePart(IWorkbenchPartReference reference) {
+		if (reference instanceof IViewReference) {
+			viewReferences.remove(reference);
+			openViews.remove(reference);
+		} else if (reference instanceof IEditorReference) {
+			editorReferences.remove(reference);
+		}
+	}
+
+	/**
+	 * Immutable snapshot of the workbench state.
+	 */
+	public static class WorkbenchState {
+
+		private final long version;
+		private final IWorkbenchWindow window;
+		private final Shell shell;
+		private final IWorkbenchPage page;
+		private final IWorkbenchPartReference activePartReference;
+		private final IWorkbenchPart activePart;
+		private final String activePartTitle;
+		private final List<IViewReference> viewReferences;
+		private final List<IEditorReference> editorReferences;
+		private final List<IViewPart> openViews;
+
+		private WorkbenchState(long version, IWorkbenchWindow window, IWorkbenchPage page,
+				IWorkbenchPartReference activePartReference, String activePartTitle,
+				List<IViewReference> viewReferences, List<IEditorReference> editorReferences,
+				Collection<IViewPart> openViews) {
+			this.version = version;
+			this.window = window;
+			this.shell = window == null ? null : window.getShell();
+			this.page = page;
+			this.activePartReference = activePartReference;
+			this.activePart = activePartReference == null ? null : activePartReference.getPart(false);
+			this.activePartTitle = activePartTitle;
+			this.viewReferences = Collections.unmodifiableList(new ArrayList<IViewReference>(viewReferences));
+			this.editorReferences = Collections.unmodifiableList(new ArrayList<IEditorReference>(editorReferences));
+			this.openViews = Collections.unmodifiableList(new ArrayList<IViewPart>(openViews));
+		}
+
+		/**
+		 * Gets version of this state.
+		 *
+		 * @return version
+		 */
+		public long getVersion() {
+			return version;
+		}
+
+		/**
+		 * Gets active workbench window.
+		 *
+		 * @return active workbench window or null
+		 */
+		public IWorkbenchWindow getWindow() {
+			return window;
+		}
+
+		/**
+		 * Gets shell of active workbench window.
+		 *
+		 * @return workbench shell or null
+		 */
+		public Shell getShell() {
+			return shell;
+		}
+
+		/**
+		 * Gets active page of active workbench window.
+		 *
+		 * @return active page or null
+		 */
+		public IWorkbenchPage getPage() {
+			return page;
+		}
+
+		/**
+		 * Gets active part reference.
+		 *
+		 * @return active part reference or null
+		 */
+		public IWorkbenchPartReference getActivePartReference() {
+			return activePartReference;
+		}
+
+		/**
+		 * Gets active part.
+		 *
+		 * @return active part or null
+		 */
+		public IWorkbenchPart getActivePart() {
+			return activePart;
+		}
+
+		/**
+		 * Gets title of active part.
+		 *
+		 * @return title of active part or null
+		 */
+		public String getActivePartTitle() {
+			return activePartTitle;
+		}
+
+		/**
+		 * Gets view references of active page.
+		 *
+		 * @return unmodifiable list of view references
+		 */
+		public List<IViewReference> getViewReferences() {
+			return viewReferences;
+		}
+
+		/**
+		 * Gets editor references of active page.
+		 *
+		 * @return unmodifiable list of editor references
+		 */
+		public List<IEditorReference> getEditorReferences() {
+			return editorReferences;
+		}
+
+		/**
+		 * Gets open views of active page including views on non-active tabs.
+		 *
+		 * @return unmodifiable list of open views
+		 */
+		public List<IViewPart> getOpenViews() {
+			return openViews;
+		}
+	}
+
+	private class Listener implements IWindowListener, IPageListener, IPerspectiveListener, IPartListener2,
+			IPropertyListener {
+
+		@Override
+		public void windowActivated(IWorkbenchWindow window) {
+			refresh();
+		}
+
+		@Override
+		public void windowDeactivated(IWorkbenchWindow window) {
+			refresh();
+		}
+
+		@Override
+		public void windowClosed(IWorkbenchWindow window) {
+			removeWindowListeners(window);
+			refresh();
+		}
+
+		@Override
+		public void windowOpened(IWorkbenchWindow window) {
+			addWindowListeners(window);
+			refresh();
+		}
+
+		@Override
+		public void pageActivated(IWorkbenchPage page) {
+			refresh();
+		}
+
+		@Override
+		public void pageClosed(IWorkbenchPage page) {
+			refresh();
+		}
+
+		@Override
+		public void pageOpened(IWorkbenchPage page) {
+			refresh();
+		}
+
+		@Override
+		public void perspectiveActivated(IWorkbenchPage page, IPerspectiveDescriptor perspective) {
+			refresh();
+		}
+
+		@Override
+		public void perspectiveChanged(IWorkbenchPage page, IPerspectiveDescriptor perspective, String changeId) {
+			// opened and closed parts are tracked by part events
+			if (!PART_CHANGES.contains(changeId)) {
+				refresh();
+			}
+		}
+
+		@Override
+		public void partActivated(IWorkbenchPartReference partRef) {
+			if (isOnActivePage(partRef)) {
+				addPart(partRef);
+				setActivePart(partRef);
+				publish();
+			}
+		}
+
+		@Override
+		public void partBroughtToTop(IWorkbenchPartReference partRef) {
+			// does not change the model
+		}
+
+		@Override
+		public void partClosed(IWorkbenchPartReference partRef) {
+			if (isOnActivePage(partRef)) {
+				removePart(partRef);
+				if (partRef == activePartReference) {
+					setActivePart(null);
+				}
+				publish();
+			}
+		}
+
+		@Override
+		public void partDeactivated(IWorkbenchPartReference partRef) {
+			// the next active part is set by partActivated
+		}
+
+		@Override
+		public void partOpened(IWorkbenchPartReference partRef) {
+			if (isOnActivePage(partRef)) {
+				addPart(partRef);
+				publish();
+			}
+		}
+
+		@Override
+		public void partHidden(IWorkbenchPartReference partRef) {
+			// hidden views stay open on non-active tabs
+		}
+
+		@Override
+		public void partVisible(IWorkbenchPartReference partRef) {
+			if (isOnActivePage(partRef) && partRef instanceof IViewReference) {
+				if (!openViews.containsKey(partRef)) {
+					addOpenView((IViewReference) partRef);
+					if (openViews.containsKey(partRef)) {
+						publish();
+					}
+				}
+			}
+		}
+
+		@Override
+		public void partInputChanged(IWorkbenchPartReference partRef) {
+			if (partRef == activePartReference) {
+				setActivePart(partRef);
+				publish();
+			}
+		}
+
+		@Override
+		public void propertyChanged(Object source, int propId) {
+			if (propId == IWorkbenchPartConstants.PROP_TITLE || propId == IWorkbenchPartConstants.PROP_PART_NAME) {
+				setActivePart(activePartReference);
+				publish();
+			}
+		}
+	}
+}
@@ -0,0 +1,291 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat, Inc - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.reddeer.workbench.handler;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.core.commands.ParameterizedCommand;
+import org.eclipse.core.expressions.EvaluationResult;
+import org.eclipse.core.expressions.Expression;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.jface.action.ActionContributionItem;
+import org.eclipse.jface.action.IContributionItem;
+import org.eclipse.reddeer.common.exception.RedDeerException;
+import org.eclipse.reddeer.common.logging.Logger;
+import org.eclipse.reddeer.common.util.Display;
+import org.eclipse.reddeer.common.util.ObjectUtil;
+import org.eclipse.reddeer.common.util.ResultRunnable;
+import org.eclipse.reddeer.swt.impl.menu.ShellMenuItem;
+import org.eclipse.reddeer.workbench.impl.shell.WorkbenchShell;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.MenuItem;
+import org.eclipse.ui.IWorkbenchPage;
+import org.eclipse.ui.IWorkbenchPartReference;
+import org.eclipse.ui.IWorkbenchWindow;
+import org.eclipse.ui.PlatformUI;
+import org.eclipse.ui.commands.ICommandService;
+import org.eclipse.ui.handlers.IHandlerService;
+import org.eclipse.ui.menus.CommandContributionItem;
+import org.eclipse.ui.services.IEvaluationService;
+
+/**
+ * Menu command handler selects items of workbench shell menu. The first
+ * selection of a menu path walks the menu widgets and remembers the command
+ * behind the selected menu item. Next selections of the same path in the same
+ * perspective and with the same active part execute the command directly via
+ * {@link IHandlerService}, without opening any menu. Menu items which are not
+ * backed by a command (or whose command is not enabled) are always selected
+ * via menu widgets.
+ */
+public class MenuCommandHandler {
+
+	private static final Logger log = Logger.getLogger(MenuCommandHandler.class);
+
+	private static MenuCommandHandler instance;
+
+	private final Map<String, Optional<MenuCommand>> commands = new ConcurrentHashMap<>();
+
+	private MenuCommandHandler() {
+
+	}
+
+	/**
+	 * Gets instance of MenuCommandHandler.
+	 *
+	 * @return instance of MenuCommandHandler
+	 */
+	public static MenuCommandHandler getInstance() {
+		if (instance == null) {
+			instance = new MenuCommandHandler();
+		}
+		return instance;
+	}
+
+	/**
+	 * Selects workbench shell menu item with the specified path. If the command
+	 * of the menu item is already known it is executed directly, otherwise the
+	 * menu item is selected via menu widgets.
+	 *
+	 * @param path
+	 *            menu path
+	 */
+	public void select(final String... path) {
+		final String key = getKey(path);
+		Optional<MenuCommand> command = key == null ? null : commands.get(key);
+		if (command != null && command.isPresent()) {
+			if (!isVisible(command.get())) {
+				log.debug("Menu item " + Arrays.toString(path) + " is not visible, menu widgets will be used");
+				commands.remove(key);
+				command = null;
+			} else if (execute(command.get().command)) {
+				return;
+			}
+		}
+		ShellMenuItem menuItem = new ShellMenuItem(new WorkbenchShell(), path);
+		if (key != null && command == null) {
+			MenuCommand resolvedCommand = resolveCommand(menuItem.getSWTWidget());
+			log.debug("Menu path " + Arrays.toString(path) + " is bound to command "
+					+ (resolvedCommand == null ? "<none>" : resolvedCommand.command.getId()));
+			commands.put(key, Optional.ofNullable(resolvedCommand));
+		}
+		menuItem.select();
+	}
+
+	/**
+	 * Gets id of the command remembered for the menu path in the current
+	 * perspective and with the current active part.
+	 *
+	 * @param path
+	 *            menu path
+	 * @return id of the remembered command or null if the menu path was not
+	 *         selected yet or it is not backed by a command
+	 */
+	public String getCommandId(final String... path) {
+		String key = getKey(path);
+		Optional<MenuCommand> command = key == null ? null : commands.get(key);
+		return command != null && command.isPresent() ? command.get().command.getId() : null;
+	}
+
+	/**
+	 * Finds out whether the menu path was already selected in the current
+	 * perspective and with the current active part, i.e. whether it is known
+	 * if the path is backed by a command.
+	 *
+	 * @param path
+	 *            menu path
+	 * @return true if the menu path is resolved, false otherwise
+	 */
+	public boolean isResolved(final String... path) {
+		String key = getKey(path);
+		return key != null && commands.containsKey(key);
+	}
+
+	/**
+	 * Forgets all remembered menu commands.
+	 */
+	public void clearCache() {
+		commands.clear();
+	}
+
+	private boolean isVisible(final MenuCommand command) {
+		return Display.syncExec(new ResultRunnable<Boolean>() {
+
+			@Override
+			public Boolean run() {
+				if (command.contributionItem != null && !command.contributionItem.isVisible()) {
+					return false;
+				}
+				if (command.visibleWhen == null) {
+					return true;
+				}
+				IEvaluationService evaluationService = PlatformUI.getWorkbench()
+						.getService(IEvaluationService.class);
+				try {
+					return command.visibleWhen.evaluate(evaluationService.getCurrentState()) != EvaluationResult.FALSE;
+				} catch (CoreException e) {
+					log.debug("Cannot evaluate visibility of command " + command.command.getId());
+					return false;
+				}
+			}
+		});
+	}
+
+	private boolean execute(final ParameterizedCommand command) {
+		boolean enabled = Display.syncExec(new ResultRunnable<Boolean>() {
+
+			@Override
+			public Boolean run() {
+				return command.getCommand().isDefined() && command.getCommand().isHandled()
+						&& command.getCommand().isEnabled();
+			}
+		});
+		if (!enabled) {
+			log.debug("Command " + command.getId() + " is not enabled, menu widgets will be used");
+			return false;
+		}
+		log.info("Execute command " + command.getId());
+		// command can open a modal dialog
+		Display.asyncExec(new Runnable() {
+
+			@Override
+			public void run() {
+				IHandlerService handlerService = PlatformUI.getWorkbench().getService(IHandlerService.class);
+				try {
+					handlerService.executeCommand(command, null);
+				} catch (Exception e) {
+					log.error("Cannot execute command " + command.getId(), e);
+				}
+			}
+		});
+		Display.syncExec(new Runnable() {
+
+			@Override
+			public void run() {
+
+			}
+		});
+		return true;
+	}
+
+	/**
+	 * Gets cache key consisting of menu path, active perspective and active
+	 * part.
+	 */
+	private String getKey(final String... path) {
+		return Display.syncExec(new ResultRunnable<String>() {
+
+			@Override
+			public String run() {
+				IWorkbenchWindow window = PlatformUI.getWorkbench().getActiveWorkbenchWindow();
+				IWorkbenchPage page = window == null ? null : window.getActivePage();
+				if (page == null || page.getPerspective() == null) {
+					return null;
+				}
+				IWorkbenchPartReference part = page.getActivePartReference();
+				return page.getPerspective().getId() + "|" + (part == null ? "" : part.getId()) + "|"
+						+ String.join("/", path);
+			}
+		});
+	}
+
+	private MenuCommand resolveCommand(final MenuItem menuItem) {
+		final Object data = Display.syncExec(new ResultRunnable<Object>() {
+
+			@Override
+			public Object run() {
+				if ((menuItem.getStyle() & (SWT.CHECK | SWT.RADIO | SWT.CASCADE)) != 0) {
+					return null;
+				}
+				return menuItem.getData();
+			}
+		});
+		IContributionItem contributionItem = data instanceof IContributionItem ? (IContributionItem) data : null;
+		if (data instanceof CommandContributionItem) {
+			return new MenuCommand(((CommandContributionItem) data).getCommand(), contributionItem, null);
+		}
+		if (data instanceof ActionContributionItem) {
+			String commandId = ((ActionContributionItem) data).getAction().getActionDefinitionId();
+			if (commandId == null) {
+				return null;
+			}
+			ICommandService commandService = PlatformUI.getWorkbench().getService(ICommandService.class);
+			return new MenuCommand(new ParameterizedCommand(commandService.getCommand(commandId), null),
+					contributionItem, null);
+		}
+		if (data != null) {
+			// e4 handled items keep parameterized command and visibleWhen
+			// expression in their model
+			try {
+				Object model = ObjectUtil.invokeMethod(data, "getModel");
+				Object command = model == null ? null : ObjectUtil.invokeMethod(model, "getWbCommand");
+				if (command instanceof ParameterizedCommand) {
+					return new MenuCommand((ParameterizedCommand) command, contributionItem,
+							getVisibleWhen(model));
+				}
+			} catch (RedDeerException e) {
+				log.trace("Menu item data " + data.getClass().getName() + " does not provide a command");
+			}
+		}
+		return null;
+	}
+
+	private Expression getVisibleWhen(Object model) {
+		try {
+			Object visibleWhen = ObjectUtil.invokeMethod(model, "getVisibleWhen");
+			Object expression = visibleWhen == null ? null : ObjectUtil.invokeMethod(visibleWhen, "getCoreExpression");
+			return expression instanceof Expression ? (Expression) expression : null;
+		} catch (RedDeerException e) {
+			log.trace("Menu item model " + model.getClass().getName() + " does not provide a core expression");
+			return null;
+		}
+	}
+
+	/**
+	 * Command of a menu item with the expression deciding its visibility.
+	 */
+	private static class MenuCommand {
+
+		private final ParameterizedCommand command;
+		private final IContributionItem contributionItem;
+		private final Expression visibleWhen;
+
+		private MenuCommand(ParameterizedCommand command, IContributionItem contributionItem,
+				Expression visibleWhen) {
+			this.command = command;
+			this.contributionItem = contributionItem;
+			this.visibleWhen = visibleWhen;
+		}
+	}
+}
@@ -12,15 +12,22 @@
 package org.eclipse.reddeer.workbench.handler;
 
 import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.DocumentRewriteSession;
+import org.eclipse.jface.text.DocumentRewriteSessionType;
 import org.eclipse.jface.text.IBlockTextSelection;
 import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IDocumentExtension4;
 import org.eclipse.jface.text.ITextSelection;
 import org.eclipse.jface.viewers.ISelection;
 import org.eclipse.ui.texteditor.ITextEditor;
 import org.eclipse.reddeer.common.util.Display;
 import org.eclipse.reddeer.common.util.ResultRunnable;
 import org.eclipse.reddeer.workbench.exception.WorkbenchLayerException;
+import org.eclipse.reddeer.workbench.impl.editor.DocumentEdits;
+import org.eclipse.reddeer.workbench.impl.editor.DocumentSnapshot;
 import org.eclipse.swt.graphics.Point;
+import org.eclipse.text.edits.MultiTextEdit;
+import org.eclipse.text.edits.TextEdit;
 
 /**
  * TextEditor handler handles operations for TextEditor instances.
@@ -441,6 +448,54 @@ public class TextEditorHandler extends EditorHandler{
 		});
 	}
 
+	/**
+	 * Gets snapshot of a document of specified text editor. Document text is read
+	 * once and the snapshot can be searched outside of UI thread.
+	 * 
+	 * @param editor editor to handle
+	 * @return snapshot of the document
+	 */
+	public DocumentSnapshot getDocumentSnapshot(final ITextEditor editor) {
+		return new DocumentSnapshot(Display.syncExec(new ResultRunnable<String>() {
+			@Override
+			public String run() {
+				return getDocument(editor).get();
+			}
+		}));
+	}
+	
+	/**
+	 * Applies all specified edits to a document of specified text editor in one
+	 * UI thread access. Edits are applied as one text edit within a document
+	 * rewrite session, thus document listeners are notified once.
+	 * 
+	 * @param editor editor to handle
+	 * @param edits edits to apply
+	 */
+	public void applyEdits(final ITextEditor editor, final DocumentEdits edits) {
+		Display.syncExec(new Runnable() {
+			@Override
+			public void run() {
+				IDocument document = getDocument(editor);
+				MultiTextEdit textEdit = edits.toTextEdit(document);
+				DocumentRewriteSession session = null;
+				if (document instanceof IDocumentExtension4) {
+					session = ((IDocumentExtension4) document)
+							.startRewriteSession(DocumentRewriteSessionType.UNRESTRICTED);
+				}
+				try {
+					textEdit.apply(document, TextEdit.NONE);
+				} catch (BadLocationException e) {
+					throw new WorkbenchLayerException("Edits are invalid for this editor", e);
+				} finally {
+					if (session != null) {
+						((IDocumentExtension4) document).stopRewriteSession(session);
+					}
+				}
+			}
+		});
+	}
+
     /**
      * Gets {@link IDocument} element of specified text editor.
      * 
@@ -0,0 +1,201 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat, Inc - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.reddeer.workbench.impl.editor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.TextUtilities;
+import org.eclipse.reddeer.workbench.exception.WorkbenchLayerException;
+import org.eclipse.text.edits.MalformedTreeException;
+import org.eclipse.text.edits.MultiTextEdit;
+import org.eclipse.text.edits.ReplaceEdit;
+
+/**
+ * Document edits collect changes of a text editor document which are applied
+ * at once (see {@link TextEditor#applyEdits(DocumentEdits)}). All lines and
+ * offsets refer to the document before any of the edits is applied and edits
+ * must not overlap. Edits at the same offset are applied in order in which
+ * they were added.
+ *
+ * <pre>
+ * editor.applyEdits(new DocumentEdits()
+ * 	.insertLine(0, "package test;")
+ * 	.replaceLine(5, "	int i = 0;")
+ * 	.deleteLine(7));
+ * </pre>
+ */
+public class DocumentEdits {
+
+	private final List<Edit> edits = new ArrayList<Edit>();
+
+	/**
+	 * Inserts text at a given offset.
+	 *
+	 * @param offset offset in the document
+	 * @param text text to insert
+	 * @return these edits
+	 */
+	public DocumentEdits insert(int offset, String text) {
+		return replace(offset, 0, text);
+	}
+
+	/**
+	 * Inserts text at a given line after n-th character of the line.
+	 *
+	 * @param line line number
+	 * @param offset offset in the line
+	 * @param text text to insert
+	 * @return these edits
+	 */
+	public DocumentEdits insert(final int line, final int offset, final String text) {
+		edits.add(new Edit() {
+
+			@Override
+			ReplaceEdit toTextEdit(IDocument document) throws BadLocationException {
+				return new ReplaceEdit(document.getLineOffset(line) + offset, 0, text);
+			}
+		});
+		return this;
+	}
+
+	/**
+	 * Inserts a new line with a given text before a given line. Line delimiter
+	 * of the given line is used, default line delimiter of the document is used
+	 * for the last line.
+	 *
+	 * @param line line number
+	 * @param text text of the new line
+	 * @return these edits
+	 */
+	public DocumentEdits insertLine(final int line, final String text) {
+		edits.add(new Edit() {
+
+			@Override
+			ReplaceEdit toTextEdit(IDocument document) throws BadLocationException {
+				String delimiter = document.getLineDelimiter(line);
+				delimiter = delimiter == null ? TextUtilities.getDefaultLineDelimiter(document) : delimiter;
+				return new ReplaceEdit(document.getLineOffset(line), 0, text + delimiter);
+			}
+		});
+		return this;
+	}
+
+	/**
+	 * Replaces text at a given offset.
+	 *
+	 * @param offset offset in the document
+	 * @param length length of replaced text
+	 * @param text new text
+	 * @return these edits
+	 */
+	public DocumentEdits replace(final int offset, final int length, final String text) {
+		edits.add(new Edit() {
+
+			@Override
+			ReplaceEdit toTextEdit(IDocument document) {
+				return new ReplaceEdit(offset, length, text);
+			}
+		});
+		return this;
+	}
+
+	/**
+	 * Replaces text of a given line. Line delimiter is kept.
+	 *
+	 * @param line line number
+	 * @param text new text of the line
+	 * @return these edits
+	 */
+	public DocumentEdits replaceLine(final int line, final String text) {
+		edits.add(new Edit() {
+
+			@Override
+			ReplaceEdit toTextEdit(IDocument document) throws BadLocationException {
+				String delimiter = document.getLineDelimiter(line);
+				int length = document.getLineLength(line) - (delimiter == null ? 0 : delimiter.length());
+				return new ReplaceEdit(document.getLineOffset(line), length, text);
+			}
+		});
+		return this;
+	}
+
+	/**
+	 * Deletes text at a given offset.
+	 *
+	 * @param offset offset in the document
+	 * @param length length of deleted text
+	 * @return these edits
+	 */
+	public DocumentEdits delete(int offset, int length) {
+		return replace(offset, length, "");
+	}
+
+	/**
+	 * Deletes a given line including its line delimiter.
+	 *
+	 * @param line line number
+	 * @return these edits
+	 */
+	public DocumentEdits deleteLine(final int line) {
+		edits.add(new Edit() {
+
+			@Override
+			ReplaceEdit toTextEdit(IDocument document) throws BadLocationException {
+				return new ReplaceEdit(document.getLineOffset(line), document.getLineLength(line), "");
+			}
+		});
+		return this;
+	}
+
+	/**
+	 * Gets number of collected edits.
+	 *
+	 * @return number of edits
+	 */
+	public int size() {
+		return edits.size();
+	}
+
+	/**
+	 * Creates a text edit containing all collected edits for a given document.
+	 * Has to be called in the UI thread.
+	 *
+	 * @param document document to edit
+	 * @return text edit to apply on the document
+	 */
+	public MultiTextEdit toTextEdit(IDocument document) {
+		MultiTextEdit multiTextEdit = new MultiTextEdit();
+		int index = 0;
+		try {
+			for (Edit edit : edits) {
+				multiTextEdit.addChild(edit.toTextEdit(document));
+				index++;
+			}
+		} catch (BadLocationException e) {
+			throw new WorkbenchLayerException("Line or offset of edit " + index + " is invalid for this editor", e);
+		} catch (MalformedTreeException e) {
+			throw new WorkbenchLayerException("Edit " + index + " overlaps with another edit", e);
+		}
+		return multiTextEdit;
+	}
+
+	/**
+	 * Single edit resolved against a document.
+	 */
+	private abstract static class Edit {
+
+		abstract ReplaceEdit toTextEdit(IDocument document) throws BadLocationException;
+	}
+}
@@ -0,0 +1,192 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat, Inc - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.reddeer.workbench.impl.editor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.eclipse.jface.text.IRegion;
+import org.eclipse.jface.text.Region;
+import org.eclipse.reddeer.workbench.exception.WorkbenchLayerException;
+
+/**
+ * Document snapshot holds a content of a text editor document at the moment it
+ * was taken together with offsets of its lines. All methods work with the
+ * snapshot only, so they can be called from any thread without accessing the
+ * document again. Lines and offsets are counted from 0 and lines are delimited
+ * by "\n", "\r" or "\r\n" as in a document.
+ */
+public class DocumentSnapshot {
+
+	private final String text;
+	private final int[] lineOffsets;
+
+	/**
+	 * Creates a snapshot of a given document content.
+	 *
+	 * @param text content of a document
+	 */
+	public DocumentSnapshot(String text) {
+		this.text = text == null ? "" : text;
+		this.lineOffsets = computeLineOffsets(this.text);
+	}
+
+	private static int[] computeLineOffsets(String text) {
+		int[] offsets = new int[16];
+		int lines = 1;
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			if (c == '\r' && i + 1 < text.length() && text.charAt(i + 1) == '\n') {
+				i++;
+			} else if (c != '\r' && c != '\n') {
+				continue;
+			}
+			if (lines == offsets.length) {
+				offsets = Arrays.copyOf(offsets, offsets.length * 2);
+			}
+			offsets[lines++] = i + 1;
+		}
+		return Arrays.copyOf(offsets, lines);
+	}
+
+	/**
+	 * Gets whole text of the document.
+	 *
+	 * @return text of the document
+	 */
+	public String getText() {
+		return text;
+	}
+
+	/**
+	 * Gets number of lines of the document.
+	 *
+	 * @return number of lines
+	 */
+	public int getNumberOfLines() {
+		return lineOffsets.length;
+	}
+
+	/**
+	 * Gets offset of the first character of a given line.
+	 *
+	 * @param line line number
+	 * @return offset of the line
+	 */
+	public int getLineOffset(int line) {
+		checkLine(line);
+		return lineOffsets[line];
+	}
+
+	/**
+	 * Gets text on a given line without line delimiter.
+	 *
+	 * @param line line number
+	 * @return text on the line
+	 */
+	public String getTextAtLine(int line) {
+		checkLine(line);
+		int end = line + 1 < lineOffsets.length ? lineOffsets[line + 1] : text.length();
+		while (end > lineOffsets[line] && (text.charAt(end - 1) == '\n' || text.charAt(end - 1) == '\r')) {
+			end--;
+		}
+		return text.substring(lineOffsets[line], end);
+	}
+
+	/**
+	 * Gets line containing a given offset.
+	 *
+	 * @param offset offset in the document
+	 * @return line number
+	 */
+	public int getLineOfOffset(int offset) {
+		if (offset < 0 || offset > text.length()) {
+			throw new WorkbenchLayerException("Unable to get line of offset " + offset);
+		}
+		int line = Arrays.binarySearch(lineOffsets, offset);
+		return line >= 0 ? line : -line - 2;
+	}
+
+	/**
+	 * Gets position of first character of i-th occurrence of a given text.
+	 *
+	 * @param searchedText text to find
+	 * @param index index of text occurrence
+	 * @return position of the text or -1 if there is no such occurrence
+	 */
+	public int getPositionOfText(String searchedText, int index) {
+		if (index < 0) {
+			return -1;
+		}
+		int position = -searchedText.length();
+		for (int i = 0; i <= index; i++) {
+			position = text.indexOf(searchedText, position + searchedText.length());
+			if (position == -1) {
+				return -1;
+			}
+		}
+		return position;
+	}
+
+	/**
+	 * Gets line of i-th occurrence of a given text.
+	 *
+	 * @param searchedText text to find
+	 * @param index index of text occurrence
+	 * @return line of the text or -1 if there is no such occurrence
+	 */
+	public int getLineOfText(String searchedText, int index) {
+		int position = getPositionOfText(searchedText, index);
+		return position == -1 ? -1 : getLineOfOffset(position);
+	}
+
+	/**
+	 * Finds all matches of a given pattern in the document.
+	 *
+	 * @param pattern pattern to find
+	 * @return regions of all matches in order of their offsets
+	 */
+	public List<IRegion> find(Pattern pattern) {
+		List<IRegion> regions = new ArrayList<IRegion>();
+		Matcher matcher = pattern.matcher(text);
+		while (matcher.find()) {
+			regions.add(new Region(matcher.start(), matcher.end() - matcher.start()));
+		}
+		return regions;
+	}
+
+	/**
+	 * Finds lines containing a match of a given pattern.
+	 *
+	 * @param pattern pattern to find
+	 * @return numbers of lines containing a match, each line at most once
+	 */
+	public List<Integer> findLines(Pattern pattern) {
+		List<Integer> lines = new ArrayList<Integer>();
+		for (IRegion region : find(pattern)) {
+			int line = getLineOfOffset(region.getOffset());
+			if (lines.isEmpty() || lines.get(lines.size() - 1) != line) {
+				lines.add(line);
+			}
+		}
+		return lines;
+	}
+
+	private void checkLine(int line) {
+		if (line < 0 || line >= lineOffsets.length) {
+			throw new WorkbenchLayerException("Line provided is invalid for this editor");
+		}
+	}
+}
@@ -191,6 +191,26 @@ public class TextEditor extends AbstractEditor implements Editor {
 	}
 	
 	
+	/**
+	 * Returns snapshot of the document of this editor. The document is read once,
+	 * searching in the snapshot does not access the editor.
+	 * 
+	 * @return snapshot of the document
+	 */
+	public DocumentSnapshot getDocumentSnapshot() {
+		return TextEditorHandler.getInstance().getDocumentSnapshot((ITextEditor)getEditorPart());
+	}
+	
+	/**
+	 * Applies all given edits to the document of this editor at once.
+	 * This implementation is manipulating with IDocument of this TextEditor. 
+	 * @param edits edits to apply
+	 */
+	public void applyEdits(DocumentEdits edits) {
+		log.info("Apply " + edits.size() + " edits to editor");
+		TextEditorHandler.getInstance().applyEdits((ITextEditor)getEditorPart(), edits);
+	}
+	
 	/**
 	 * Returns string of currently selected text.
 	 * 
@@ -14,8 +14,7 @@ package org.eclipse.reddeer.workbench.workbenchmenu;
 import org.hamcrest.Matcher;
 import org.eclipse.reddeer.core.matcher.WithTextMatcher;
 import org.eclipse.reddeer.jface.window.Openable;
-import org.eclipse.reddeer.swt.impl.menu.ShellMenuItem;
-import org.eclipse.reddeer.workbench.impl.shell.WorkbenchShell;
+import org.eclipse.reddeer.workbench.handler.MenuCommandHandler;
 
 /**
  * Interface for all wizards openable from Workbench shell menu
@@ -36,9 +35,13 @@ public class WorkbenchMenuOpenable extends Openable{
 		this.menuPath = menuPath;
 	}
 
+	/**
+	 * Selects the menu path in workbench shell menu. Command behind the menu
+	 * item is executed directly once it is known, see {@link MenuCommandHandler}.
+	 */
 	@Override
 	public void run() {
-		new ShellMenuItem(new WorkbenchShell(), menuPath).select();
+		MenuCommandHandler.getInstance().select(menuPath);
 	}
 	
 	public String[] getMenuPath(){
@@ -12,10 +12,12 @@
 package org.eclipse.reddeer.common.test.wait;
 
 import static org.eclipse.reddeer.common.test.wait.CustomWaitCondition.sleep;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import org.eclipse.reddeer.common.condition.WaitCondition;
 import org.eclipse.reddeer.common.exception.WaitTimeoutExpiredException;
+import org.eclipse.reddeer.common.wait.AbstractWait;
 import org.eclipse.reddeer.common.wait.TimePeriod;
 import org.eclipse.reddeer.common.wait.WaitUntil;
 import org.junit.Before;
@@ -73,4 +75,17 @@ public class WaitUntilTest {
 		}
 	}
 	
+	@Test
+	public void test_WakeUp() {
+		// condition is fulfilled on the second test
+		WaitCondition condition = new CustomWaitCondition(false, 2);
+		new Thread(() -> {
+			sleep(500);
+			AbstractWait.wakeUp();
+		}).start();
+		long start = System.currentTimeMillis();
+		new WaitUntil(condition, TimePeriod.getCustom(120), true, 60000);
+		assertTrue("Wait was not woken up", System.currentTimeMillis() - start < 30000);
+	}
+	
 }
@@ -0,0 +1,67 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat, Inc - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.reddeer.core.test.condition;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.eclipse.reddeer.common.exception.WaitTimeoutExpiredException;
+import org.eclipse.reddeer.common.wait.TimePeriod;
+import org.eclipse.reddeer.common.wait.WaitWhile;
+import org.eclipse.reddeer.junit.runner.RedDeerSuite;
+import org.eclipse.reddeer.workbench.core.condition.JobFamilyIsRunning;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Tests for JobFamilyIsRunning condition.
+ */
+@RunWith(RedDeerSuite.class)
+public class JobFamilyIsRunningTest extends JobTestBase {
+
+	private static final String TEST_JOB_PREFIX = JobFamilyIsRunningTest.class + "_TEST_JOB_";
+	private static final String TEST_JOB_1 = TEST_JOB_PREFIX + 1;
+	private static final String TEST_JOB_2 = TEST_JOB_PREFIX + 2;
+	private static final String TEST_JOB_3 = TEST_JOB_PREFIX + 3;
+	private static final Object FAMILY_1 = new Object();
+	private static final Object FAMILY_2 = new Object();
+
+	@Test
+	public void testFamily() {
+		runParallelyForSecondsInFamily(TEST_JOB_1, 1, FAMILY_1);
+		runParallelyForSecondsInFamily(TEST_JOB_2, 2, FAMILY_1);
+		runParallelyForSecondsInFamily(TEST_JOB_3, 30, FAMILY_2);
+
+		assertTrue(new JobFamilyIsRunning(FAMILY_1).test());
+		new WaitWhile(new JobFamilyIsRunning(FAMILY_1));
+
+		assertNotRunning(TEST_JOB_1);
+		assertNotRunning(TEST_JOB_2);
+		assertRunning(TEST_JOB_3);
+		assertFalse(new JobFamilyIsRunning(FAMILY_1).test());
+		assertTrue(new JobFamilyIsRunning(FAMILY_1, FAMILY_2).test());
+	}
+
+	@Test
+	public void testNoJobOfFamily() {
+		runParallelyForSecondsInFamily(TEST_JOB_1, 30, FAMILY_2);
+		assertFalse(new JobFamilyIsRunning(FAMILY_1).test());
+	}
+
+	@Test(expected = WaitTimeoutExpiredException.class)
+	public void testShorterTimeOutThanJobDuration() {
+		runParallelyForSecondsInFamily(TEST_JOB_1, 6, FAMILY_1);
+		new WaitWhile(new JobFamilyIsRunning(FAMILY_1), TimePeriod.getCustom(4));
+		fail("No exception was thrown!");
+	}
+}
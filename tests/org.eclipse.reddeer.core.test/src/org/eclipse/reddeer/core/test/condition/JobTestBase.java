@@ -91,8 +91,27 @@ public abstract class JobTestBase {
 		runJob(name, seconds, true);
 	}
 
+	/**
+	 * Runs new parallel job belonging to a specified family.
+	 * @param name job name
+	 * @param seconds running time in seconds
+	 * @param family job family
+	 */
+	protected void runParallelyForSecondsInFamily(String name, int seconds, Object family) {
+		runJob(name, seconds, false, family);
+	}
+
 	private void runJob(final String name, final int seconds, final boolean isSystem) {
+		runJob(name, seconds, isSystem, null);
+	}
+
+	private void runJob(final String name, final int seconds, final boolean isSystem, final Object family) {
 		Job job = new Job(name) {
+			@Override
+			public boolean belongsTo(Object jobFamily) {
+				return family != null && family.equals(jobFamily);
+			}
+
 			@Override
 			protected IStatus run(IProgressMonitor monitor) {
 				try {
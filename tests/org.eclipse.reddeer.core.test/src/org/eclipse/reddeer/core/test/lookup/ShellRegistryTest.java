@@ -0,0 +1,59 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat, Inc - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.reddeer.core.test.lookup;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.eclipse.reddeer.common.util.Display;
+import org.eclipse.reddeer.core.lookup.ShellRegistry;
+import org.eclipse.reddeer.swt.api.Shell;
+import org.eclipse.reddeer.swt.impl.shell.DefaultShell;
+import org.eclipse.reddeer.swt.test.utils.ShellTestUtils;
+import org.junit.After;
+import org.junit.Test;
+
+public class ShellRegistryTest {
+
+	private static final String SHELL_TITLE = "Shell registry test shell";
+
+	private Shell shell;
+
+	@Test
+	public void testShellChangesAreTracked() {
+		ShellRegistry registry = ShellRegistry.getInstance();
+		int shellCount = registry.getShells().length;
+		long version = registry.getVersion();
+
+		Display.syncExec(() -> {
+			ShellTestUtils.createShell(SHELL_TITLE);
+		});
+		shell = new DefaultShell(SHELL_TITLE);
+		assertTrue(registry.getVersion() > version);
+		assertEquals(shellCount + 1, registry.getShells().length);
+		assertTrue(Arrays.asList(registry.getShells()).contains(shell.getSWTWidget()));
+
+		shell.close();
+		shell = null;
+		assertEquals(shellCount, registry.getShells().length);
+	}
+
+	@After
+	public void tearDown() {
+		if (shell != null) {
+			shell.close();
+			shell = null;
+		}
+	}
+}
@@ -15,6 +15,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
 
 import org.eclipse.reddeer.direct.preferences.Preferences;
+import org.eclipse.reddeer.direct.preferences.PreferencesSnapshot;
 import org.eclipse.reddeer.workbench.ui.dialogs.WorkbenchPreferenceDialog;
 import org.eclipse.reddeer.eclipse.m2e.core.ui.preferences.MavenSettingsPreferencePage;
 import org.eclipse.reddeer.junit.runner.RedDeerSuite;
@@ -39,6 +40,7 @@ public class PreferencesTest {
 
 	public static final String M2E_PLUGIN = "org.eclipse.m2e.core";
 	public static final String M2E_USER_SETTINGS = "eclipse.m2.userSettingsFile";
+	public static final String TEST_PLUGIN = "org.eclipse.reddeer.direct.test";
 
 	@Before
 	@After
@@ -113,4 +115,40 @@ public class PreferencesTest {
 		assertEquals("/tmp/settings.xml", defaultValue);
 	}
 
+	@Test
+	public void transactionTest() {
+		Preferences.transaction()
+			.set(TEST_PLUGIN, "key1", "value1")
+			.set(TEST_PLUGIN, "key2", "value2")
+			.set(M2E_PLUGIN, M2E_USER_SETTINGS, "/tmp/transaction.xml")
+			.commit();
+		assertEquals("value1", Preferences.get(TEST_PLUGIN, "key1"));
+		assertEquals("value2", Preferences.get(TEST_PLUGIN, "key2"));
+		assertEquals("/tmp/transaction.xml", Preferences.get(M2E_PLUGIN, M2E_USER_SETTINGS));
+
+		Preferences.transaction().set(TEST_PLUGIN, "key1", null).set(TEST_PLUGIN, "key2", null).commit();
+		assertNull(Preferences.get(TEST_PLUGIN, "key1"));
+		assertNull(Preferences.get(TEST_PLUGIN, "key2"));
+	}
+
+	@Test
+	public void snapshotTest() {
+		Preferences.set(TEST_PLUGIN, "key1", "value1");
+		PreferencesSnapshot snapshot = Preferences.snapshot(TEST_PLUGIN, M2E_PLUGIN);
+		assertEquals("value1", snapshot.get(TEST_PLUGIN, "key1"));
+
+		Preferences.transaction()
+			.set(TEST_PLUGIN, "key1", "changed")
+			.set(TEST_PLUGIN, "key2", "added")
+			.set(M2E_PLUGIN, M2E_USER_SETTINGS, "/tmp/snapshot.xml")
+			.commit();
+		snapshot.restore();
+
+		assertEquals("value1", Preferences.get(TEST_PLUGIN, "key1"));
+		assertNull(Preferences.get(TEST_PLUGIN, "key2"));
+		assertEquals(Preferences.getDefault(M2E_PLUGIN, M2E_USER_SETTINGS),
+				Preferences.get(M2E_PLUGIN, M2E_USER_SETTINGS));
+		Preferences.transaction().set(TEST_PLUGIN, "key1", null).commit();
+	}
+
 }
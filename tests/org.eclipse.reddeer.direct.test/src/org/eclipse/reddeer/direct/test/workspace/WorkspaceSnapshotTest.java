@@ -0,0 +1,151 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat, Inc - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.reddeer.direct.test.workspace;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.QualifiedName;
+import org.eclipse.reddeer.common.exception.RedDeerException;
+import org.eclipse.reddeer.direct.project.Project;
+import org.eclipse.reddeer.direct.workspace.WorkspaceSnapshot;
+import org.eclipse.reddeer.junit.runner.RedDeerSuite;
+import org.eclipse.reddeer.requirements.cleanworkspace.CleanWorkspaceRequirement;
+import org.eclipse.reddeer.requirements.workspacesnapshot.WorkspaceSnapshotRequirement;
+import org.eclipse.reddeer.requirements.workspacesnapshot.WorkspaceSnapshotRequirement.RestoreWorkspaceSnapshot;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Test for capturing and restoring workspace snapshots.
+ */
+@RunWith(RedDeerSuite.class)
+public class WorkspaceSnapshotTest {
+
+	private static final QualifiedName PROPERTY = new QualifiedName("org.eclipse.reddeer.direct.test", "snapshot");
+
+	private File template;
+
+	@Before
+	public void setUp() throws IOException {
+		new CleanWorkspaceRequirement().fulfill();
+		template = File.createTempFile("reddeer-snapshot", ".zip");
+	}
+
+	@After
+	public void tearDown() {
+		template.delete();
+	}
+
+	@Test
+	public void testCaptureAndRestore() throws IOException {
+		Project.create("snapshot-a");
+		Project.create("snapshot-b");
+		File file = new File(Project.getLocation("snapshot-a"), "content.txt");
+		Files.write(file.toPath(), "snapshot".getBytes(StandardCharsets.UTF_8));
+
+		WorkspaceSnapshot.capture(template, "snapshot-a", "snapshot-b");
+		assertEquals(Arrays.asList("snapshot-a", "snapshot-b"),
+				Arrays.asList(WorkspaceSnapshot.getProjectNames(template).toArray()));
+
+		Project.delete("snapshot-a", true, true);
+		Project.delete("snapshot-b", true, true);
+		assertFalse(Project.isProject("snapshot-a"));
+
+		WorkspaceSnapshot.restore(template);
+		assertTrue(Project.isProject("snapshot-a"));
+		assertTrue(Project.isOpen("snapshot-a"));
+		assertTrue(Project.isProject("snapshot-b"));
+		assertEquals("snapshot", new String(Files.readAllBytes(
+				new File(Project.getLocation("snapshot-a"), "content.txt").toPath()), StandardCharsets.UTF_8));
+	}
+
+	@Test(expected = RedDeerException.class)
+	public void testRestoreExistingProject() {
+		Project.create("snapshot-existing");
+		WorkspaceSnapshot.capture(template, "snapshot-existing");
+		WorkspaceSnapshot.restore(template);
+	}
+
+	@Test
+	public void testRestorePersistentProperty() throws CoreException {
+		Project.create("snapshot-property");
+		getProject("snapshot-property").setPersistentProperty(PROPERTY, "captured");
+
+		WorkspaceSnapshot.capture(template, "snapshot-property");
+		Project.delete("snapshot-property", true, true);
+		WorkspaceSnapshot.restore(template);
+
+		assertEquals("captured", getProject("snapshot-property").getPersistentProperty(PROPERTY));
+	}
+
+	@Test
+	public void testRequirement() throws CoreException {
+		Project.create("snapshot-requirement");
+		getProject("snapshot-requirement").setPersistentProperty(PROPERTY, "captured");
+		WorkspaceSnapshot.capture(template, "snapshot-requirement");
+		// existing project is replaced by the one from the template
+		getProject("snapshot-requirement").setPersistentProperty(PROPERTY, "changed");
+
+		WorkspaceSnapshotRequirement requirement = new WorkspaceSnapshotRequirement();
+		requirement.setDeclaration(createInstanceOfAnnotation(template.getAbsolutePath()));
+		requirement.fulfill();
+		assertEquals(Arrays.asList("snapshot-requirement"), requirement.getRestoredProjects());
+		assertTrue(Project.isOpen("snapshot-requirement"));
+		assertEquals("captured", getProject("snapshot-requirement").getPersistentProperty(PROPERTY));
+
+		requirement.cleanUp();
+		assertFalse(Project.isProject("snapshot-requirement"));
+	}
+
+	private static IProject getProject(String name) {
+		return ResourcesPlugin.getWorkspace().getRoot().getProject(name);
+	}
+
+	private static RestoreWorkspaceSnapshot createInstanceOfAnnotation(final String path) {
+		return new RestoreWorkspaceSnapshot() {
+
+			@Override
+			public String value() {
+				return path;
+			}
+
+			@Override
+			public boolean replace() {
+				return true;
+			}
+
+			@Override
+			public boolean cleanup() {
+				return true;
+			}
+
+			@Override
+			public Class<? extends Annotation> annotationType() {
+				return RestoreWorkspaceSnapshot.class;
+			}
+		};
+	}
+}
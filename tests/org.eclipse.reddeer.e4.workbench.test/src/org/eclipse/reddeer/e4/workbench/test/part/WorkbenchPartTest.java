@@ -13,6 +13,7 @@ package org.eclipse.reddeer.e4.workbench.test.part;
 
 import static org.junit.Assert.*;
 
+import org.eclipse.e4.ui.model.application.ui.basic.MPart;
 import org.eclipse.reddeer.common.exception.RedDeerException;
 import org.eclipse.reddeer.common.matcher.RegexMatcher;
 import org.eclipse.reddeer.common.wait.WaitWhile;
@@ -24,6 +25,8 @@ import org.eclipse.reddeer.swt.impl.table.DefaultTable;
 import org.eclipse.reddeer.swt.impl.table.DefaultTableItem;
 import org.eclipse.reddeer.swt.impl.text.DefaultText;
 import org.eclipse.reddeer.swt.impl.toolbar.DefaultToolItem;
+import org.eclipse.reddeer.workbench.core.lookup.WorkbenchPartLookup;
+import org.eclipse.reddeer.workbench.handler.WorkbenchPartHandler;
 import org.eclipse.reddeer.workbench.impl.part.DefaultWorkbenchPart;
 import org.eclipse.reddeer.workbench.impl.shell.WorkbenchShell;
 import org.junit.Test;
@@ -96,6 +99,24 @@ public class WorkbenchPartTest {
 		new DefaultTableItem(new DefaultTable(part),"Sample item 1");
 	}
 	
+	@Test
+	public void lookupWorkbenchPartByIdAndWidget() {
+		DefaultWorkbenchPart part = new DefaultWorkbenchPart("Sample Part");
+		part.activate();
+		MPart samplePart = WorkbenchPartLookup.getInstance().getWorkbenchPartWithId("e4.part.sample");
+		assertNotNull(samplePart);
+		assertEquals("Sample Part", samplePart.getLabel());
+		assertNull(WorkbenchPartLookup.getInstance().getWorkbenchPartWithId("e4.part.nonexisting"));
+		
+		DefaultTable table = new DefaultTable(part);
+		assertSame(samplePart, WorkbenchPartLookup.getInstance().getWorkbenchPartWithWidget(table.getSWTWidget()));
+		assertEquals("Sample Part", WorkbenchPartHandler.getInstance().getTitleOfWorkbenchPartWithWidget(table.getSWTWidget()));
+		
+		new DefaultWorkbenchPart("Sample Part 2").activate();
+		WorkbenchPartHandler.getInstance().activateWorkbenchPartWithWidget(table.getSWTWidget());
+		assertTrue(part.isActive());
+	}
+	
 	@Test
 	public void getWidgetFromPartWhenOtherShellIsActive() {
 		new ShellMenuItem("Help","About");
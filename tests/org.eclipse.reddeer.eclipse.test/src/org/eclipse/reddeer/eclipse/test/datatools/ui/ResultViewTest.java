@@ -11,9 +11,12 @@
  *******************************************************************************/
 package org.eclipse.reddeer.eclipse.test.datatools.ui;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import java.io.File;
+import java.util.Iterator;
 import java.util.List;
 
 import org.eclipse.reddeer.common.wait.TimePeriod;
@@ -46,6 +49,7 @@ import org.eclipse.reddeer.swt.impl.shell.DefaultShell;
 import org.eclipse.reddeer.swt.impl.styledtext.DefaultStyledText;
 import org.eclipse.reddeer.swt.impl.table.DefaultTable;
 import org.eclipse.reddeer.swt.impl.table.DefaultTableItem;
+import org.eclipse.reddeer.swt.impl.tree.DefaultTree;
 import org.eclipse.reddeer.swt.impl.tree.DefaultTreeItem;
 import org.eclipse.reddeer.workbench.impl.editor.DefaultEditor;
 import org.eclipse.reddeer.workbench.ui.dialogs.WorkbenchPreferenceDialog;
@@ -210,6 +214,10 @@ public class ResultViewTest {
 		view.open();
 		List<SQLResult> result = view.getResults();
 		assertTrue(result.size() == 1);
+		Iterator<SQLResult> iterator = view.iterateResults(1);
+		assertTrue(iterator.hasNext());
+		assertEquals(result.get(0).getStatus(), iterator.next().getStatus());
+		assertFalse(iterator.hasNext());
 		if (fail) {
 			assertTrue(result.get(0).getStatus() == SQLResultStatus.FAILED || result.get(0).getStatus() == SQLResultStatus.STARTED);;
 		} else {
@@ -220,6 +228,33 @@ public class ResultViewTest {
 		removeResults();
 	}
 	
+	@Test
+	public void testSQLResultViewRows() {
+		dropTable();
+		performSQLStatement(profile, "CREATE TABLE test(ID INT,NAME VARCHAR(40));"
+				+ "INSERT INTO test VALUES (1,'name1'),(2,'name2'),(3,'name3'),(4,'name4'),(5,'name5');");
+		removeResults();
+
+		performSQLStatement(profile, "SELECT ID, NAME FROM test ORDER BY ID;");
+
+		ResultView view = new ResultView();
+		view.open();
+		new DefaultTree(view).getItems().get(0).select();
+		// page size smaller than row count forces several pages to be read
+		Iterator<String[]> rows = view.iterateResultRows(2);
+		int rowCount = 0;
+		while (rows.hasNext()) {
+			String[] row = rows.next();
+			rowCount++;
+			assertEquals(String.valueOf(rowCount), row[row.length - 2]);
+			assertEquals("name" + rowCount, row[row.length - 1]);
+		}
+		assertEquals(5, rowCount);
+
+		dropTable();
+		removeResults();
+	}
+
 	private void dropTable() {
 		performSQLStatement(profile, "DROP TABLE TEST IF EXISTS;");				
 	}
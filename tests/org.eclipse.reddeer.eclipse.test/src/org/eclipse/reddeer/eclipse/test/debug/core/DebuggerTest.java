@@ -16,6 +16,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 
 import java.io.File;
+import java.util.Arrays;
 
 import org.eclipse.reddeer.common.wait.TimePeriod;
 import org.eclipse.reddeer.common.wait.WaitUntil;
@@ -122,6 +123,8 @@ public class DebuggerTest {
 		assertEquals("AppTest.testApp() line: 36", new LaunchView().getSelectedText());
 		new LaunchView().getSelectedItem().select();
 		assertEquals("testApp(com.example.debugger.AppTest)", new VariablesView().getValue("this"));
+		assertEquals(Arrays.asList("testApp(com.example.debugger.AppTest)", "testApp(com.example.debugger.AppTest)"),
+				new VariablesView().getValues(new String[] { "this" }, new String[] { "this" }));
 		new ResumeButton().click();
 		new WaitUntil(new LaunchIsTerminated());
 	}
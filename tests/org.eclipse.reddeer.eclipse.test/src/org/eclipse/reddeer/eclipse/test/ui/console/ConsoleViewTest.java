@@ -30,6 +30,7 @@ import org.eclipse.reddeer.common.wait.WaitWhile;
 import org.eclipse.reddeer.core.matcher.WithTextMatchers;
 import org.eclipse.reddeer.eclipse.condition.ConsoleHasLabel;
 import org.eclipse.reddeer.eclipse.condition.ConsoleHasLaunch;
+import org.eclipse.reddeer.eclipse.condition.ConsoleHasLine;
 import org.eclipse.reddeer.eclipse.condition.ConsoleHasNoChange;
 import org.eclipse.reddeer.eclipse.condition.ConsoleHasText;
 import org.eclipse.reddeer.eclipse.condition.ConsoleIsTerminated;
@@ -74,6 +75,7 @@ public class ConsoleViewTest {
 	private static final String TEST_CLASS_NAME2 = "TestClass2";
 	private static final String TEST_CLASS_LOOP_NAME = "TestLoopClass";
 	private static final String TEST_CLASS_LOOP2_NAME = "TestLoopClass2";
+	private static final String TEST_CLASS_CHUNKS_NAME = "TestChunksClass";
 
 	@BeforeClass
 	public static void setupClass() {
@@ -198,6 +200,37 @@ public class ConsoleViewTest {
 		assertEquals("StartHelloApplication", consoleView.getConsoleText().replaceAll("\\s", ""));
 	}
 	
+	@Test
+	public void consoleHasLineTest() {
+		runTestClass(TEST_CLASS_LOOP2_NAME);
+		ConsoleHasLine consoleHasLine = new ConsoleHasLine("^Hello Appl.*n$");
+		new WaitUntil(consoleHasLine, TimePeriod.LONG);
+		assertEquals("Hello Application", consoleHasLine.getResult().trim());
+	}
+
+	@Test
+	public void consoleHasLineInChunksTest() {
+		runTestClass(TEST_CLASS_CHUNKS_NAME);
+		// the first chunk alone matches the expression
+		ConsoleHasLine consoleHasLine = new ConsoleHasLine("^Hello Appl");
+		new WaitUntil(consoleHasLine, TimePeriod.LONG);
+		assertEquals("Hello Application", consoleHasLine.getResult().trim());
+	}
+	
+	@Test
+	public void consoleHasLastLineTest() {
+		runTestClass(TEST_CLASS_NAME);
+		// the last line is not terminated by a line delimiter
+		ConsoleHasLine consoleHasLine = new ConsoleHasLine("^Hello World$");
+		new WaitUntil(consoleHasLine);
+		assertEquals("Hello World", consoleHasLine.getResult());
+	}
+
+	@Test(expected = RedDeerException.class)
+	public void consoleHasLineNullTest() {
+		new WaitUntil(new ConsoleHasLine((String) null));
+	}
+	
 	@Test(expected = RedDeerException.class)
 	public void consoleHasTextTest() {
 		new WaitUntil(new ConsoleHasText(null));
@@ -247,7 +280,8 @@ public class ConsoleViewTest {
 			process.info()
 			.commandLine()
 			.map(proc -> Arrays
-					.asList(TEST_CLASS_NAME, TEST_CLASS_NAME1, TEST_CLASS_NAME2, TEST_CLASS_LOOP_NAME, TEST_CLASS_LOOP2_NAME)
+					.asList(TEST_CLASS_NAME, TEST_CLASS_NAME1, TEST_CLASS_NAME2, TEST_CLASS_LOOP_NAME, TEST_CLASS_LOOP2_NAME,
+							TEST_CLASS_CHUNKS_NAME)
 					.contains(proc)).orElse(false))
 		.findFirst()
 		.ifPresent(ProcessHandle::destroy);
@@ -264,6 +298,9 @@ public class ConsoleViewTest {
 					+ "Thread.sleep(10 * 1000);\n" + "System.out.println(\"Hello Application\");\n"
 					+ "Thread.sleep(20 * 1000);\n" + "System.out.println(\"Finish\");\n"
 					+ "} catch (InterruptedException e) {e.printStackTrace();}");
+			createJavaClass(TEST_CLASS_CHUNKS_NAME, "try {System.out.print(\"Hello Appl\");\n"
+					+ "System.out.flush();\n" + "Thread.sleep(5 * 1000);\n" + "System.out.println(\"ication\");\n"
+					+ "} catch (InterruptedException e) {e.printStackTrace();}");
 			createJavaClass(
 					TEST_CLASS_NAME1,
 					"System.out.print(\"Hello World1\");\ntry {\nThread.sleep(15*1000);\n} catch (InterruptedException e) {e.printStackTrace();}");
@@ -12,9 +12,14 @@
 package org.eclipse.reddeer.eclipse.test.ui.navigator;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import org.eclipse.reddeer.common.wait.TimePeriod;
+import org.eclipse.reddeer.common.wait.WaitUntil;
+import org.eclipse.reddeer.direct.project.Project;
+import org.eclipse.reddeer.eclipse.condition.ProjectExists;
 import org.eclipse.reddeer.eclipse.exception.EclipseLayerException;
 import org.eclipse.reddeer.eclipse.ui.navigator.resources.ProjectExplorer;
 import org.eclipse.reddeer.junit.runner.RedDeerSuite;
@@ -90,4 +95,23 @@ public class ProjectExplorerTest {
 		projectExplorer.deleteAllProjects(true);
 		projectExplorer.deleteAllProjects(false, TimePeriod.MEDIUM);
 	}
+	
+	@Test
+	public void getProjectsByName() {
+		Project.create("explorer-project-b");
+		Project.create("explorer-project-a");
+		try {
+			projectExplorer.open();
+			new WaitUntil(new ProjectExists("explorer-project-a", projectExplorer));
+			new WaitUntil(new ProjectExists("explorer-project-b", projectExplorer));
+			assertTrue(projectExplorer.containsProject("explorer-project-a"));
+			assertFalse(projectExplorer.containsProject("explorer-project-c"));
+			assertEquals("explorer-project-b", projectExplorer.getProject("explorer-project-b").getName());
+			assertEquals(2, projectExplorer.getProjects().size());
+			Project.delete("explorer-project-a", true, true);
+			assertFalse(projectExplorer.containsProject("explorer-project-a"));
+		} finally {
+			projectExplorer.deleteAllProjects();
+		}
+	}
 }
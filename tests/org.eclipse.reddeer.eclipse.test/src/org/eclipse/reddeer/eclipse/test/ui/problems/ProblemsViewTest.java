@@ -32,6 +32,7 @@ import org.eclipse.reddeer.common.wait.WaitWhile;
 import org.eclipse.reddeer.eclipse.condition.ExactNumberOfProblemsExists;
 import org.eclipse.reddeer.eclipse.condition.ProblemExists;
 import org.eclipse.reddeer.eclipse.condition.ProblemsViewIsEmpty;
+import org.eclipse.reddeer.eclipse.exception.EclipseLayerException;
 import org.eclipse.reddeer.eclipse.jdt.ui.packageview.PackageExplorerPart;
 import org.eclipse.reddeer.eclipse.jdt.ui.wizards.JavaProjectWizard;
 import org.eclipse.reddeer.eclipse.jdt.ui.wizards.NewClassCreationWizard;
@@ -198,6 +199,17 @@ public class ProblemsViewTest {
 		}
 	}
 	
+	@Test(expected=EclipseLayerException.class)
+	public void testGetHiddenColumnOfProblem() {
+		createError();
+		new WaitUntil(new ProblemExists(ProblemType.ERROR), TimePeriod.DEFAULT);
+		problemsView.hideProblemColumn(Column.LOCATION);
+		List<Problem> errors = problemsView.getProblems(ProblemType.ERROR);
+		assertEquals(1, errors.size());
+		assertEquals("Error description", ERROR_DESCRIPTION, errors.get(0).getDescription());
+		errors.get(0).getLocation();
+	}
+	
 	@Test
 	public void testNoErrorNoWarning() {
 		problemsView.open();
@@ -0,0 +1,24 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat, Inc - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.reddeer.graphiti.test;
+
+import org.eclipse.reddeer.eclipse.ui.wizards.newresource.BasicNewProjectResourceWizard;
+import org.eclipse.reddeer.swt.impl.text.LabeledText;
+
+public class GeneralProjectWizard extends BasicNewProjectResourceWizard {
+
+	public void create(String name) {
+		open();
+		new LabeledText("Project name:").setText(name);
+		finish();
+	}
+}
@@ -0,0 +1,113 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat, Inc - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.reddeer.graphiti.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.eclipse.gef.EditPart;
+import org.eclipse.graphiti.ui.editor.DiagramEditor;
+import org.eclipse.reddeer.common.wait.TimePeriod;
+import org.eclipse.reddeer.common.wait.WaitUntil;
+import org.eclipse.reddeer.eclipse.condition.ProjectExists;
+import org.eclipse.reddeer.eclipse.ui.navigator.resources.ProjectExplorer;
+import org.eclipse.reddeer.eclipse.utils.DeleteUtils;
+import org.eclipse.reddeer.gef.editor.GEFEditor;
+import org.eclipse.reddeer.graphiti.api.ContextButton;
+import org.eclipse.reddeer.graphiti.impl.graphitieditpart.LabeledGraphitiEditPart;
+import org.eclipse.reddeer.graphiti.lookup.DiagramEditorLookup;
+import org.eclipse.reddeer.graphiti.lookup.GraphitiEditPartIndex;
+import org.eclipse.reddeer.junit.runner.RedDeerSuite;
+import org.eclipse.reddeer.workbench.impl.shell.WorkbenchShell;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(RedDeerSuite.class)
+public class GraphitiEditPartIndexTest {
+
+	public static final String PROJECT_NAME = "test";
+
+	private GEFEditor gefEditor;
+	private DiagramEditor diagramEditor;
+
+	@BeforeClass
+	public static void maximizeWorkbenchShell() {
+		new WorkbenchShell().maximize();
+	}
+
+	@Before
+	public void createDiagram() {
+		new GeneralProjectWizard().create(PROJECT_NAME);
+		new ProjectExplorer().open();
+		new WaitUntil(new ProjectExists(PROJECT_NAME), TimePeriod.MEDIUM, false);
+		new ProjectExplorer().getProject(PROJECT_NAME).select();
+		new TutorialDiagramWizard().create("test");
+		gefEditor = new GEFEditor("test");
+		gefEditor.addToolFromPalette("EClass", 50, 100).setLabel("ClassA");
+		diagramEditor = DiagramEditorLookup.getInstance().findDiagramEditor();
+	}
+
+	@After
+	public void deleteAllProjects() {
+		new GEFEditor().close();
+		ProjectExplorer projectExplorer = new ProjectExplorer();
+		projectExplorer.open();
+		DeleteUtils.forceProjectDeletion(projectExplorer.getProject(PROJECT_NAME), true);
+	}
+
+	@Test
+	public void editPartsWithLabelTest() {
+		GraphitiEditPartIndex index = GraphitiEditPartIndex.getInstance();
+		assertEquals(1, index.getEditPartsWithLabel(diagramEditor, "ClassA").size());
+		assertTrue(index.getEditPartsWithLabel(diagramEditor, "ClassB").isEmpty());
+
+		// added edit part invalidates the index
+		gefEditor.addToolFromPalette("EClass", 200, 100).setLabel("ClassB");
+		List<EditPart> editParts = index.getEditPartsWithLabel(diagramEditor, "ClassB");
+		assertEquals(1, editParts.size());
+		assertEquals(editParts, index.getEditPartsWithLabel(diagramEditor, "ClassB", true));
+		assertSame(editParts.get(0), new LabeledGraphitiEditPart("ClassB").getGEFEditPart());
+	}
+
+	@Test
+	public void editPartsWithSameLabelTest() {
+		new LabeledGraphitiEditPart("ClassA").select();
+		gefEditor.addToolFromPalette("EClass", 200, 100).setLabel("ClassA");
+
+		assertEquals(2, GraphitiEditPartIndex.getInstance().getEditPartsWithLabel(diagramEditor, "ClassA").size());
+		assertNotSame(new LabeledGraphitiEditPart("ClassA", 0).getGEFEditPart(),
+				new LabeledGraphitiEditPart("ClassA", 1).getGEFEditPart());
+	}
+
+	@Test
+	public void contextButtonsCacheTest() {
+		gefEditor.addToolFromPalette("EClass", 200, 100).setLabel("ClassB");
+		LabeledGraphitiEditPart classA = new LabeledGraphitiEditPart("ClassA");
+		classA.select();
+
+		List<ContextButton> contextButtons = classA.getContextButtons();
+		assertFalse(contextButtons.isEmpty());
+		assertSame(contextButtons, classA.getContextButtons());
+
+		// changed selection clears cached context buttons
+		new LabeledGraphitiEditPart("ClassB").select();
+		assertNotSame(contextButtons, classA.getContextButtons());
+	}
+}
@@ -16,17 +16,13 @@ import org.eclipse.reddeer.common.wait.TimePeriod;
 import org.eclipse.reddeer.common.wait.WaitUntil;
 import org.eclipse.reddeer.core.exception.CoreLayerException;
 import org.eclipse.reddeer.eclipse.condition.ProjectExists;
-import org.eclipse.reddeer.eclipse.selectionwizard.NewMenuWizard;
 import org.eclipse.reddeer.eclipse.ui.navigator.resources.ProjectExplorer;
-import org.eclipse.reddeer.eclipse.ui.wizards.newresource.BasicNewProjectResourceWizard;
 import org.eclipse.reddeer.eclipse.utils.DeleteUtils;
 import org.eclipse.reddeer.gef.editor.GEFEditor;
 import org.eclipse.reddeer.graphiti.impl.graphitieditpart.LabeledGraphitiEditPart;
 import org.eclipse.reddeer.junit.runner.RedDeerSuite;
 import org.eclipse.reddeer.swt.impl.button.PushButton;
-import org.eclipse.reddeer.swt.impl.combo.LabeledCombo;
 import org.eclipse.reddeer.swt.impl.shell.DefaultShell;
-import org.eclipse.reddeer.swt.impl.text.LabeledText;
 import org.eclipse.reddeer.workbench.impl.shell.WorkbenchShell;
 import org.junit.After;
 import org.junit.Before;
@@ -96,28 +92,4 @@ public class LabeledGraphitiEditPartTest {
 		new DefaultShell("Rename EClass").setFocus();
 		new PushButton("Cancel").click();
 	}
-
-	public class GeneralProjectWizard extends BasicNewProjectResourceWizard {
-
-		public void create(String name) {
-			open();
-			new LabeledText("Project name:").setText(name);
-			finish();
-		}
-	}
-
-	public class TutorialDiagramWizard extends NewMenuWizard {
-
-		public TutorialDiagramWizard() {
-			super("New Diagram", "Other", "Graphiti Example Diagram");
-		}
-
-		public void create(String name) {
-			open();
-			new LabeledCombo("Diagram Type").setSelection("tutorial");
-			next();
-			new LabeledText("Diagram Name").setText(name);
-			finish();
-		}
-	}
 }
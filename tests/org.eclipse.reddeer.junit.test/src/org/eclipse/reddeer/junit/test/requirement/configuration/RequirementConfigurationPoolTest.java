@@ -12,8 +12,11 @@
 package org.eclipse.reddeer.junit.test.requirement.configuration;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.eclipse.reddeer.common.properties.RedDeerProperties;
@@ -23,6 +26,7 @@ import org.eclipse.reddeer.junit.requirement.configuration.RequirementConfigurat
 import org.eclipse.reddeer.junit.test.internal.configuration.reader.JSONConfigurationReaderTest;
 import org.eclipse.reddeer.junit.test.requirement.configuration.resources.ComplexConfiguration;
 import org.eclipse.reddeer.junit.test.requirement.configuration.resources.SimpleConfiguration;
+import org.eclipse.reddeer.junit.test.requirement.configuration.resources.SubConfiguration;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -96,6 +100,53 @@ public class RequirementConfigurationPoolTest {
 		assertThat("There should be 3 complex requirement configurations, but there are " + list.size(), list.size() == 3);
 	}
 	
+	@Test
+	public void getSimpleRequirementConfigurationsByAttributeFromPool() {
+		System.setProperty(RedDeerProperties.CONFIG_FILE.getName(), JSONConfigurationReaderTest.CONFIG_FILE);
+		List<RequirementConfiguration> list = RequirementConfigurationPool.getInstance()
+				.getConfigurations(SimpleConfiguration.class, "type", "type1");
+		assertThat("There should be 3 simple requirement configurations of type1, but there are " + list.size(),
+				list.size() == 3);
+		list = RequirementConfigurationPool.getInstance().getConfigurations(SimpleConfiguration.class, "type",
+				"type3");
+		assertThat("There should be no simple requirement configurations of type3, but there are " + list.size(),
+				list.isEmpty());
+	}
+	
+	@Test
+	public void getComplexRequirementConfigurationsByNestedAttributeFromPool() {
+		System.setProperty(RedDeerProperties.CONFIG_FILE.getName(), JSONConfigurationReaderTest.CONFIG_FILE_YAML);
+		List<RequirementConfiguration> list = RequirementConfigurationPool.getInstance()
+				.getConfigurations(ComplexConfiguration.class, "simpleConfiguration.name", "name1");
+		assertThat("There should be 2 complex requirement configurations with name1, but there are " + list.size(),
+				list.size() == 2);
+	}
+	
+	@Test
+	public void getRequirementConfigurationsByAttributeInPoolOrder() {
+		List<RequirementConfiguration> configurations = new ArrayList<>();
+		configurations.add(createConfiguration(new SubConfiguration(), "sub1", "type1"));
+		configurations.add(createConfiguration(new SimpleConfiguration(), "simple1", "type1"));
+		configurations.add(createConfiguration(new SubConfiguration(), "sub2", "type2"));
+		configurations.add(createConfiguration(new SimpleConfiguration(), "simple2", "type2"));
+		configurations.add(createConfiguration(new SimpleConfiguration(), "simple3", "type1"));
+		RequirementConfigurationPool.getInstance().setRequirementsConfigurations(configurations);
+		List<RequirementConfiguration> list = RequirementConfigurationPool.getInstance()
+				.getConfigurations(SimpleConfiguration.class, "type", "type1");
+		List<String> names = new ArrayList<>();
+		for (RequirementConfiguration configuration : list) {
+			names.add(((SimpleConfiguration) configuration).getName());
+		}
+		assertEquals(Arrays.asList("sub1", "simple1", "sub2", "simple3"), names);
+	}
+	
+	private static SimpleConfiguration createConfiguration(SimpleConfiguration configuration, String name,
+			String type) {
+		configuration.setName(name);
+		configuration.setType(type);
+		return configuration;
+	}
+	
 	@After
 	public void cleanup() {
 		System.clearProperty(RedDeerProperties.CONFIG_FILE.getName());
@@ -68,6 +68,21 @@ public class KeyboardTest {
 		assertEquals("test123", getText());
 	}
 	
+	@Test
+	public void pacedTypingTest() {
+		openTestingShell();
+		KeyboardFactory.getKeyboard().typePaced("{@Test}");
+		assertEquals("{@Test}", getText());
+	}
+	
+	@Test
+	public void pipelinedTypingTest() {
+		openTestingShell();
+		String text = "The quick brown fox jumps over the lazy dog 0123456789";
+		KeyboardFactory.getKeyboard().typePipelined(text);
+		assertEquals(text, getText());
+	}
+	
 	@Test
 	public void keyCombinationTest(){
 		new DefaultShell();
@@ -0,0 +1,150 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat, Inc - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.reddeer.ui.test.launcher;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.reddeer.eclipse.ui.launcher.RedDeerJvmProfile;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class RedDeerJvmProfileTest {
+
+	private static final List<String> NO_ARGUMENTS = Collections.emptyList();
+
+	private File archive;
+
+	@Before
+	public void setUp() throws IOException {
+		archive = File.createTempFile("reddeer", ".jsa");
+		archive.delete();
+	}
+
+	@After
+	public void tearDown() {
+		archive.delete();
+	}
+
+	@Test
+	public void noneProfileTest() {
+		assertEquals(NO_ARGUMENTS, RedDeerJvmProfile.NONE.getVMArguments(Arrays.asList("-Xmx1g"), 21, archive));
+		assertEquals(NO_ARGUMENTS, RedDeerJvmProfile.NONE.getVMArguments(NO_ARGUMENTS, 21, null));
+		assertFalse(RedDeerJvmProfile.NONE.isBundleCacheReused());
+	}
+
+	@Test
+	public void startupProfileJava8Test() {
+		assertEquals(Arrays.asList("-XX:TieredStopAtLevel=1"),
+				RedDeerJvmProfile.STARTUP.getVMArguments(NO_ARGUMENTS, 8, archive));
+		assertTrue(RedDeerJvmProfile.STARTUP.isBundleCacheReused());
+	}
+
+	@Test
+	public void startupProfileUnknownJavaVersionTest() {
+		assertEquals(Arrays.asList("-XX:TieredStopAtLevel=1"),
+				RedDeerJvmProfile.STARTUP.getVMArguments(NO_ARGUMENTS, 0, archive));
+	}
+
+	@Test
+	public void startupProfileJava17WithoutArchiveTest() {
+		assertEquals(Arrays.asList("-XX:ArchiveClassesAtExit=" + archive, "-XX:TieredStopAtLevel=1"),
+				RedDeerJvmProfile.STARTUP.getVMArguments(NO_ARGUMENTS, 17, archive));
+	}
+
+	@Test
+	public void startupProfileJava17WithArchiveTest() throws IOException {
+		assertTrue(archive.createNewFile());
+		assertEquals(Arrays.asList("-XX:SharedArchiveFile=" + archive, "-XX:TieredStopAtLevel=1"),
+				RedDeerJvmProfile.STARTUP.getVMArguments(NO_ARGUMENTS, 17, archive));
+	}
+
+	@Test
+	public void startupProfileJava21Test() {
+		assertEquals(
+				Arrays.asList("-XX:SharedArchiveFile=" + archive, "-XX:+AutoCreateSharedArchive",
+						"-XX:TieredStopAtLevel=1"),
+				RedDeerJvmProfile.STARTUP.getVMArguments(NO_ARGUMENTS, 21, archive));
+	}
+
+	@Test
+	public void userSharedArchiveTest() {
+		assertEquals(Arrays.asList("-XX:TieredStopAtLevel=1"), RedDeerJvmProfile.STARTUP
+				.getVMArguments(Arrays.asList("-XX:SharedArchiveFile=/tmp/custom.jsa"), 21, archive));
+		assertEquals(Arrays.asList("-XX:TieredStopAtLevel=1"), RedDeerJvmProfile.STARTUP
+				.getVMArguments(Arrays.asList("-XX:ArchiveClassesAtExit=/tmp/custom.jsa"), 17, archive));
+		assertEquals(Arrays.asList("-XX:TieredStopAtLevel=1"),
+				RedDeerJvmProfile.STARTUP.getVMArguments(Arrays.asList("-Xshare:off"), 21, archive));
+	}
+
+	@Test
+	public void userTieredStopAtLevelTest() {
+		assertEquals(NO_ARGUMENTS,
+				RedDeerJvmProfile.STARTUP.getVMArguments(Arrays.asList("-XX:TieredStopAtLevel=4"), 8, archive));
+	}
+
+	@Test
+	public void throughputProfileTest() {
+		assertEquals(Arrays.asList("-XX:+UseParallelGC", "-XX:+AlwaysPreTouch", "-Xms2g"),
+				RedDeerJvmProfile.THROUGHPUT.getVMArguments(Arrays.asList("-Xmx2g"), 8, archive));
+		assertTrue(RedDeerJvmProfile.THROUGHPUT.isBundleCacheReused());
+	}
+
+	@Test
+	public void throughputProfileJava17Test() {
+		assertEquals(
+				Arrays.asList("-XX:ArchiveClassesAtExit=" + archive, "-XX:+UseParallelGC", "-XX:+AlwaysPreTouch",
+						"-Xms512m"),
+				RedDeerJvmProfile.THROUGHPUT.getVMArguments(Arrays.asList("-Xmx512m"), 17, archive));
+	}
+
+	@Test
+	public void throughputProfileWithoutMaxHeapTest() {
+		assertEquals(Arrays.asList("-XX:+UseParallelGC", "-XX:+AlwaysPreTouch"),
+				RedDeerJvmProfile.THROUGHPUT.getVMArguments(NO_ARGUMENTS, 8, archive));
+	}
+
+	@Test
+	public void userGarbageCollectorTest() {
+		assertEquals(Arrays.asList("-XX:+AlwaysPreTouch", "-Xms1g"),
+				RedDeerJvmProfile.THROUGHPUT.getVMArguments(Arrays.asList("-XX:+UseG1GC", "-Xmx1g"), 8, archive));
+	}
+
+	@Test
+	public void userInitialHeapTest() {
+		assertEquals(Arrays.asList("-XX:+UseParallelGC", "-XX:+AlwaysPreTouch"),
+				RedDeerJvmProfile.THROUGHPUT.getVMArguments(Arrays.asList("-Xms256m", "-Xmx1g"), 8, archive));
+	}
+
+	@Test
+	public void userAlwaysPreTouchTest() {
+		assertEquals(Arrays.asList("-XX:+UseParallelGC"),
+				RedDeerJvmProfile.THROUGHPUT.getVMArguments(Arrays.asList("-XX:+AlwaysPreTouch"), 8, archive));
+	}
+
+	@Test
+	public void getByNameTest() {
+		assertEquals(RedDeerJvmProfile.NONE, RedDeerJvmProfile.getByName("none"));
+		assertEquals(RedDeerJvmProfile.STARTUP, RedDeerJvmProfile.getByName("startup"));
+		assertEquals(RedDeerJvmProfile.THROUGHPUT, RedDeerJvmProfile.getByName("Throughput"));
+		assertEquals(RedDeerJvmProfile.NONE, RedDeerJvmProfile.getByName("unknown"));
+		assertEquals(RedDeerJvmProfile.NONE, RedDeerJvmProfile.getByName(null));
+	}
+}
@@ -60,7 +60,9 @@ public class RedDeerRunConfigurationDialogTest extends RedDeerWizardTestCase {
 		rdParametersList.put("rd.captureScreenshot", "true");
 		rdParametersList.put("rd.relativeScreenshotDirectory", "");
 		rdParametersList.put("rd.openAssociatedPerspective", "never");
+		rdParametersList.put("rd.keyboardTypingMode", "paced");
 		rdParametersList.put("rd.timePeriodFactor", "1.0");
+		rdParametersList.put("rd.jvmProfile", "none");
 	}
 	
 	@Override
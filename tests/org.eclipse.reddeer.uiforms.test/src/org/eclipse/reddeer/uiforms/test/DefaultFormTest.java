@@ -13,10 +13,15 @@ package org.eclipse.reddeer.uiforms.test;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsCollectionContaining.hasItem;
+
+import java.util.Arrays;
 
 import org.eclipse.reddeer.junit.runner.RedDeerSuite;
 import org.eclipse.reddeer.core.exception.CoreLayerException;
 import org.eclipse.reddeer.core.reference.ReferencedComposite;
+import org.eclipse.reddeer.uiforms.exception.UIFormLayerException;
+import org.eclipse.reddeer.uiforms.handler.FormSnapshot;
 import org.eclipse.reddeer.uiforms.impl.form.DefaultForm;
 import org.eclipse.reddeer.uiforms.test.ui.views.FormView;
 import org.eclipse.reddeer.uiforms.test.ui.views.UIFormView;
@@ -72,6 +77,37 @@ public class DefaultFormTest {
 		assertThat(new DefaultForm(rc, FormView.FORM_D_TITLE).getText(), is(FormView.FORM_D_TITLE));
 	}
 	
+	@Test
+	public void snapshot() {
+		FormSnapshot snapshot = new DefaultForm(FormView.FORM_A_TITLE).getSnapshot();
+		assertThat(snapshot.getTitle(), is(FormView.FORM_A_TITLE));
+		assertThat(snapshot.getSectionTitles(), is(Arrays.asList(FormView.SECTION_A, FormView.SECTION_B)));
+		assertThat(snapshot.getExpandableCompositeTitles(),
+				is(Arrays.asList(FormView.EXPANDABLE_COMPOSITE_A, FormView.EXPANDABLE_COMPOSITE_B)));
+		assertThat(snapshot.isExpanded(FormView.EXPANDABLE_COMPOSITE_A), is(true));
+		assertThat(snapshot.getHyperlinks(), hasItem(FormView.HYPERLINK_PREFIX + FormView.SECTION_A));
+		assertThat(snapshot.getFormTexts(), hasItem(FormView.FORMTEXT_PREFIX + FormView.SECTION_B));
+	}
+
+	@Test
+	public void setExpanded() {
+		DefaultForm form = new DefaultForm(FormView.FORM_A_TITLE);
+		form.setExpanded(false, FormView.EXPANDABLE_COMPOSITE_A, FormView.EXPANDABLE_COMPOSITE_B);
+		FormSnapshot snapshot = form.getSnapshot();
+		assertThat(snapshot.isExpanded(FormView.EXPANDABLE_COMPOSITE_A), is(false));
+		assertThat(snapshot.isExpanded(FormView.EXPANDABLE_COMPOSITE_B), is(false));
+
+		form.setExpanded(true);
+		snapshot = form.getSnapshot();
+		assertThat(snapshot.isExpanded(FormView.EXPANDABLE_COMPOSITE_A), is(true));
+		assertThat(snapshot.isExpanded(FormView.EXPANDABLE_COMPOSITE_B), is(true));
+	}
+
+	@Test(expected=UIFormLayerException.class)
+	public void setExpandedMissingTitle() {
+		new DefaultForm(FormView.FORM_A_TITLE).setExpanded(true, FormView.SECTION_C);
+	}
+
 	@Test(expected=CoreLayerException.class)
 	public void testInvalidInstance() {
 		errorLogView.open();
@@ -21,7 +21,9 @@ import java.awt.AWTException;
 import java.io.IOException;
 import java.lang.reflect.Field;
 import java.net.URL;
+import java.util.Arrays;
 import java.util.List;
+import java.util.regex.Pattern;
 
 import org.eclipse.core.runtime.FileLocator;
 import org.eclipse.core.runtime.Platform;
@@ -29,6 +31,7 @@ import org.eclipse.jface.text.BadLocationException;
 import org.eclipse.jface.text.IDocument;
 import org.eclipse.reddeer.common.exception.RedDeerException;
 import org.eclipse.reddeer.common.exception.TestFailureException;
+import org.eclipse.reddeer.common.matcher.RegexMatcher;
 import org.eclipse.reddeer.common.platform.RunningPlatform;
 import org.eclipse.reddeer.common.util.Display;
 import org.eclipse.reddeer.common.wait.AbstractWait;
@@ -42,6 +45,7 @@ import org.eclipse.reddeer.eclipse.ui.wizards.datatransfer.WizardProjectsImportP
 import org.eclipse.reddeer.eclipse.ui.wizards.newresource.BasicNewFileResourceWizard;
 import org.eclipse.reddeer.eclipse.ui.wizards.newresource.BasicNewProjectResourceWizard;
 import org.eclipse.reddeer.eclipse.ui.wizards.newresource.BasicNewProjectResourceWizardFirstPage;
+import org.eclipse.reddeer.jface.text.contentassist.ContentAssistProposal;
 import org.eclipse.reddeer.jface.text.contentassist.ContentAssistant;
 import org.eclipse.reddeer.junit.runner.RedDeerSuite;
 import org.eclipse.reddeer.requirements.cleanworkspace.CleanWorkspaceRequirement;
@@ -55,6 +59,8 @@ import org.eclipse.reddeer.workbench.handler.EditorHandler;
 import org.eclipse.reddeer.workbench.handler.WorkbenchShellHandler;
 import org.eclipse.reddeer.workbench.impl.editor.AbstractEditor.ContentAssistantEnum;
 import org.eclipse.reddeer.workbench.impl.editor.Marker;
+import org.eclipse.reddeer.workbench.impl.editor.DocumentEdits;
+import org.eclipse.reddeer.workbench.impl.editor.DocumentSnapshot;
 import org.eclipse.reddeer.workbench.impl.editor.TextEditor;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.graphics.Point;
@@ -189,6 +195,45 @@ public class TextEditorTest {
 		editor.close();
 	}
 
+	@Test
+	public void applyEditsTest() {
+		BasicNewFileResourceWizard newFileDialog = new BasicNewFileResourceWizard();
+		newFileDialog.open();
+		WizardNewFileCreationPage page = new WizardNewFileCreationPage(newFileDialog);
+		page.setFileName("textEditorEdits.txt");
+		page.setFolderPath("testProject");
+		newFileDialog.finish();
+		TextEditor editor = new TextEditor();
+		editor.setText("a\nb\nc");
+		editor.applyEdits(new DocumentEdits().insertLine(0, "x").replaceLine(1, "B").deleteLine(2));
+		assertEquals("x\na\nB\n", editor.getText());
+
+		DocumentSnapshot snapshot = editor.getDocumentSnapshot();
+		assertEquals(4, snapshot.getNumberOfLines());
+		assertEquals("B", snapshot.getTextAtLine(2));
+		assertEquals(2, snapshot.getLineOfText("B", 0));
+		assertEquals(Arrays.asList(1, 2), snapshot.findLines(Pattern.compile("[aB]")));
+
+		// the last line has no delimiter, delimiter of the document is used
+		editor.setText("a\r\nb");
+		editor.applyEdits(new DocumentEdits().insertLine(1, "x"));
+		assertEquals("a\r\nx\r\nb", editor.getText());
+		editor.save();
+		editor.close();
+	}
+
+	@Test
+	public void documentSnapshotTest() {
+		DocumentSnapshot snapshot = new DocumentSnapshot("first\r\nsecond\rthird\nfirst");
+		assertEquals(4, snapshot.getNumberOfLines());
+		assertEquals("second", snapshot.getTextAtLine(1));
+		assertEquals(14, snapshot.getLineOffset(2));
+		assertEquals(2, snapshot.getLineOfOffset(16));
+		assertEquals(20, snapshot.getPositionOfText("first", 1));
+		assertEquals(3, snapshot.getLineOfText("first", 1));
+		assertEquals(-1, snapshot.getLineOfText("first", 2));
+	}
+
 	@Test
 	public void setCursorPosition() {
 		final String firstLine = "package test;";
@@ -244,6 +289,20 @@ public class TextEditorTest {
 		assertTrue(textEditor.getText().contains("enum"));
 	}
 
+	@Test
+	public void contentAssistProposalSnapshot() {
+		TextEditor textEditor = TextEditorTest.openJavaFile();
+		textEditor.setCursorPosition(0, 0);
+		textEditor.insertLine(0, "");
+		textEditor.save();
+		ContentAssistant ca = textEditor.openContentAssistant();
+		List<ContentAssistProposal> proposals = ca.getProposals(new RegexMatcher("enum"));
+		assertEquals(1, proposals.size());
+		assertEquals("enum", ca.getProposalSnapshot().get(proposals.get(0).getIndex()).getText());
+		ca.chooseProposal(proposals.get(0));
+		assertTrue(textEditor.getText().contains("enum"));
+	}
+
 	@Test
 	public void closeContentAssist() {
 		TextEditor textEditor = TextEditorTest.openJavaFile();
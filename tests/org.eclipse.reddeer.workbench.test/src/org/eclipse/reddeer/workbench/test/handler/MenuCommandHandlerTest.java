@@ -0,0 +1,128 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat, Inc - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.reddeer.workbench.test.handler;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeFalse;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.reddeer.common.platform.RunningPlatform;
+import org.eclipse.reddeer.common.util.Display;
+import org.eclipse.reddeer.junit.runner.RedDeerSuite;
+import org.eclipse.reddeer.workbench.handler.MenuCommandHandler;
+import org.eclipse.reddeer.workbench.ui.dialogs.WorkbenchPreferenceDialog;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Event;
+import org.eclipse.swt.widgets.Listener;
+import org.eclipse.swt.widgets.Menu;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(RedDeerSuite.class)
+public class MenuCommandHandlerTest {
+
+	private static final String[] PREFERENCES_PATH = { "Window", "Preferences" };
+
+	private static final String[] BUILD_AUTOMATICALLY_PATH = { "Project", "Build Automatically" };
+
+	private WorkbenchPreferenceDialog dialog = new WorkbenchPreferenceDialog();
+
+	private final AtomicInteger shownMenus = new AtomicInteger();
+
+	private final Listener menuListener = new Listener() {
+
+		@Override
+		public void handleEvent(Event event) {
+			if (event.widget instanceof Menu) {
+				shownMenus.incrementAndGet();
+			}
+		}
+	};
+
+	@After
+	public void tearDown() {
+		stopCountingMenus();
+		if (dialog.isOpen()) {
+			dialog.cancel();
+		}
+		MenuCommandHandler.getInstance().clearCache();
+	}
+
+	@Test
+	public void testSelectMenuPathRepeatedly() {
+		// preferences are not opened via Window menu on Mac
+		assumeFalse(RunningPlatform.isOSX());
+		MenuCommandHandler.getInstance().clearCache();
+		assertFalse(MenuCommandHandler.getInstance().isResolved(PREFERENCES_PATH));
+
+		// the first selection walks the menu
+		startCountingMenus();
+		dialog.open();
+		assertTrue(dialog.isOpen());
+		dialog.cancel();
+		assertTrue(shownMenus.get() > 0);
+		assertTrue(MenuCommandHandler.getInstance().isResolved(PREFERENCES_PATH));
+		assertNotNull(MenuCommandHandler.getInstance().getCommandId(PREFERENCES_PATH));
+
+		// the second one executes the command without opening the menu
+		shownMenus.set(0);
+		dialog.open();
+		assertTrue(dialog.isOpen());
+		dialog.cancel();
+		assertEquals(0, shownMenus.get());
+	}
+
+	@Test
+	public void testSelectCheckMenuItemRepeatedly() {
+		boolean autoBuilding = ResourcesPlugin.getWorkspace().isAutoBuilding();
+		MenuCommandHandler.getInstance().clearCache();
+
+		startCountingMenus();
+		MenuCommandHandler.getInstance().select(BUILD_AUTOMATICALLY_PATH);
+		assertEquals(!autoBuilding, ResourcesPlugin.getWorkspace().isAutoBuilding());
+		assertTrue(MenuCommandHandler.getInstance().isResolved(BUILD_AUTOMATICALLY_PATH));
+		assertNull(MenuCommandHandler.getInstance().getCommandId(BUILD_AUTOMATICALLY_PATH));
+
+		// check menu items are always selected via menu widgets
+		shownMenus.set(0);
+		MenuCommandHandler.getInstance().select(BUILD_AUTOMATICALLY_PATH);
+		assertEquals(autoBuilding, ResourcesPlugin.getWorkspace().isAutoBuilding());
+		assertTrue(shownMenus.get() > 0);
+	}
+
+	private void startCountingMenus() {
+		Display.syncExec(new Runnable() {
+
+			@Override
+			public void run() {
+				Display.getDisplay().addFilter(SWT.Show, menuListener);
+			}
+		});
+	}
+
+	private void stopCountingMenus() {
+		Display.syncExec(new Runnable() {
+
+			@Override
+			public void run() {
+				Display.getDisplay().removeFilter(SWT.Show, menuListener);
+			}
+		});
+	}
+}
@@ -0,0 +1,64 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat, Inc - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.reddeer.workbench.test.lookup;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.reddeer.junit.runner.RedDeerSuite;
+import org.eclipse.reddeer.workbench.core.lookup.WorkbenchPartLookup;
+import org.eclipse.reddeer.workbench.core.lookup.WorkbenchStateTracker;
+import org.eclipse.reddeer.workbench.core.lookup.WorkbenchStateTracker.WorkbenchState;
+import org.eclipse.reddeer.workbench.exception.WorkbenchLayerException;
+import org.eclipse.reddeer.workbench.impl.view.WorkbenchView;
+import org.hamcrest.core.IsEqual;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(RedDeerSuite.class)
+public class WorkbenchStateTrackerTest {
+
+	private final static String MARKERS_VIEW_TITLE = "Markers";
+
+	private WorkbenchView markersView = new WorkbenchView(MARKERS_VIEW_TITLE);
+
+	@After
+	public void tearDown() {
+		try {
+			markersView.close();
+		} catch (WorkbenchLayerException e) {
+			// view is already closed
+		}
+	}
+
+	@Test
+	public void testStateFollowsOpenedAndClosedView() {
+		WorkbenchState state = WorkbenchStateTracker.getInstance().getState();
+		assertNotNull(state);
+		long version = state.getVersion();
+
+		markersView.open();
+		state = WorkbenchStateTracker.getInstance().getState();
+		assertTrue(state.getVersion() > version);
+		assertEquals(MARKERS_VIEW_TITLE, state.getActivePartTitle());
+		assertNotNull(WorkbenchPartLookup.getInstance().getActiveWorkbenchPartControl());
+		assertNotNull(WorkbenchPartLookup.getInstance().getViewByTitle(new IsEqual<String>(MARKERS_VIEW_TITLE)));
+
+		markersView.close();
+		assertFalse(MARKERS_VIEW_TITLE.equals(WorkbenchStateTracker.getInstance().getState().getActivePartTitle()));
+		assertNull(WorkbenchPartLookup.getInstance().getViewByTitle(new IsEqual<String>(MARKERS_VIEW_TITLE)));
+	}
+}